@@ -304,6 +304,8 @@ func _handle_server_message(message: String) -> void:
 		"joined":
 			local_tank_id = str(payload.get("tankId", ""))
 			current_game_id = str(payload.get("gameId", ""))
+			# Static walls arrive once on join; state frames only carry moving entities.
+			server_walls = payload.get("walls", [])
 			lobby_visible = false
 			websocket_status = "Queued · Waiting for a pilot or AI opponent..."
 		"state":
@@ -321,7 +323,8 @@ func _handle_server_message(message: String) -> void:
 						_spawn_tank_explosion(_tank_screen_position(next_tank))
 			server_tanks = next_tanks
 			server_projectiles = game.get("projectiles", [])
-			server_walls = game.get("walls", [])
+			if game.has("walls"):
+				server_walls = game.get("walls", [])
 			var game_status: String = str(game.get("status", "WAITING"))
 			if game_status == "FINISHED":
 				lobby_visible = true
@@ -0,0 +1,119 @@
+package biz.thonbecker.personal.booking.platform;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import biz.thonbecker.personal.booking.api.TimeSlot;
+import biz.thonbecker.personal.booking.platform.persistence.AvailabilitySlotEntity;
+import biz.thonbecker.personal.booking.platform.persistence.AvailabilitySlotRepository;
+import biz.thonbecker.personal.booking.platform.persistence.BookingEntity;
+import biz.thonbecker.personal.booking.platform.persistence.BookingRepository;
+import biz.thonbecker.personal.booking.platform.persistence.BookingTypeEntity;
+import biz.thonbecker.personal.booking.platform.persistence.BookingTypeRepository;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Slot generation and booking-conflict checks for a four-week calendar with working-hours
+ * availability. Repositories are stubbed with fixed rows, so only the in-memory computation is
+ * measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingAvailabilityBenchmark {
+
+    private static final int DAYS = 28;
+
+    @Param({"0", "50", "500"})
+    private int bookings;
+
+    private BookingService bookingService;
+    private Set<Long> bookingTypeIds;
+    private LocalDate from;
+    private LocalDate to;
+
+    @Setup
+    public void setUp() {
+        final var bookingTypeRepository = mock(BookingTypeRepository.class);
+        final var availabilitySlotRepository = mock(AvailabilitySlotRepository.class);
+        final var bookingRepository = mock(BookingRepository.class);
+        bookingService = new BookingService(
+                bookingTypeRepository,
+                availabilitySlotRepository,
+                bookingRepository,
+                mock(ApplicationEventPublisher.class));
+
+        final var bookingTypes = List.of(bookingType(1L, 30, 5), bookingType(2L, 60, 15), bookingType(3L, 90, 0));
+        bookingTypeIds = new LinkedHashSet<>(List.of(1L, 2L, 3L));
+        from = LocalDate.now().plusDays(1);
+        to = from.plusDays(DAYS - 1);
+
+        final var slots = new ArrayList<AvailabilitySlotEntity>();
+        for (var date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            slots.add(availabilitySlot(date, LocalTime.of(9, 0), LocalTime.of(12, 0)));
+            slots.add(availabilitySlot(date, LocalTime.of(13, 0), LocalTime.of(17, 30)));
+        }
+
+        final var random = new Random(42);
+        final var existingBookings = new ArrayList<BookingEntity>();
+        for (var i = 0; i < bookings; i++) {
+            final var start = from.plusDays(random.nextInt(DAYS))
+                    .atTime(9, 0)
+                    .plusMinutes(15L * random.nextInt(32));
+            final var booking = new BookingEntity();
+            booking.setStartTime(start);
+            booking.setEndTime(start.plusMinutes(30 + 15L * random.nextInt(4)));
+            existingBookings.add(booking);
+        }
+        existingBookings.sort((a, b) -> a.getStartTime().compareTo(b.getStartTime()));
+
+        when(bookingTypeRepository.findAllById(any())).thenReturn(bookingTypes);
+        when(availabilitySlotRepository.findOverlappingSlots(any(), any())).thenReturn(slots);
+        when(bookingRepository.findBookingsInRange(any(), any())).thenReturn(existingBookings);
+    }
+
+    @Benchmark
+    public Map<Long, List<TimeSlot>> availabilityForFourWeeks() {
+        return bookingService.getAvailability(bookingTypeIds, from, to);
+    }
+
+    private static BookingTypeEntity bookingType(final long id, final int durationMinutes, final int bufferMinutes) {
+        final var bookingType = new BookingTypeEntity();
+        bookingType.setId(id);
+        bookingType.setDurationMinutes(durationMinutes);
+        bookingType.setBufferMinutes(bufferMinutes);
+        return bookingType;
+    }
+
+    private static AvailabilitySlotEntity availabilitySlot(
+            final LocalDate date, final LocalTime startTime, final LocalTime endTime) {
+        final var slot = new AvailabilitySlotEntity();
+        slot.setStartTime(date.atTime(startTime));
+        slot.setEndTime(date.atTime(endTime));
+        return slot;
+    }
+}
@@ -0,0 +1,54 @@
+package biz.thonbecker.personal.foosball.platform.tournament.algorithm;
+
+import biz.thonbecker.personal.foosball.platform.persistence.Player;
+import biz.thonbecker.personal.foosball.platform.persistence.Tournament;
+import biz.thonbecker.personal.foosball.platform.persistence.TournamentMatch;
+import biz.thonbecker.personal.foosball.platform.persistence.TournamentRegistration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Bracket generation for seeded double elimination tournaments, without persisting the matches. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DoubleEliminationBenchmark {
+
+    @Param({"8", "16", "32", "64", "128", "256"})
+    private int entrants;
+
+    private final DoubleEliminationAlgorithm algorithm = new DoubleEliminationAlgorithm();
+    private Tournament tournament;
+    private List<TournamentRegistration> registrations;
+
+    @Setup
+    public void setUp() {
+        tournament = new Tournament("benchmark", Tournament.TournamentType.DOUBLE_ELIMINATION, new Player("host"));
+        registrations = new ArrayList<>(entrants);
+        for (var i = 1; i <= entrants; i++) {
+            // Seeded, so the bracket is the same every invocation
+            final var registration = new TournamentRegistration(tournament, new Player("player-" + i));
+            registration.setSeed(i);
+            registrations.add(registration);
+        }
+    }
+
+    @Benchmark
+    public List<TournamentMatch> generateBracket() {
+        return algorithm.generateBracket(tournament, registrations);
+    }
+}
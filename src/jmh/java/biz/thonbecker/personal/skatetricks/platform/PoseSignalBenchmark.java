@@ -0,0 +1,71 @@
+package biz.thonbecker.personal.skatetricks.platform;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Post-processing of per-frame pose signals on synthetic clips: a grounded run-up, a jump in the
+ * middle third with the board leaving the ground, jittery rotations and some low-confidence frames.
+ * No model is loaded.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PoseSignalBenchmark {
+
+    @Param({"30", "120", "480"})
+    private int frames;
+
+    private final PoseEstimationService service = new PoseEstimationService();
+    private List<Double> ankleYPositions;
+    private List<Double> bodyRotations;
+    private List<PoseData.BoardDetection> boardDetections;
+
+    @Setup
+    public void setUp() {
+        final var random = new Random(42);
+        ankleYPositions = new ArrayList<>(frames);
+        bodyRotations = new ArrayList<>(frames);
+        boardDetections = new ArrayList<>(frames);
+        for (var i = 0; i < frames; i++) {
+            final var airborne = i >= frames / 3 && i < 2 * frames / 3;
+            final var lowConfidence = random.nextInt(10) == 0;
+            final var ankleY = (airborne ? 0.7 : 0.85) + random.nextGaussian() * 0.01;
+            ankleYPositions.add(lowConfidence ? Double.NaN : ankleY);
+            bodyRotations.add(lowConfidence ? Double.NaN : (i * 360.0 / frames + random.nextGaussian() * 5) % 360);
+            boardDetections.add(new PoseData.BoardDetection(
+                    !lowConfidence, airborne, ankleY + 0.05, lowConfidence ? 0.0 : 0.8));
+        }
+    }
+
+    @Benchmark
+    public int detectAirborneFrames() {
+        return service.detectAirborneFrames(ankleYPositions);
+    }
+
+    @Benchmark
+    public int combineAirborneSignals() {
+        return service.combineAirborneSignals(ankleYPositions, boardDetections);
+    }
+
+    @Benchmark
+    public double computeSmoothedRotationDelta() {
+        return service.computeSmoothedRotationDelta(bodyRotations);
+    }
+}
@@ -0,0 +1,54 @@
+package biz.thonbecker.personal.skatetricks.platform;
+
+import biz.thonbecker.personal.skatetricks.api.SupportedTrick;
+import biz.thonbecker.personal.skatetricks.api.TrickSequenceEntry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Round trip of the pipe-delimited trick sequence stored on each analysis attempt. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrickSequenceCodecBenchmark {
+
+    @Param({"1", "4", "16"})
+    private int entries;
+
+    private List<TrickSequenceEntry> sequence;
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        final var tricks = SupportedTrick.values();
+        sequence = new ArrayList<>(entries);
+        for (var i = 0; i < entries; i++) {
+            sequence.add(new TrickSequenceEntry(tricks[i % tricks.length], "%d.0s-%d.5s".formatted(i, i), 60 + i));
+        }
+        encoded = SkateTricksService.encodeTrickSequence(sequence);
+    }
+
+    @Benchmark
+    public String encode() {
+        return SkateTricksService.encodeTrickSequence(sequence);
+    }
+
+    @Benchmark
+    public List<TrickSequenceEntry> decode() {
+        return SkateTricksService.decodeTrickSequence(encoded);
+    }
+}
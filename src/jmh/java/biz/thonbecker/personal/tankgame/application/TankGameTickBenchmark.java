@@ -0,0 +1,98 @@
+package biz.thonbecker.personal.tankgame.application;
+
+import biz.thonbecker.personal.tankgame.domain.BenchmarkGames;
+import biz.thonbecker.personal.tankgame.domain.GameState;
+import biz.thonbecker.personal.tankgame.domain.PlayerInput;
+import biz.thonbecker.personal.tankgame.domain.Tank;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * One 60 FPS simulation tick of {@link TankGameService} on the default map. Every tank moves, aims
+ * and fires, so the tick covers movement, wall and tank collisions, projectile hits and spawning.
+ *
+ * <p>A tick mutates the game, so each invocation first puts it back the way the iteration's setup left
+ * it: tanks return to their spawn points at full health with their guns reloaded, and the projectiles
+ * are scattered again from the same seed. That reset is measured with the tick but is only a few
+ * writes per tank and projectile, far less than the collision work it precedes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TankGameTickBenchmark {
+
+    private static final double TICK_SECONDS = 1.0 / 60;
+
+    @Param({"4", "16", "64"})
+    private int tanks;
+
+    @Param({"0", "64", "256"})
+    private int projectiles;
+
+    private TankGameService service;
+    private GameState game;
+    private Tank[] fleet;
+    private double[] spawnX;
+    private double[] spawnY;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        final var roomService = new TankGameRoomService();
+        service = new TankGameService(
+                null, null, roomService, new SimpleMeterRegistry(), Clock.systemUTC(), Runnable::run);
+        game = BenchmarkGames.populate(roomService.createGame(), tanks, projectiles);
+
+        var index = 0;
+        for (final var tankId : game.getTanks().keySet()) {
+            final var input = new PlayerInput();
+            input.setUp(index % 4 == 0);
+            input.setDown(index % 4 == 1);
+            input.setLeft(index % 4 == 2);
+            input.setRight(index % 4 == 3);
+            input.setShoot(true);
+            input.setMouseX(game.getMapWidth() / 2.0);
+            input.setMouseY(game.getMapHeight() / 2.0);
+            roomService.updateInput(tankId, input);
+            index++;
+        }
+
+        fleet = game.getTanks().values().toArray(Tank[]::new);
+        spawnX = new double[fleet.length];
+        spawnY = new double[fleet.length];
+        for (var i = 0; i < fleet.length; i++) {
+            spawnX[i] = fleet[i].getX();
+            spawnY[i] = fleet[i].getY();
+        }
+    }
+
+    @Benchmark
+    public GameState tick() {
+        for (var i = 0; i < fleet.length; i++) {
+            final var tank = fleet[i];
+            tank.setX(spawnX[i]);
+            tank.setY(spawnY[i]);
+            tank.setHealth(tank.getMaxHealth());
+            tank.setAlive(true);
+            tank.setLastShotTime(0);
+        }
+        BenchmarkGames.scatterProjectiles(game, tanks, projectiles);
+        service.updateGame(game, TICK_SECONDS);
+        return game;
+    }
+}
@@ -0,0 +1,54 @@
+package biz.thonbecker.personal.tankgame.domain;
+
+import java.util.Random;
+
+/** Builds deterministic, populated games for the tank game benchmarks. */
+public final class BenchmarkGames {
+
+    private static final double SPACING = 52;
+
+    private BenchmarkGames() {}
+
+    /**
+     * Places {@code tankCount} tanks on a lattice that avoids the default walls and scatters
+     * {@code projectileCount} projectiles across the map from a fixed seed.
+     */
+    public static GameState populate(final GameState game, final int tankCount, final int projectileCount) {
+        var placed = 0;
+        for (var y = 20.0; y + 40 < game.getMapHeight() - 10 && placed < tankCount; y += SPACING) {
+            for (var x = 20.0; x + 40 < game.getMapWidth() - 10 && placed < tankCount; x += SPACING) {
+                final var tank = new Tank("tank-" + placed, "player-" + placed, x, y, "#FF6B6B");
+                if (game.getWalls().stream().noneMatch(tank::collidesWith)) {
+                    game.addTank(tank);
+                    placed++;
+                }
+            }
+        }
+        if (placed < tankCount) {
+            throw new IllegalArgumentException("The default map only fits " + placed + " tanks");
+        }
+
+        scatterProjectiles(game, tankCount, projectileCount);
+        game.getProjectilePool().publish();
+        return game;
+    }
+
+    /**
+     * Retires every projectile in {@code game} and scatters {@code projectileCount} new ones, the same
+     * ones {@link #populate} places. Leaves publishing the pool to the caller.
+     */
+    public static void scatterProjectiles(final GameState game, final int tankCount, final int projectileCount) {
+        final var pool = game.getProjectilePool();
+        for (var slot = 0; slot < pool.limit(); slot++) {
+            pool.retire(slot);
+        }
+        final var random = new Random(42);
+        for (var i = 0; i < projectileCount; i++) {
+            pool.spawn(
+                    "tank-" + random.nextInt(tankCount),
+                    20 + random.nextDouble() * (game.getMapWidth() - 40),
+                    20 + random.nextDouble() * (game.getMapHeight() - 40),
+                    random.nextDouble() * 2 * Math.PI);
+        }
+    }
+}
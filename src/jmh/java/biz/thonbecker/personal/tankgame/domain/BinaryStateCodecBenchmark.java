@@ -0,0 +1,90 @@
+package biz.thonbecker.personal.tankgame.domain;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Per-tick state frame for one game: the JSON frame against full and delta binary frames. Frame sizes
+ * for each parameter set are printed once during setup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BinaryStateCodecBenchmark {
+
+    @Param({"4", "16", "64"})
+    private int tanks;
+
+    @Param({"0", "64", "256"})
+    private int projectiles;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private GameStateSnapshot before;
+    private GameStateSnapshot after;
+    private DeltaStateEncoder encoder;
+    private int tick;
+
+    @Setup
+    public void setUp() {
+        final var game = BenchmarkGames.populate(new GameState(), tanks, projectiles);
+        before = GameStateSnapshot.dynamicState(game);
+        // One 50 ms broadcast interval later: projectiles fly on, half the tanks move
+        final var pool = game.getProjectilePool();
+        for (var slot = 0; slot < pool.limit(); slot++) {
+            pool.advance(slot, 0.05);
+        }
+        pool.publish();
+        game.getTanks().values().stream().limit(tanks / 2).forEach(tank -> tank.setX(tank.getX() + 7.5));
+        after = GameStateSnapshot.dynamicState(game);
+
+        encoder = new DeltaStateEncoder();
+        tick = 1;
+        encoder.advance(tick, before);
+        final var full = encoder.encode(0);
+        encoder.advance(++tick, after);
+        final var delta = encoder.encode(tick - 1);
+        System.out.printf(
+                "%n%d tanks, %d projectiles: json %d bytes, binary full %d bytes, binary delta %d bytes%n",
+                tanks,
+                projectiles,
+                objectMapper.writeValueAsBytes(Map.of("type", "state", "game", after)).length,
+                full.length,
+                delta.length);
+    }
+
+    @Benchmark
+    public byte[] json() {
+        return objectMapper.writeValueAsBytes(Map.of("type", "state", "game", after));
+    }
+
+    @Benchmark
+    public byte[] binaryFull() {
+        // A fresh encoder, as for a client that has nothing acknowledged yet
+        final var fresh = new DeltaStateEncoder();
+        fresh.advance(1, after);
+        return fresh.encode(0);
+    }
+
+    @Benchmark
+    public byte[] binaryDelta() {
+        tick++;
+        encoder.advance(tick, (tick & 1) == 0 ? after : before);
+        return encoder.encode(tick - 1);
+    }
+}
@@ -0,0 +1,53 @@
+package biz.thonbecker.personal.tankgame.domain;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * JSON serialization of the snapshots sent to real-time clients: the full state sent on join and
+ * the wall-free state broadcast every tick.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameStateSnapshotBenchmark {
+
+    @Param({"4", "16", "64"})
+    private int tanks;
+
+    @Param({"0", "64", "256"})
+    private int projectiles;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private GameState game;
+
+    @Setup
+    public void setUp() {
+        game = BenchmarkGames.populate(new GameState(), tanks, projectiles);
+    }
+
+    @Benchmark
+    public String fullState() {
+        return objectMapper.writeValueAsString(GameStateSnapshot.from(game));
+    }
+
+    @Benchmark
+    public String dynamicState() {
+        return objectMapper.writeValueAsString(GameStateSnapshot.dynamicState(game));
+    }
+}
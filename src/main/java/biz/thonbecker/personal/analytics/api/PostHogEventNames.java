@@ -18,7 +18,7 @@ public final class PostHogEventNames {
     public static final String SKATETRICKS_ATTEMPT_VERIFIED = "skatetricks_attempt_verified";
     public static final String TRIVIA_JOINED = "trivia_joined";
     public static final String TRIVIA_STARTED = "trivia_started";
-    public static final String TRIVIA_ANSWER_SUBMITTED = "trivia_answer_submitted";
+    public static final String TRIVIA_QUESTION_CLOSED = "trivia_question_closed";
     public static final String TRIVIA_COMPLETED = "trivia_completed";
     public static final String AUTH_LOGIN_REQUESTED = "auth_login_requested";
     public static final String AUTH_LOGIN_COMPLETED = "auth_login_completed";
@@ -1,65 +1,174 @@
 package biz.thonbecker.personal.analytics.platform.service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 
+/**
+ * Sends server-side events to PostHog in batches.
+ *
+ * <p>{@link #capture} only appends to a bounded in-memory queue, so callers never wait on the network.
+ * A single flusher thread drains the queue to {@code /batch/} once {@code max-size} events are waiting
+ * or the oldest waiting event is {@code flush-interval-ms} old. When the queue is full the oldest event
+ * is dropped. Remaining events are flushed on shutdown.
+ */
 @Service
 @Slf4j
 public class PostHogAnalyticsService {
 
     private static final String DEFAULT_API_HOST = "https://us.i.posthog.com";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(15);
 
     private final boolean enabled;
     private final String apiKey;
     private final String apiHost;
     private final WebClient webClient;
+    private final int maxBatchSize;
+    private final long flushIntervalNanos;
+    private final BlockingQueue<Map<String, Object>> queue;
+    private final Counter droppedEvents;
+    private final Timer flushTimer;
+    private volatile boolean running;
+    private Thread flusher;
 
     public PostHogAnalyticsService(
             @Value("${posthog.enabled:false}") final boolean enabled,
             @Value("${posthog.api-key:}") final String apiKey,
-            @Value("${posthog.api-host:https://us.i.posthog.com}") final String apiHost) {
+            @Value("${posthog.api-host:https://us.i.posthog.com}") final String apiHost,
+            @Value("${posthog.batch.max-size:100}") final int maxBatchSize,
+            @Value("${posthog.batch.flush-interval-ms:2000}") final long flushIntervalMillis,
+            @Value("${posthog.batch.queue-capacity:10000}") final int queueCapacity,
+            final MeterRegistry meterRegistry) {
         this.enabled = enabled;
         this.apiKey = apiKey;
         this.apiHost = resolveApiHost(apiHost);
         this.webClient = WebClient.builder().baseUrl(this.apiHost).build();
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, flushIntervalMillis));
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.droppedEvents = meterRegistry.counter("posthog.events.dropped");
+        this.flushTimer = Timer.builder("posthog.flush.duration").register(meterRegistry);
+        Gauge.builder("posthog.queue.depth", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!isConfigured()) {
+            return;
+        }
+        running = true;
+        flusher = Thread.ofPlatform().name("posthog-flusher").daemon().start(this::runFlusher);
+    }
+
+    @PreDestroy
+    void close() throws InterruptedException {
+        if (flusher == null) {
+            return;
+        }
+        running = false;
+        // Wakes the flusher if it is waiting for events; an in-flight request is not interrupted
+        flusher.interrupt();
+        flusher.join(SHUTDOWN_TIMEOUT);
     }
 
-    @Async
     public void capture(final String distinctId, final String eventName, final Map<String, Object> properties) {
-        if (!enabled || !StringUtils.hasText(apiKey) || Objects.isNull(distinctId) || distinctId.isBlank()) {
+        if (!running || Objects.isNull(distinctId) || distinctId.isBlank()) {
             return;
         }
 
+        final var event = new LinkedHashMap<String, Object>();
+        event.put("event", eventName);
+        event.put("distinct_id", distinctId);
+        event.put("properties", properties);
+        event.put("timestamp", Instant.now().toString());
+
+        while (!queue.offer(event)) {
+            if (queue.poll() != null) {
+                droppedEvents.increment();
+            }
+        }
+    }
+
+    private void runFlusher() {
+        final var batch = new ArrayList<Map<String, Object>>(maxBatchSize);
+        try {
+            while (running) {
+                final var first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                final var deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < maxBatchSize) {
+                    final var remaining = deadline - System.nanoTime();
+                    final var next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                send(batch);
+                batch.clear();
+            }
+        } catch (final InterruptedException ignored) {
+            // Shutdown requested; fall through and flush what is left
+        }
+
+        queue.drainTo(batch);
+        for (var from = 0; from < batch.size(); from += maxBatchSize) {
+            send(batch.subList(from, Math.min(batch.size(), from + maxBatchSize)));
+        }
+    }
+
+    private void send(final List<Map<String, Object>> batch) {
         final var payload = new LinkedHashMap<String, Object>();
         payload.put("api_key", apiKey);
-        payload.put("event", eventName);
-        payload.put("distinct_id", distinctId);
-        payload.put("properties", properties);
-        payload.put("timestamp", Instant.now().toString());
+        payload.put("batch", List.copyOf(batch));
 
+        final var sample = Timer.start();
         try {
+            // join() waits uninterruptibly, so a shutdown signal never aborts a batch mid-request
             webClient
                     .post()
-                    .uri("/capture/")
+                    .uri("/batch/")
                     .contentType(MediaType.APPLICATION_JSON)
                     .bodyValue(payload)
                     .retrieve()
                     .toBodilessEntity()
-                    .block();
+                    .timeout(REQUEST_TIMEOUT)
+                    .toFuture()
+                    .join();
         } catch (final Exception exception) {
-            log.warn("PostHog capture failed for event {}", eventName, exception);
+            log.warn("PostHog batch of {} events failed", batch.size(), exception);
+        } finally {
+            sample.stop(flushTimer);
         }
     }
 
+    private boolean isConfigured() {
+        return enabled && StringUtils.hasText(apiKey);
+    }
+
     private String resolveApiHost(final String apiHost) {
         if (!StringUtils.hasText(apiHost)) {
             return DEFAULT_API_HOST;
@@ -18,7 +18,7 @@ import biz.thonbecker.personal.skatetricks.api.SkatetricksAttemptVerifiedEvent;
 import biz.thonbecker.personal.trivia.api.PlayerJoinedQuizEvent;
 import biz.thonbecker.personal.trivia.api.QuizCompletedEvent;
 import biz.thonbecker.personal.trivia.api.QuizStartedEvent;
-import biz.thonbecker.personal.trivia.api.TriviaAnswerSubmittedEvent;
+import biz.thonbecker.personal.trivia.api.TriviaQuestionClosedEvent;
 import biz.thonbecker.personal.user.api.LoginCompletedEvent;
 import biz.thonbecker.personal.user.api.LoginFailedEvent;
 import biz.thonbecker.personal.user.api.LoginRequestedEvent;
@@ -27,262 +27,274 @@ import biz.thonbecker.personal.user.api.UserProfileUpdatedEvent;
 import biz.thonbecker.personal.user.api.UserRegisteredEvent;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+/**
+ * Forwards domain events to PostHog. Handlers run in the publisher's thread, often inside its
+ * transaction, so they leave out properties that are null and log rather than throw: analytics must
+ * never fail the business operation that published the event.
+ */
 @Component
 @RequiredArgsConstructor
+@Slf4j
 class PostHogEventListener {
 
     private final PostHogAnalyticsService postHogAnalyticsService;
 
     @EventListener
-    @Async
     void onBookingStarted(final BookingStartedEvent event) {
-        postHogAnalyticsService.capture(event.distinctId(), "booking_started", Map.of());
+        capture(event.distinctId(), "booking_started", Map::of);
     }
 
     @EventListener
-    @Async
     void onBookingAvailabilityViewed(final BookingAvailabilityViewedEvent event) {
-        postHogAnalyticsService.capture(
+        capture(
                 event.distinctId(),
                 "booking_availability_viewed",
-                Map.of("booking_type_id", event.bookingTypeId(), "available_slot_count", event.availableSlotCount()));
+                () -> properties(
+                        "booking_type_id", event.bookingTypeId(),
+                        "available_slot_count", event.availableSlotCount()));
     }
 
     @EventListener
-    @Async
     void onBookingSubmitted(final BookingSubmittedEvent event) {
-        postHogAnalyticsService.capture(
-                event.distinctId(), "booking_submitted", Map.of("booking_type_id", event.bookingTypeId()));
+        capture(event.distinctId(), "booking_submitted", () -> properties("booking_type_id", event.bookingTypeId()));
     }
 
     @EventListener
-    @Async
     void onLandscapeAnalysisCompleted(final LandscapeAnalysisCompletedEvent event) {
-        postHogAnalyticsService.capture(
+        capture(
                 event.distinctId(),
                 "landscape_analysis_completed",
-                Map.of("plan_id", event.planId(), "hardiness_zone", event.hardinessZone()));
+                () -> properties("plan_id", event.planId(), "hardiness_zone", event.hardinessZone()));
     }
 
     @EventListener
-    @Async
     void onLandscapePlanSaved(final LandscapePlanSavedEvent event) {
-        postHogAnalyticsService.capture(
+        capture(
                 event.distinctId(),
                 "landscape_plan_saved",
-                Map.of("plan_id", event.planId(), "hardiness_zone", event.hardinessZone()));
+                () -> properties("plan_id", event.planId(), "hardiness_zone", event.hardinessZone()));
     }
 
     @EventListener
-    @Async
     void onLandscapePlantAdded(final LandscapePlantAddedEvent event) {
-        postHogAnalyticsService.capture(
+        capture(
                 event.distinctId(),
                 "landscape_plant_added",
-                Map.of("plan_id", event.planId(), "plant_symbol", event.plantSymbol()));
+                () -> properties("plan_id", event.planId(), "plant_symbol", event.plantSymbol()));
     }
 
     @EventListener
-    @Async
     void onLandscapePreviewGenerated(final LandscapePreviewGeneratedEvent event) {
-        postHogAnalyticsService.capture(
+        capture(
                 event.distinctId(),
                 "landscape_preview_generated",
-                Map.of("plan_id", event.planId(), "placement_count", event.placementCount()));
+                () -> properties("plan_id", event.planId(), "placement_count", event.placementCount()));
     }
 
     @EventListener
-    @Async
     void onSkatetricksAnalysisStarted(final SkatetricksAnalysisStartedEvent event) {
-        final var properties = new LinkedHashMap<String, Object>();
-        properties.put("mode", event.mode());
-        if (event.frameCount() != null) properties.put("frame_count", event.frameCount());
-        if (event.fileSizeBytes() != null) properties.put("file_size_bytes", event.fileSizeBytes());
-        postHogAnalyticsService.capture(event.distinctId(), "skatetricks_analysis_started", properties);
+        capture(
+                event.distinctId(),
+                "skatetricks_analysis_started",
+                () -> properties(
+                        "mode", event.mode(),
+                        "frame_count", event.frameCount(),
+                        "file_size_bytes", event.fileSizeBytes()));
     }
 
     @EventListener
-    @Async
     void onSkatetricksAnalysisCompleted(final SkatetricksAnalysisCompletedEvent event) {
-        postHogAnalyticsService.capture(
+        capture(
                 event.distinctId(),
                 "skatetricks_analysis_completed",
-                Map.of("mode", event.mode(), "attempt_id", event.attemptId(), "trick", event.trick()));
+                () -> properties("mode", event.mode(), "attempt_id", event.attemptId(), "trick", event.trick()));
     }
 
     @EventListener
-    @Async
     void onSkatetricksAttemptVerified(final SkatetricksAttemptVerifiedEvent event) {
-        postHogAnalyticsService.capture(
+        capture(
                 event.distinctId(),
                 "skatetricks_attempt_verified",
-                Map.of("attempt_id", event.attemptId(), "corrected", event.corrected()));
+                () -> properties("attempt_id", event.attemptId(), "corrected", event.corrected()));
     }
 
     @EventListener
-    @Async
-    void onTriviaAnswerSubmitted(final TriviaAnswerSubmittedEvent event) {
-        postHogAnalyticsService.capture(
-                event.distinctId(),
-                "trivia_answer_submitted",
-                Map.of("quiz_id", event.quizId(), "question_id", event.questionId(), "correct", event.correct()));
+    void onTriviaQuestionClosed(final TriviaQuestionClosedEvent event) {
+        capture(
+                "quiz-" + event.quizId(),
+                "trivia_question_closed",
+                () -> properties(
+                        "quiz_id", event.quizId(),
+                        "question_id", event.questionId(),
+                        "question_number", event.questionNumber(),
+                        "player_count", event.playerCount(),
+                        "answered_count", event.answeredCount(),
+                        "correct_count", event.correctCount()));
     }
 
     @EventListener
-    @Async
     void onLoginRequested(final LoginRequestedEvent event) {
-        postHogAnalyticsService.capture(
-                event.distinctId(), "auth_login_requested", Map.of("redirect_path", event.redirectPath()));
+        capture(event.distinctId(), "auth_login_requested", () -> properties("redirect_path", event.redirectPath()));
     }
 
     @EventListener
-    @Async
     void onLoginCompleted(final LoginCompletedEvent event) {
-        postHogAnalyticsService.capture(event.distinctId(), "auth_login_completed", Map.of("method", event.method()));
+        capture(event.distinctId(), "auth_login_completed", () -> properties("method", event.method()));
     }
 
     @EventListener
-    @Async
     void onLoginFailed(final LoginFailedEvent event) {
-        postHogAnalyticsService.capture(event.distinctId(), "auth_login_failed", Map.of("reason", event.reason()));
+        capture(event.distinctId(), "auth_login_failed", () -> properties("reason", event.reason()));
     }
 
     @EventListener
-    @Async
     void onUserRegistered(final UserRegisteredEvent event) {
-        postHogAnalyticsService.capture(
+        capture(
                 event.email(),
                 "user_registered",
-                Map.of(
+                () -> properties(
                         "user_id", event.userId(),
                         "username", event.username(),
-                        "registered_at", event.registeredAt().toString()));
+                        "registered_at", text(event.registeredAt())));
     }
 
     @EventListener
-    @Async
     void onUserLogin(final UserLoginEvent event) {
-        postHogAnalyticsService.capture(
+        capture(
                 event.username(),
                 "user_login",
-                Map.of("user_id", event.userId(), "login_at", event.loginAt().toString()));
+                () -> properties("user_id", event.userId(), "login_at", text(event.loginAt())));
     }
 
     @EventListener
-    @Async
     void onUserProfileUpdated(final UserProfileUpdatedEvent event) {
-        postHogAnalyticsService.capture(
+        capture(
                 event.userId(),
                 "user_profile_updated",
-                Map.of(
-                        "display_name",
-                        event.displayName(),
-                        "updated_at",
-                        event.updatedAt().toString()));
+                () -> properties("display_name", event.displayName(), "updated_at", text(event.updatedAt())));
     }
 
     @EventListener
-    @Async
     void onBookingCreated(final BookingCreatedEvent event) {
-        postHogAnalyticsService.capture(
+        capture(
                 event.attendeeEmail(),
                 PostHogEventNames.BOOKING_CONFIRMED,
-                Map.of(
+                () -> properties(
                         "booking_id", event.bookingId(),
                         "confirmation_code", event.confirmationCode(),
                         "booking_type", event.bookingTypeName(),
                         "attendee_name", event.attendeeName(),
-                        "start_time", event.startTime().toString(),
-                        "end_time", event.endTime().toString()));
+                        "start_time", text(event.startTime()),
+                        "end_time", text(event.endTime())));
     }
 
     @EventListener
-    @Async
     void onBookingCancelled(final BookingCancelledEvent event) {
-        postHogAnalyticsService.capture(
+        capture(
                 event.attendeeEmail(),
                 PostHogEventNames.BOOKING_CANCELLED,
-                Map.of(
+                () -> properties(
                         "booking_id", event.bookingId(),
                         "confirmation_code", event.confirmationCode(),
                         "booking_type", event.bookingTypeName(),
                         "attendee_name", event.attendeeName(),
-                        "start_time", event.startTime().toString(),
-                        "end_time", event.endTime().toString()));
+                        "start_time", text(event.startTime()),
+                        "end_time", text(event.endTime())));
     }
 
     @EventListener
-    @Async
     void onQuizStarted(final QuizStartedEvent event) {
-        final var properties = new LinkedHashMap<String, Object>();
-        properties.put("quiz_id", event.quizId());
-        properties.put("title", event.title());
-        properties.put("difficulty", event.difficulty());
-        properties.put("question_count", event.questionCount());
-        properties.put("player_count", event.playerIds().size());
-        properties.put("started_at", event.startedAt().toString());
-
-        postHogAnalyticsService.capture("quiz-" + event.quizId(), "quiz_started", properties);
+        capture(
+                "quiz-" + event.quizId(),
+                "quiz_started",
+                () -> properties(
+                        "quiz_id", event.quizId(),
+                        "title", event.title(),
+                        "difficulty", event.difficulty(),
+                        "question_count", event.questionCount(),
+                        "player_count", event.playerIds().size(),
+                        "started_at", text(event.startedAt())));
     }
 
     @EventListener
-    @Async
     void onQuizCompleted(final QuizCompletedEvent event) {
-        final var properties = new LinkedHashMap<String, Object>();
-        properties.put("quiz_id", event.quizId());
-        properties.put("title", event.title());
-        properties.put("winner_id", event.winnerId());
-        properties.put("winner_name", event.winnerName());
-        properties.put("final_score", event.finalScore());
-        properties.put("player_count", event.allPlayers().size());
-        properties.put("completed_at", event.completedAt().toString());
-
-        postHogAnalyticsService.capture("quiz-" + event.quizId(), "quiz_completed", properties);
+        capture(
+                "quiz-" + event.quizId(),
+                "quiz_completed",
+                () -> properties(
+                        "quiz_id", event.quizId(),
+                        "title", event.title(),
+                        "winner_id", event.winnerId(),
+                        "winner_name", event.winnerName(),
+                        "final_score", event.finalScore(),
+                        "player_count", event.allPlayers().size(),
+                        "completed_at", text(event.completedAt())));
     }
 
     @EventListener
-    @Async
     void onPlayerJoinedQuiz(final PlayerJoinedQuizEvent event) {
-        postHogAnalyticsService.capture(
+        capture(
                 event.playerId(),
                 "player_joined_quiz",
-                Map.of(
+                () -> properties(
                         "quiz_id", event.quizId(),
                         "player_name", event.playerName(),
-                        "joined_at", event.joinedAt().toString()));
+                        "joined_at", text(event.joinedAt())));
     }
 
     @EventListener
-    @Async
     void onGameRecorded(final GameRecordedEvent event) {
-        final var properties = new LinkedHashMap<String, Object>();
-        properties.put("game_id", event.gameId());
-        properties.put("team1_name", event.team1Name());
-        properties.put("team1_score", event.team1Score());
-        properties.put("team2_name", event.team2Name());
-        properties.put("team2_score", event.team2Score());
-        properties.put("winner_team_name", event.winnerTeamName());
-        properties.put("result", event.result());
-        properties.put("recorded_at", event.recordedAt().toString());
-
-        postHogAnalyticsService.capture("game-" + event.gameId(), "game_recorded", properties);
+        capture(
+                "game-" + event.gameId(),
+                "game_recorded",
+                () -> properties(
+                        "game_id", event.gameId(),
+                        "team1_name", event.team1Name(),
+                        "team1_score", event.team1Score(),
+                        "team2_name", event.team2Name(),
+                        "team2_score", event.team2Score(),
+                        "winner_team_name", event.winnerTeamName(),
+                        "result", event.result(),
+                        "recorded_at", text(event.recordedAt())));
     }
 
     @EventListener
-    @Async
     void onPlayerCreated(final PlayerCreatedEvent event) {
-        postHogAnalyticsService.capture(
+        capture(
                 event.playerId(),
                 "player_created",
-                Map.of(
-                        "player_name",
-                        event.playerName(),
-                        "created_at",
-                        event.createdAt().toString()));
+                () -> properties("player_name", event.playerName(), "created_at", text(event.createdAt())));
+    }
+
+    private void capture(
+            final String distinctId, final String eventName, final Supplier<Map<String, Object>> properties) {
+        try {
+            postHogAnalyticsService.capture(distinctId, eventName, properties.get());
+        } catch (final RuntimeException exception) {
+            log.warn("Could not capture PostHog event {}", eventName, exception);
+        }
+    }
+
+    /** Alternating property names and values; a property whose value is null is left out. */
+    private static Map<String, Object> properties(final Object... namesAndValues) {
+        final var properties = new LinkedHashMap<String, Object>();
+        for (var i = 0; i < namesAndValues.length; i += 2) {
+            if (namesAndValues[i + 1] != null) {
+                properties.put((String) namesAndValues[i], namesAndValues[i + 1]);
+            }
+        }
+        return properties;
+    }
+
+    private static @Nullable String text(final @Nullable Object value) {
+        return Objects.toString(value, null);
     }
 }
@@ -10,7 +10,13 @@ import java.security.SecureRandom;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -101,6 +107,84 @@ public class BookingService {
         return slots;
     }
 
+    /**
+     * Computes free slots for several booking types over every date from {@code from} to {@code to}
+     * inclusive. The result per type matches calling {@link #getAvailableSlots} for each date in
+     * turn, but availability and bookings are loaded for the whole window with one query each.
+     *
+     * @param bookingTypeIds Booking types to compute slots for
+     * @param from First date, inclusive
+     * @param to Last date, inclusive
+     * @return Free slots per booking type, in date order
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<TimeSlot>> getAvailability(
+            final Set<Long> bookingTypeIds, final LocalDate from, final LocalDate to) {
+        log.debug("Fetching available slots for booking types {} from {} to {}", bookingTypeIds, from, to);
+
+        final var bookingTypes = bookingTypeRepository.findAllById(bookingTypeIds).stream()
+                .collect(Collectors.toMap(BookingTypeEntity::getId, Function.identity()));
+        for (final var bookingTypeId : bookingTypeIds) {
+            if (!bookingTypes.containsKey(bookingTypeId)) {
+                throw new BookingTypeNotFoundException(bookingTypeId);
+            }
+        }
+
+        final var windowStart = from.atStartOfDay();
+        final var windowEnd = to.plusDays(1).atStartOfDay();
+        final var availabilitySlots = availabilitySlotRepository.findOverlappingSlots(windowStart, windowEnd);
+        final var bookedIntervals = new BookedIntervals(bookingRepository.findBookingsInRange(windowStart, windowEnd));
+        final var now = LocalDateTime.now();
+
+        final var slotsByType = new LinkedHashMap<Long, List<TimeSlot>>();
+        bookingTypeIds.forEach(bookingTypeId -> slotsByType.put(bookingTypeId, new ArrayList<>()));
+
+        // Walk the days in order, clipping availability to each day exactly like the per-day lookup
+        var firstOpenSlot = 0;
+        for (var date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            final var dayStart = date.atStartOfDay();
+            final var dayEnd = date.plusDays(1).atStartOfDay();
+            while (firstOpenSlot < availabilitySlots.size()
+                    && !availabilitySlots.get(firstOpenSlot).getEndTime().isAfter(dayStart)) {
+                firstOpenSlot++;
+            }
+
+            for (var i = firstOpenSlot; i < availabilitySlots.size(); i++) {
+                final var availSlot = availabilitySlots.get(i);
+                if (!availSlot.getStartTime().isBefore(dayEnd)) {
+                    break;
+                }
+                if (!availSlot.getEndTime().isAfter(dayStart)) {
+                    continue;
+                }
+                final var slotStart = availSlot.getStartTime().isAfter(dayStart) ? availSlot.getStartTime() : dayStart;
+                final var slotEnd = availSlot.getEndTime().isBefore(dayEnd) ? availSlot.getEndTime() : dayEnd;
+
+                slotsByType.forEach((bookingTypeId, slots) -> {
+                    final var bookingType = bookingTypes.get(bookingTypeId);
+                    final var duration = bookingType.getDurationMinutes();
+                    final var step = duration + bookingType.getBufferMinutes();
+                    for (var currentTime = slotStart;
+                            !currentTime.plusMinutes(duration).isAfter(slotEnd);
+                            currentTime = currentTime.plusMinutes(step)) {
+                        final var slotEndTime = currentTime.plusMinutes(duration);
+                        if (currentTime.isAfter(now) && !bookedIntervals.overlaps(currentTime, slotEndTime)) {
+                            slots.add(new TimeSlot(null, currentTime, slotEndTime, true));
+                        }
+                    }
+                });
+            }
+        }
+
+        log.info(
+                "Computed availability for {} booking types from {} to {} using {} availability slots",
+                bookingTypeIds.size(),
+                from,
+                to,
+                availabilitySlots.size());
+        return slotsByType;
+    }
+
     @Transactional
     public Booking createBooking(
             final Long bookingTypeId,
@@ -323,4 +407,44 @@ public class BookingService {
         final var message = exception.getMostSpecificCause().getMessage();
         return message != null && message.contains(OVERLAP_CONSTRAINT);
     }
+
+    /**
+     * Booked intervals sorted by start time with a running maximum of end times, so an overlap check
+     * is a binary search instead of a scan over every booking.
+     */
+    private static final class BookedIntervals {
+
+        private final LocalDateTime[] starts;
+        private final LocalDateTime[] maxEnds;
+
+        BookedIntervals(final List<BookingEntity> bookings) {
+            final var sorted = bookings.stream()
+                    .sorted(Comparator.comparing(BookingEntity::getStartTime))
+                    .toList();
+            starts = new LocalDateTime[sorted.size()];
+            maxEnds = new LocalDateTime[sorted.size()];
+            for (var i = 0; i < sorted.size(); i++) {
+                final var booking = sorted.get(i);
+                starts[i] = booking.getStartTime();
+                maxEnds[i] = i > 0 && maxEnds[i - 1].isAfter(booking.getEndTime())
+                        ? maxEnds[i - 1]
+                        : booking.getEndTime();
+            }
+        }
+
+        boolean overlaps(final LocalDateTime start, final LocalDateTime end) {
+            // Number of bookings starting before the candidate ends
+            var low = 0;
+            var high = starts.length;
+            while (low < high) {
+                final var mid = (low + high) >>> 1;
+                if (starts[mid].isBefore(end)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low > 0 && maxEnds[low - 1].isAfter(start);
+        }
+    }
 }
@@ -3,9 +3,9 @@ package biz.thonbecker.personal.booking.platform.persistence;
 import jakarta.persistence.LockModeType;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -40,13 +40,37 @@ public interface AvailabilitySlotRepository extends JpaRepository<AvailabilitySl
             @Param("startTime") LocalDateTime startTime, @Param("endTime") LocalDateTime endTime);
 
     /**
-     * Finds a specific availability slot by exact start and end time.
+     * Inserts the slots given as pairs of matching start and end times, skipping any that already exist.
      *
-     * @param startTime Slot start time
-     * @param endTime Slot end time
-     * @return Optional slot
+     * <p>One statement regardless of the number of slots; relies on the unique index on
+     * {@code (start_time, end_time)}.
+     *
+     * @param startTimes Slot start times
+     * @param endTimes Slot end times, in the same order as {@code startTimes}
+     * @return Number of slots inserted
+     */
+    @Modifying
+    @Query(
+            value =
+                    """
+            INSERT INTO booking.availability_slots (start_time, end_time, max_bookings)
+            SELECT slot.start_time, slot.end_time, 1
+            FROM unnest(CAST(:startTimes AS timestamp[]), CAST(:endTimes AS timestamp[])) AS slot(start_time, end_time)
+            ON CONFLICT (start_time, end_time) DO NOTHING
+            """,
+            nativeQuery = true)
+    int insertMissingSlots(
+            @Param("startTimes") LocalDateTime[] startTimes, @Param("endTimes") LocalDateTime[] endTimes);
+
+    /**
+     * Deletes the slots that ended before the given time.
+     *
+     * @param cutoff Slots ending before this time are deleted
+     * @return Number of slots deleted
      */
-    Optional<AvailabilitySlotEntity> findByStartTimeAndEndTime(LocalDateTime startTime, LocalDateTime endTime);
+    @Modifying
+    @Query("DELETE FROM AvailabilitySlotEntity a WHERE a.endTime < :cutoff")
+    int deleteEndedBefore(@Param("cutoff") LocalDateTime cutoff);
 
     /**
      * Finds all slots ordered by start time.
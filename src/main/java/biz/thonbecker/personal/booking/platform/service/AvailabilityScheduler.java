@@ -1,6 +1,5 @@
 package biz.thonbecker.personal.booking.platform.service;
 
-import biz.thonbecker.personal.booking.platform.persistence.AvailabilitySlotEntity;
 import biz.thonbecker.personal.booking.platform.persistence.AvailabilitySlotRepository;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
@@ -66,74 +65,39 @@ public class AvailabilityScheduler {
     /**
      * Generates availability slots for the configured schedule.
      *
-     * <p>Creates slots for Monday-Friday, 11 AM - 12 PM and 6 PM - 9 PM, for the next 4 weeks.
-     * Only creates slots that don't already exist.
+     * <p>Builds every slot for Monday-Friday, 11 AM - 12 PM and 6 PM - 9 PM, for the next 4 weeks in
+     * memory and inserts the missing ones in a single statement. Slots that already exist are left as
+     * they are.
      */
     void generateAvailabilitySlots() {
         final var today = LocalDate.now();
         final var endDate = today.plusWeeks(WEEKS_AHEAD);
-        final var slotsToCreate = new ArrayList<AvailabilitySlotEntity>();
+        final var startTimes = new ArrayList<LocalDateTime>();
+        final var endTimes = new ArrayList<LocalDateTime>();
 
-        var currentDate = today;
-        while (!currentDate.isAfter(endDate)) {
+        for (var currentDate = today; !currentDate.isAfter(endDate); currentDate = currentDate.plusDays(1)) {
             // Only create slots for Monday-Friday
             final var dayOfWeek = currentDate.getDayOfWeek();
-            if (dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY) {
-                // Morning slot: 11 AM - 12 PM
-                final var morningStart = LocalDateTime.of(currentDate, MORNING_START);
-                final var morningEnd = LocalDateTime.of(currentDate, MORNING_END);
-                if (shouldCreateSlot(morningStart, morningEnd)) {
-                    slotsToCreate.add(createSlotEntity(morningStart, morningEnd));
-                }
-
-                // Evening slot: 6 PM - 9 PM
-                final var eveningStart = LocalDateTime.of(currentDate, EVENING_START);
-                final var eveningEnd = LocalDateTime.of(currentDate, EVENING_END);
-                if (shouldCreateSlot(eveningStart, eveningEnd)) {
-                    slotsToCreate.add(createSlotEntity(eveningStart, eveningEnd));
-                }
+            if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
+                continue;
             }
-
-            currentDate = currentDate.plusDays(1);
+            // Morning slot: 11 AM - 12 PM
+            startTimes.add(LocalDateTime.of(currentDate, MORNING_START));
+            endTimes.add(LocalDateTime.of(currentDate, MORNING_END));
+            // Evening slot: 6 PM - 9 PM
+            startTimes.add(LocalDateTime.of(currentDate, EVENING_START));
+            endTimes.add(LocalDateTime.of(currentDate, EVENING_END));
         }
 
-        if (!slotsToCreate.isEmpty()) {
-            availabilitySlotRepository.saveAll(slotsToCreate);
-            log.info("Created {} new availability slots", slotsToCreate.size());
+        final var created = availabilitySlotRepository.insertMissingSlots(
+                startTimes.toArray(LocalDateTime[]::new), endTimes.toArray(LocalDateTime[]::new));
+        if (created > 0) {
+            log.info("Created {} new availability slots", created);
         } else {
             log.info("All availability slots already exist, no new slots created");
         }
     }
 
-    /**
-     * Checks if a slot should be created (doesn't already exist).
-     *
-     * @param startTime Slot start time
-     * @param endTime Slot end time
-     * @return true if the slot should be created
-     */
-    private boolean shouldCreateSlot(final LocalDateTime startTime, final LocalDateTime endTime) {
-        // Check if slot already exists
-        return availabilitySlotRepository
-                .findByStartTimeAndEndTime(startTime, endTime)
-                .isEmpty();
-    }
-
-    /**
-     * Creates an availability slot entity.
-     *
-     * @param startTime Slot start time
-     * @param endTime Slot end time
-     * @return The created entity
-     */
-    private AvailabilitySlotEntity createSlotEntity(final LocalDateTime startTime, final LocalDateTime endTime) {
-        final var slot = new AvailabilitySlotEntity();
-        slot.setStartTime(startTime);
-        slot.setEndTime(endTime);
-        slot.setMaxBookings(1);
-        return slot;
-    }
-
     /**
      * Deletes availability slots that are in the past.
      *
@@ -143,16 +107,9 @@ public class AvailabilityScheduler {
     @SchedulerLock(name = "cleanupOldSlots", lockAtLeastFor = "PT5M", lockAtMostFor = "PT10M")
     @Transactional
     public void cleanupOldSlots() {
-        final var now = LocalDateTime.now();
-        final var allSlots = availabilitySlotRepository.findAll();
-
-        final var oldSlots = allSlots.stream()
-                .filter(slot -> slot.getEndTime().isBefore(now))
-                .toList();
-
-        if (!oldSlots.isEmpty()) {
-            availabilitySlotRepository.deleteAll(oldSlots);
-            log.info("Deleted {} old availability slots", oldSlots.size());
+        final var deleted = availabilitySlotRepository.deleteEndedBefore(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Deleted {} old availability slots", deleted);
         }
     }
 }
@@ -122,24 +122,23 @@ public class BookingController {
                     .collect(Collectors.toMap(BookingType::id, Function.identity()));
             final var slots = new ArrayList<PublicAvailabilitySlot>();
 
-            for (var date = sourceStart; !date.isAfter(sourceEnd); date = date.plusDays(1)) {
-                for (var bookingType : bookingTypes.values()) {
-                    bookingService.getAvailableSlots(bookingType.id(), date).forEach(slot -> {
-                        final ZonedDateTime start =
-                                slot.startTime().atZone(BOOKING_ZONE).withZoneSameInstant(visitorZone);
-                        final ZonedDateTime end =
-                                slot.endTime().atZone(BOOKING_ZONE).withZoneSameInstant(visitorZone);
-                        if (!start.isBefore(visitorStart) && end.isBefore(visitorEnd)) {
-                            slots.add(new PublicAvailabilitySlot(
-                                    bookingType.id(),
-                                    bookingType.name(),
-                                    bookingType.durationMinutes(),
-                                    OffsetDateTime.from(start),
-                                    OffsetDateTime.from(end)));
-                        }
-                    });
-                }
-            }
+            final var availability = bookingService.getAvailability(bookingTypes.keySet(), sourceStart, sourceEnd);
+            availability.forEach((bookingTypeId, typeSlots) -> {
+                final var bookingType = bookingTypes.get(bookingTypeId);
+                typeSlots.forEach(slot -> {
+                    final ZonedDateTime start =
+                            slot.startTime().atZone(BOOKING_ZONE).withZoneSameInstant(visitorZone);
+                    final ZonedDateTime end = slot.endTime().atZone(BOOKING_ZONE).withZoneSameInstant(visitorZone);
+                    if (!start.isBefore(visitorStart) && end.isBefore(visitorEnd)) {
+                        slots.add(new PublicAvailabilitySlot(
+                                bookingType.id(),
+                                bookingType.name(),
+                                bookingType.durationMinutes(),
+                                OffsetDateTime.from(start),
+                                OffsetDateTime.from(end)));
+                    }
+                });
+            });
 
             slots.sort(Comparator.comparing(PublicAvailabilitySlot::start));
             return ResponseEntity.ok(new PublicAvailabilityResponse(timezone, slots));
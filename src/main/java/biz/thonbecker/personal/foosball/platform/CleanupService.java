@@ -14,6 +14,7 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class CleanupService {
     private final GameRepository gameRepository;
+    private final FoosballStatsRefresher statsRefresher;
 
     @Scheduled(cron = "0 0 0 1 * ?") // Run at midnight on the first day of every month
     @SchedulerLock(name = "cleanupOldGames", lockAtLeastFor = "PT5M", lockAtMostFor = "PT1H")
@@ -22,5 +23,8 @@ public class CleanupService {
         final var ninetyDaysAgo = Instant.now().minus(90, ChronoUnit.DAYS);
         final var deletedGamesCount = gameRepository.deleteGamesOlderThan(ninetyDaysAgo);
         log.info("Finished cleanup of old games. Deleted {} games.", deletedGamesCount);
+        if (deletedGamesCount > 0) {
+            statsRefresher.requestRefresh();
+        }
     }
 }
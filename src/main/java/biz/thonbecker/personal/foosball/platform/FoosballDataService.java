@@ -1,5 +1,7 @@
 package biz.thonbecker.personal.foosball.platform;
 
+import static biz.thonbecker.personal.foosball.platform.RatingService.INITIAL_RATING;
+
 import biz.thonbecker.personal.foosball.platform.persistence.Game;
 import biz.thonbecker.personal.foosball.platform.persistence.GameRepository;
 import biz.thonbecker.personal.foosball.platform.persistence.GameWithPlayers;
@@ -9,8 +11,12 @@ import biz.thonbecker.personal.foosball.platform.persistence.PlayerStats;
 import biz.thonbecker.personal.foosball.platform.persistence.PlayerStatsRepository;
 import biz.thonbecker.personal.foosball.platform.persistence.TeamStats;
 import biz.thonbecker.personal.foosball.platform.persistence.TeamStatsRepository;
+import biz.thonbecker.personal.foosball.platform.web.model.GameHistoryPage;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -52,6 +58,38 @@ public class FoosballDataService {
         return playerRepository.findByName(name);
     }
 
+    /**
+     * Looks up players by name, creating any that don't exist yet. Costs one select and, only when
+     * names are new, one insert, however many names are passed. A name created concurrently by another
+     * transaction is read back instead of failing on the unique name constraint.
+     *
+     * @return the players keyed by name
+     */
+    public Map<String, Player> findOrCreatePlayersByNames(Collection<String> names) {
+        final var players = HashMap.<String, Player>newHashMap(names.size());
+        playerRepository.findByNameIn(names).forEach(player -> players.put(player.getName(), player));
+
+        final var missing = names.stream()
+                .filter(name -> !players.containsKey(name))
+                .distinct()
+                .sorted()
+                .toArray(String[]::new);
+        if (missing.length == 0) {
+            return players;
+        }
+
+        final var created = playerRepository.insertMissing(missing, INITIAL_RATING);
+        created.forEach(player -> players.put(player.getName(), player));
+        if (created.size() < missing.length) {
+            // Another transaction committed some of these names between our select and insert
+            log.debug("Re-reading {} player(s) created concurrently", missing.length - created.size());
+            playerRepository
+                    .findByNameIn(List.of(missing))
+                    .forEach(player -> players.putIfAbsent(player.getName(), player));
+        }
+        return players;
+    }
+
     public List<Player> getAllPlayers() {
         return playerRepository.findAllByOrderByNameAsc();
     }
@@ -80,6 +118,26 @@ public class FoosballDataService {
         return games;
     }
 
+    /** Up to {@code limit} games played before {@code cursor}, newest first. */
+    public GameHistoryPage getGameHistory(GameCursor cursor, int limit) {
+        return toPage(gameRepository.findPageBefore(cursor.playedAt(), cursor.id(), limit + 1), limit);
+    }
+
+    /** Up to {@code limit} games of one player played before {@code cursor}, newest first. */
+    public GameHistoryPage getPlayerGameHistory(Long playerId, GameCursor cursor, int limit) {
+        return toPage(
+                gameRepository.findPlayerPageBefore(playerId, cursor.playedAt(), cursor.id(), limit + 1), limit);
+    }
+
+    // One extra row was fetched to tell whether another page follows
+    private static GameHistoryPage toPage(List<Game> games, int limit) {
+        if (games.size() <= limit) {
+            return new GameHistoryPage(games, null);
+        }
+        final var page = games.subList(0, limit);
+        return new GameHistoryPage(page, GameCursor.after(page.getLast()).encode());
+    }
+
     public Optional<Game> getGameById(Long id) {
         return gameRepository.findById(id);
     }
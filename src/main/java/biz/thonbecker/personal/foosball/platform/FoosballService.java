@@ -74,23 +74,16 @@ public class FoosballService {
                 game.getWhiteTeam().getPlayer1() + "&" + game.getWhiteTeam().getPlayer2(),
                 game.getBlackTeam().getPlayer1() + "&" + game.getBlackTeam().getPlayer2());
 
-        // Look up or create players
-        final var whitePlayer1 = foosballDataService
-                .findPlayerByName(game.getWhiteTeam().getPlayer1())
-                .orElseGet(() ->
-                        foosballDataService.createPlayer(game.getWhiteTeam().getPlayer1()));
-        final var whitePlayer2 = foosballDataService
-                .findPlayerByName(game.getWhiteTeam().getPlayer2())
-                .orElseGet(() ->
-                        foosballDataService.createPlayer(game.getWhiteTeam().getPlayer2()));
-        final var blackPlayer1 = foosballDataService
-                .findPlayerByName(game.getBlackTeam().getPlayer1())
-                .orElseGet(() ->
-                        foosballDataService.createPlayer(game.getBlackTeam().getPlayer1()));
-        final var blackPlayer2 = foosballDataService
-                .findPlayerByName(game.getBlackTeam().getPlayer2())
-                .orElseGet(() ->
-                        foosballDataService.createPlayer(game.getBlackTeam().getPlayer2()));
+        // Look up or create all four players at once
+        final var players = foosballDataService.findOrCreatePlayersByNames(List.of(
+                game.getWhiteTeam().getPlayer1(),
+                game.getWhiteTeam().getPlayer2(),
+                game.getBlackTeam().getPlayer1(),
+                game.getBlackTeam().getPlayer2()));
+        final var whitePlayer1 = players.get(game.getWhiteTeam().getPlayer1());
+        final var whitePlayer2 = players.get(game.getWhiteTeam().getPlayer2());
+        final var blackPlayer1 = players.get(game.getBlackTeam().getPlayer1());
+        final var blackPlayer2 = players.get(game.getBlackTeam().getPlayer2());
 
         // Convert GameResult to TeamColor
         final var winner =
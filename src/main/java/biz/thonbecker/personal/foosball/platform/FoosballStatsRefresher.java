@@ -0,0 +1,111 @@
+package biz.thonbecker.personal.foosball.platform;
+
+import biz.thonbecker.personal.foosball.api.GameRecordedEvent;
+import biz.thonbecker.personal.foosball.api.PlayerCreatedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps the {@code foosball.player_stats} and {@code foosball.team_stats} materialized views in step
+ * with the games table.
+ *
+ * <p>Refresh requests are debounced: the first request after a refresh schedules one
+ * {@code REFRESH MATERIALIZED VIEW CONCURRENTLY} per view, and every request arriving before it
+ * runs is folded into it. Requests made inside a transaction only count once it commits.
+ */
+@Component
+@Slf4j
+public class FoosballStatsRefresher {
+
+    private static final long IDLE = -1L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskScheduler taskScheduler;
+    private final Duration debounce;
+    private final Timer refreshTimer;
+    private final Timer lagTimer;
+
+    /** When the oldest pending request was made, or {@link #IDLE} when no refresh is scheduled. */
+    private final AtomicLong pendingSince = new AtomicLong(IDLE);
+
+    FoosballStatsRefresher(
+            final JdbcTemplate jdbcTemplate,
+            final TaskScheduler taskScheduler,
+            final MeterRegistry meterRegistry,
+            @Value("${foosball.stats.refresh-debounce:500ms}") final Duration debounce) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.taskScheduler = taskScheduler;
+        this.debounce = debounce;
+        this.refreshTimer = Timer.builder("foosball.stats.refresh.duration")
+                .description("Time spent refreshing the foosball stats materialized views")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("foosball.stats.refresh.lag")
+                .description("Time from a stats change to the refreshed views being readable")
+                .register(meterRegistry);
+    }
+
+    @ApplicationModuleListener
+    void onGameRecorded(final GameRecordedEvent event) {
+        requestRefresh();
+    }
+
+    @ApplicationModuleListener
+    void onPlayerCreated(final PlayerCreatedEvent event) {
+        requestRefresh();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void onApplicationReady() {
+        requestRefresh();
+    }
+
+    /**
+     * Schedules a refresh of the stats views. Call this from write paths that change games or players
+     * without publishing a foosball event.
+     */
+    public void requestRefresh() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    scheduleRefresh();
+                }
+            });
+        } else {
+            scheduleRefresh();
+        }
+    }
+
+    private void scheduleRefresh() {
+        if (pendingSince.compareAndSet(IDLE, System.nanoTime())) {
+            taskScheduler.schedule(this::refresh, Instant.now().plus(debounce));
+        }
+    }
+
+    private void refresh() {
+        // Clear first so changes committed while the refresh runs schedule another one
+        final var requestedAt = pendingSince.getAndSet(IDLE);
+        try {
+            refreshTimer.record(() -> {
+                jdbcTemplate.execute("REFRESH MATERIALIZED VIEW CONCURRENTLY foosball.player_stats");
+                jdbcTemplate.execute("REFRESH MATERIALIZED VIEW CONCURRENTLY foosball.team_stats");
+            });
+            lagTimer.record(Duration.ofNanos(System.nanoTime() - requestedAt));
+        } catch (RuntimeException e) {
+            log.error("Failed to refresh foosball stats views", e);
+        }
+    }
+}
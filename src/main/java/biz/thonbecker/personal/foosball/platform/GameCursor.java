@@ -0,0 +1,41 @@
+package biz.thonbecker.personal.foosball.platform;
+
+import biz.thonbecker.personal.foosball.platform.persistence.Game;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position in the game history, which is ordered newest first by {@code (played_at, id)}. A page
+ * holds the games strictly older than its cursor; clients pass the cursor around as an opaque token.
+ */
+public record GameCursor(Instant playedAt, long id) {
+
+    /** Positioned before the newest game, so the first page starts at the top of the history. */
+    public static final GameCursor START = new GameCursor(Instant.parse("9999-12-31T23:59:59Z"), Long.MAX_VALUE);
+
+    public static GameCursor after(Game game) {
+        return new GameCursor(game.getPlayedAt(), game.getId());
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((playedAt + "_" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the token was not produced by {@link #encode()}
+     */
+    public static GameCursor decode(String token) {
+        try {
+            final var value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            final var separator = value.lastIndexOf('_');
+            return new GameCursor(
+                    Instant.parse(value.substring(0, separator)), Long.parseLong(value.substring(separator + 1)));
+        } catch (DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid game cursor: " + token, e);
+        }
+    }
+}
@@ -73,11 +73,12 @@ public class RatingService {
         int loser1Change = calculateIndividualChange(loser1, -basePoints, winningTeamRating, false);
         int loser2Change = calculateIndividualChange(loser2, -basePoints, winningTeamRating, false);
 
-        // Apply changes
-        applyRatingChange(winner1, winner1Change, game);
-        applyRatingChange(winner2, winner2Change, game);
-        applyRatingChange(loser1, loser1Change, game);
-        applyRatingChange(loser2, loser2Change, game);
+        // Apply changes in memory, then persist all history rows and players in one batch each
+        final var history = List.of(
+                applyRatingChange(winner1, winner1Change, game),
+                applyRatingChange(winner2, winner2Change, game),
+                applyRatingChange(loser1, loser1Change, game),
+                applyRatingChange(loser2, loser2Change, game));
 
         // Update streaks
         updateStreak(winner1, true);
@@ -85,7 +86,7 @@ public class RatingService {
         updateStreak(loser1, false);
         updateStreak(loser2, false);
 
-        // Save all players
+        ratingHistoryRepository.saveAll(history);
         playerRepository.saveAll(List.of(winner1, winner2, loser1, loser2));
 
         log.info(
@@ -154,7 +155,7 @@ public class RatingService {
         return change;
     }
 
-    private void applyRatingChange(Player player, int change, Game game) {
+    private RatingHistory applyRatingChange(Player player, int change, Game game) {
         int oldRating = player.getRating();
         int newRating = Math.max(0, oldRating + change); // Never go below 0
 
@@ -178,14 +179,7 @@ public class RatingService {
                     newTier.getDisplayName());
         }
 
-        // Record history
-        final var history = new RatingHistory();
-        history.setPlayer(player);
-        history.setOldRating(oldRating);
-        history.setNewRating(newRating);
-        history.setChange(change);
-        history.setGame(game);
-        ratingHistoryRepository.save(history);
+        return new RatingHistory(player, oldRating, newRating, change, game);
     }
 
     private void updateStreak(Player player, boolean won) {
@@ -11,7 +11,6 @@ import biz.thonbecker.personal.foosball.platform.persistence.TournamentMatchRepo
 import biz.thonbecker.personal.foosball.platform.persistence.TournamentRegistration;
 import biz.thonbecker.personal.foosball.platform.persistence.TournamentRegistrationRepository;
 import biz.thonbecker.personal.foosball.platform.persistence.TournamentRepository;
-import biz.thonbecker.personal.foosball.platform.persistence.TournamentStanding;
 import biz.thonbecker.personal.foosball.platform.persistence.TournamentStandingRepository;
 import biz.thonbecker.personal.foosball.platform.tournament.algorithm.DoubleEliminationAlgorithm;
 import biz.thonbecker.personal.foosball.platform.tournament.algorithm.SingleEliminationAlgorithm;
@@ -42,6 +41,7 @@ public class TournamentService {
     private final TournamentStandingRepository standingRepository;
     private final PlayerRepository playerRepository;
     private final GameRepository gameRepository;
+    private final FoosballStatsRefresher statsRefresher;
 
     // Tournament algorithms
     private final SingleEliminationAlgorithm singleEliminationAlgorithm;
@@ -334,8 +334,8 @@ public class TournamentService {
         final var updatedMatches = algorithm.advanceWinner(match);
         matchRepository.saveAll(updatedMatches);
 
-        // Check if tournament is complete
-        if (algorithm.isTournamentComplete(match.getTournament())) {
+        // Only a match with no next match can finish the tournament, so skip loading the bracket otherwise
+        if (match.getNextMatch() == null && algorithm.isTournamentComplete(match.getTournament())) {
             final var tournament = match.getTournament();
             tournament.complete();
             tournamentRepository.save(tournament);
@@ -390,6 +390,7 @@ public class TournamentService {
         // Create a game from the match
         final var game = createGameFromMatch(team1, team2, team1Score, team2Score);
         gameRepository.save(game);
+        statsRefresher.requestRefresh();
 
         log.info("Created game {} for match {}", game.getId(), matchId);
 
@@ -434,42 +435,26 @@ public class TournamentService {
 
         log.info("Updating standings for match {} in tournament {}", match.getId(), tournament.getId());
 
-        // Get or create standings for both teams
-        final var team1Standing = standingRepository
-                .findByTournamentIdAndRegistrationId(tournament.getId(), team1.getId())
-                .orElseGet(() -> {
-                    final var standing = new TournamentStanding(tournament, team1);
-                    return standingRepository.save(standing);
-                });
-
-        final var team2Standing = standingRepository
-                .findByTournamentIdAndRegistrationId(tournament.getId(), team2.getId())
-                .orElseGet(() -> {
-                    final var standing = new TournamentStanding(tournament, team2);
-                    return standingRepository.save(standing);
-                });
-
-        // Update standings based on match result
-        team1Standing.recordMatch(match);
-        team2Standing.recordMatch(match);
-
-        // Save updated standings
-        standingRepository.save(team1Standing);
-        standingRepository.save(team2Standing);
+        // Only the two teams' rows change; they are created on their first match
+        standingRepository.createMissingStandings(tournament.getId(), team1.getId(), team2.getId());
+        if (match.getGame() != null) {
+            final var settings = tournament.getSettings();
+            if (match.getWinner() != null) {
+                standingRepository.recordResult(
+                        tournament.getId(),
+                        team1.getId(),
+                        team2.getId(),
+                        match.getWinner().getId(),
+                        settings.getPointsForWin(),
+                        settings.getPointsForLoss());
+            } else {
+                standingRepository.recordDraw(
+                        tournament.getId(), team1.getId(), team2.getId(), settings.getPointsForDraw());
+            }
+        }
 
-        // Recalculate positions for all standings in the tournament
-        recalculateStandingPositions(tournament.getId());
+        standingRepository.updatePositions(tournament.getId());
 
         log.info("Successfully updated standings for match {}", match.getId());
     }
-
-    private void recalculateStandingPositions(Long tournamentId) {
-        final var standings = standingRepository.findByTournamentIdOrderByPointsDesc(tournamentId);
-
-        for (int i = 0; i < standings.size(); i++) {
-            standings.get(i).setPosition(i + 1);
-        }
-
-        standingRepository.saveAll(standings);
-    }
 }
@@ -1,6 +1,7 @@
 package biz.thonbecker.personal.foosball.platform.config;
 
 import biz.thonbecker.personal.foosball.platform.FoosballDataService;
+import biz.thonbecker.personal.foosball.platform.FoosballStatsRefresher;
 import biz.thonbecker.personal.foosball.platform.persistence.Game;
 import biz.thonbecker.personal.foosball.platform.persistence.Player;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +19,7 @@ import org.springframework.stereotype.Component;
 public class DataLoader {
 
     private final FoosballDataService foosballService;
+    private final FoosballStatsRefresher statsRefresher;
 
     @Value("${foosball.sample-data.enabled:true}")
     private boolean sampleDataEnabled;
@@ -132,5 +134,8 @@ public class DataLoader {
         log.info("Sample data loaded successfully!");
         log.info("Total players: {}", foosballService.getTotalPlayers());
         log.info("Total games: {}", foosballService.getTotalGames());
+
+        // Sample data goes straight to the repositories, so no game events trigger a refresh
+        statsRefresher.requestRefresh();
     }
 }
@@ -16,9 +16,78 @@ public interface GameRepository extends CrudRepository<Game, Long> {
 
     @RestResource(path = "by-player", rel = "by-player")
     @Query(
-            "SELECT g FROM Game g WHERE g.whiteTeamPlayer1 = :player OR g.whiteTeamPlayer2 = :player OR g.blackTeamPlayer1 = :player OR g.blackTeamPlayer2 = :player ORDER BY g.playedAt DESC")
+            value = """
+                    SELECT * FROM foosball.games WHERE white_team_player1_id = :#{#player.id}
+                    UNION ALL
+                    SELECT * FROM foosball.games WHERE white_team_player2_id = :#{#player.id}
+                        AND white_team_player1_id <> :#{#player.id}
+                    UNION ALL
+                    SELECT * FROM foosball.games WHERE black_team_player1_id = :#{#player.id}
+                        AND white_team_player1_id <> :#{#player.id} AND white_team_player2_id <> :#{#player.id}
+                    UNION ALL
+                    SELECT * FROM foosball.games WHERE black_team_player2_id = :#{#player.id}
+                        AND white_team_player1_id <> :#{#player.id} AND white_team_player2_id <> :#{#player.id}
+                        AND black_team_player1_id <> :#{#player.id}
+                    ORDER BY played_at DESC, id DESC
+                    """,
+            nativeQuery = true)
     List<Game> findByPlayer(@Param("player") Player player);
 
+    /** The {@code limit} games played before {@code (playedAt, id)}, newest first. */
+    @RestResource(exported = false)
+    @Query(
+            value = """
+                    SELECT * FROM foosball.games
+                    WHERE (played_at, id) < (CAST(:playedAt AS timestamp), :id)
+                    ORDER BY played_at DESC, id DESC
+                    LIMIT :limit
+                    """,
+            nativeQuery = true)
+    List<Game> findPageBefore(@Param("playedAt") Instant playedAt, @Param("id") long id, @Param("limit") int limit);
+
+    /**
+     * The {@code limit} games of one player played before {@code (playedAt, id)}, newest first. Each
+     * player slot is read from its own index; later branches skip games an earlier slot already matched,
+     * since singles games put the same player in both slots of a team.
+     */
+    @RestResource(exported = false)
+    @Query(
+            value = """
+                    SELECT * FROM (
+                        (SELECT * FROM foosball.games
+                         WHERE white_team_player1_id = :playerId
+                             AND (played_at, id) < (CAST(:playedAt AS timestamp), :id)
+                         ORDER BY played_at DESC, id DESC LIMIT :limit)
+                        UNION ALL
+                        (SELECT * FROM foosball.games
+                         WHERE white_team_player2_id = :playerId
+                             AND (played_at, id) < (CAST(:playedAt AS timestamp), :id)
+                             AND white_team_player1_id <> :playerId
+                         ORDER BY played_at DESC, id DESC LIMIT :limit)
+                        UNION ALL
+                        (SELECT * FROM foosball.games
+                         WHERE black_team_player1_id = :playerId
+                             AND (played_at, id) < (CAST(:playedAt AS timestamp), :id)
+                             AND white_team_player1_id <> :playerId AND white_team_player2_id <> :playerId
+                         ORDER BY played_at DESC, id DESC LIMIT :limit)
+                        UNION ALL
+                        (SELECT * FROM foosball.games
+                         WHERE black_team_player2_id = :playerId
+                             AND (played_at, id) < (CAST(:playedAt AS timestamp), :id)
+                             AND white_team_player1_id <> :playerId AND white_team_player2_id <> :playerId
+                             AND black_team_player1_id <> :playerId
+                         ORDER BY played_at DESC, id DESC LIMIT :limit)
+                    ) player_games
+                    ORDER BY played_at DESC, id DESC
+                    LIMIT :limit
+                    """,
+            nativeQuery = true)
+    List<Game> findPlayerPageBefore(
+            @Param("playerId") long playerId,
+            @Param("playedAt") Instant playedAt,
+            @Param("id") long id,
+            @Param("limit") int limit);
+
     @RestResource(path = "recent", rel = "recent")
     @Query("SELECT g FROM Game g " + "LEFT JOIN FETCH g.whiteTeamPlayer1 "
             + "LEFT JOIN FETCH g.whiteTeamPlayer2 "
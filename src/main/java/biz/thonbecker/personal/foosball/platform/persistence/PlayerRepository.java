@@ -1,10 +1,14 @@
 package biz.thonbecker.personal.foosball.platform.persistence;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 import org.springframework.data.rest.core.annotation.RestResource;
+import org.springframework.transaction.annotation.Transactional;
 
 @RepositoryRestResource(path = "players", collectionResourceRel = "players", itemResourceRel = "player")
 public interface PlayerRepository extends CrudRepository<Player, Long> {
@@ -15,6 +19,27 @@ public interface PlayerRepository extends CrudRepository<Player, Long> {
     @RestResource(path = "search", rel = "search")
     List<Player> findByNameContainingIgnoreCase(String name);
 
+    @RestResource(exported = false)
+    List<Player> findByNameIn(Collection<String> names);
+
+    /**
+     * Inserts a player for every name not taken yet and returns only the rows this statement created.
+     * Names should be sorted so concurrent callers wait on each other's rows in the same order.
+     */
+    @RestResource(exported = false)
+    @Transactional
+    @Query(
+            value = """
+                    INSERT INTO foosball.players
+                        (name, rating, peak_rating, games_played, current_streak, best_streak, created_at)
+                    SELECT new_name, :rating, :rating, 0, 0, 0, CURRENT_TIMESTAMP
+                    FROM unnest(CAST(:names AS varchar[])) AS new_name
+                    ON CONFLICT (name) DO NOTHING
+                    RETURNING *
+                    """,
+            nativeQuery = true)
+    List<Player> insertMissing(@Param("names") String[] names, @Param("rating") int rating);
+
     List<Player> findAllByOrderByNameAsc();
 
     // Rating/Ranking queries
@@ -28,8 +28,14 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @EntityListeners(AuditingEntityListener.class)
 public class RatingHistory {
 
+    // Sequence ids (the column's serial sequence, incremented by 50) keep inserts batchable; IDENTITY would not
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "rating_history_id_seq")
+    @SequenceGenerator(
+            name = "rating_history_id_seq",
+            sequenceName = "rating_history_id_seq",
+            schema = "foosball",
+            allocationSize = 50)
     private @Nullable Long id;
 
     @NotNull(message = "Player is required")
@@ -3,6 +3,7 @@ package biz.thonbecker.personal.foosball.platform.persistence;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,4 +18,75 @@ public interface TournamentStandingRepository extends JpaRepository<TournamentSt
 
     // Find standing for specific registration
     Optional<TournamentStanding> findByTournamentIdAndRegistrationId(Long tournamentId, Long registrationId);
+
+    // Create the standings rows of both teams in a match, keeping existing rows untouched
+    @Modifying
+    @Query(
+            value =
+                    """
+            INSERT INTO foosball.tournament_standings (tournament_id, registration_id)
+            VALUES (:tournamentId, :team1Id), (:tournamentId, :team2Id)
+            ON CONFLICT ON CONSTRAINT uk_tournament_registration_standing DO NOTHING
+            """,
+            nativeQuery = true)
+    int createMissingStandings(
+            @Param("tournamentId") Long tournamentId, @Param("team1Id") Long team1Id, @Param("team2Id") Long team2Id);
+
+    // Apply a decided match to the winner's and loser's rows in one statement
+    @Modifying
+    @Query(
+            value =
+                    """
+            UPDATE foosball.tournament_standings
+            SET wins = wins + CASE WHEN registration_id = :winnerId THEN 1 ELSE 0 END,
+                losses = losses + CASE WHEN registration_id = :winnerId THEN 0 ELSE 1 END,
+                games_played = games_played + 1,
+                points = points + CASE WHEN registration_id = :winnerId THEN :pointsForWin ELSE :pointsForLoss END,
+                updated_at = CURRENT_TIMESTAMP
+            WHERE tournament_id = :tournamentId AND registration_id IN (:team1Id, :team2Id)
+            """,
+            nativeQuery = true)
+    int recordResult(
+            @Param("tournamentId") Long tournamentId,
+            @Param("team1Id") Long team1Id,
+            @Param("team2Id") Long team2Id,
+            @Param("winnerId") Long winnerId,
+            @Param("pointsForWin") int pointsForWin,
+            @Param("pointsForLoss") int pointsForLoss);
+
+    // Apply a drawn match to both teams' rows in one statement
+    @Modifying
+    @Query(
+            value =
+                    """
+            UPDATE foosball.tournament_standings
+            SET draws = draws + 1,
+                games_played = games_played + 1,
+                points = points + :pointsForDraw,
+                updated_at = CURRENT_TIMESTAMP
+            WHERE tournament_id = :tournamentId AND registration_id IN (:team1Id, :team2Id)
+            """,
+            nativeQuery = true)
+    int recordDraw(
+            @Param("tournamentId") Long tournamentId,
+            @Param("team1Id") Long team1Id,
+            @Param("team2Id") Long team2Id,
+            @Param("pointsForDraw") int pointsForDraw);
+
+    // Renumber positions in the same order as findByTournamentIdOrderByPointsDesc, touching only moved rows
+    @Modifying
+    @Query(
+            value =
+                    """
+            UPDATE foosball.tournament_standings s
+            SET position = ranked.position, updated_at = CURRENT_TIMESTAMP
+            FROM (
+                SELECT id, ROW_NUMBER() OVER (
+                    ORDER BY points DESC, goal_difference DESC, goals_for DESC, games_played ASC, id) AS position
+                FROM foosball.tournament_standings
+                WHERE tournament_id = :tournamentId) ranked
+            WHERE s.id = ranked.id AND s.position IS DISTINCT FROM ranked.position
+            """,
+            nativeQuery = true)
+    int updatePositions(@Param("tournamentId") Long tournamentId);
 }
@@ -0,0 +1,30 @@
+package biz.thonbecker.personal.foosball.platform.tournament.algorithm;
+
+import biz.thonbecker.personal.foosball.platform.persistence.TournamentMatch;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Generated matches keyed by (bracket, round, match), so winner and loser destinations are wired with
+ * one lookup per match instead of a scan of the whole bracket. Built once per {@code generateBracket}.
+ */
+final class BracketIndex {
+
+    private final Map<Slot, TournamentMatch> matches;
+
+    BracketIndex(Collection<TournamentMatch> matches) {
+        this.matches = HashMap.newHashMap(matches.size());
+        for (final var match : matches) {
+            this.matches.putIfAbsent(
+                    new Slot(match.getBracketType(), match.getRoundNumber(), match.getMatchNumber()), match);
+        }
+    }
+
+    @Nullable TournamentMatch find(TournamentMatch.BracketType bracket, int round, int match) {
+        return matches.get(new Slot(bracket, round, match));
+    }
+
+    private record Slot(TournamentMatch.BracketType bracket, int round, int match) {}
+}
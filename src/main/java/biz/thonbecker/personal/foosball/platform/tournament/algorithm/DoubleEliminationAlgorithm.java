@@ -140,6 +140,7 @@ public class DoubleEliminationAlgorithm implements TournamentAlgorithm {
     }
 
     private void setupWinnersBracketPaths(List<TournamentMatch> winnersBracket, int roundCount) {
+        final var index = new BracketIndex(winnersBracket);
         for (var match : winnersBracket) {
             final var currentRound = match.getRoundNumber();
             final var currentMatch = match.getMatchNumber();
@@ -151,11 +152,7 @@ public class DoubleEliminationAlgorithm implements TournamentAlgorithm {
             final var nextRound = currentRound + 1;
             final var nextMatch = (currentMatch + 1) / 2;
 
-            final var nextTournamentMatch = winnersBracket.stream()
-                    .filter(m -> m.getRoundNumber().equals(nextRound)
-                            && m.getMatchNumber().equals(nextMatch))
-                    .findFirst()
-                    .orElse(null);
+            final var nextTournamentMatch = index.find(TournamentMatch.BracketType.MAIN, nextRound, nextMatch);
 
             if (nextTournamentMatch != null) {
                 match.setNextMatch(nextTournamentMatch);
@@ -164,6 +161,7 @@ public class DoubleEliminationAlgorithm implements TournamentAlgorithm {
     }
 
     private void setupLosersBracketPaths(List<TournamentMatch> losersBracket, int roundCount) {
+        final var index = new BracketIndex(losersBracket);
         for (var match : losersBracket) {
             final var currentRound = match.getRoundNumber();
             final var currentMatch = match.getMatchNumber();
@@ -175,11 +173,7 @@ public class DoubleEliminationAlgorithm implements TournamentAlgorithm {
             final var nextRound = currentRound + 1;
             final var nextMatch = calculateNextLosersBracketMatch(currentRound, currentMatch);
 
-            final var nextTournamentMatch = losersBracket.stream()
-                    .filter(m -> m.getRoundNumber().equals(nextRound)
-                            && m.getMatchNumber().equals(nextMatch))
-                    .findFirst()
-                    .orElse(null);
+            final var nextTournamentMatch = index.find(TournamentMatch.BracketType.LOSERS, nextRound, nextMatch);
 
             if (nextTournamentMatch != null) {
                 match.setNextMatch(nextTournamentMatch);
@@ -229,6 +223,7 @@ public class DoubleEliminationAlgorithm implements TournamentAlgorithm {
     private void linkWinnersBracketLosersToLosersBracket(
             List<TournamentMatch> winnersBracket, List<TournamentMatch> losersBracket) {
 
+        final var losersIndex = new BracketIndex(losersBracket);
         for (var wbMatch : winnersBracket) {
             final var wbRound = wbMatch.getRoundNumber();
             final var wbMatchNum = wbMatch.getMatchNumber();
@@ -237,11 +232,7 @@ public class DoubleEliminationAlgorithm implements TournamentAlgorithm {
             final var lbRound = calculateLosersBracketRoundForLoser(wbRound);
             final var lbMatchNum = calculateLosersBracketMatchForLoser(wbRound, wbMatchNum);
 
-            final var loserDestination = losersBracket.stream()
-                    .filter(m -> m.getRoundNumber().equals(lbRound)
-                            && m.getMatchNumber().equals(lbMatchNum))
-                    .findFirst()
-                    .orElse(null);
+            final var loserDestination = losersIndex.find(TournamentMatch.BracketType.LOSERS, lbRound, lbMatchNum);
 
             if (loserDestination != null) {
                 wbMatch.setConsolationMatch(loserDestination);
@@ -70,6 +70,7 @@ public class SingleEliminationAlgorithm implements TournamentAlgorithm {
     }
 
     private void setupAdvancementPaths(List<TournamentMatch> matches, int roundCount) {
+        final var index = new BracketIndex(matches);
         for (var match : matches) {
             final var currentRound = match.getRoundNumber();
             final var currentMatch = match.getMatchNumber();
@@ -81,11 +82,7 @@ public class SingleEliminationAlgorithm implements TournamentAlgorithm {
             final var nextRound = currentRound + 1;
             final var nextMatch = (currentMatch + 1) / 2; // Integer division for pairing
 
-            final var nextTournamentMatch = matches.stream()
-                    .filter(m -> m.getRoundNumber().equals(nextRound)
-                            && m.getMatchNumber().equals(nextMatch))
-                    .findFirst()
-                    .orElse(null);
+            final var nextTournamentMatch = index.find(TournamentMatch.BracketType.MAIN, nextRound, nextMatch);
 
             if (nextTournamentMatch != null) {
                 match.setNextMatch(nextTournamentMatch);
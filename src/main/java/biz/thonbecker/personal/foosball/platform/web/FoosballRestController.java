@@ -1,15 +1,19 @@
 package biz.thonbecker.personal.foosball.platform.web;
 
 import biz.thonbecker.personal.foosball.platform.FoosballDataService;
+import biz.thonbecker.personal.foosball.platform.GameCursor;
 import biz.thonbecker.personal.foosball.platform.persistence.Game;
 import biz.thonbecker.personal.foosball.platform.persistence.GameWithPlayers;
 import biz.thonbecker.personal.foosball.platform.persistence.Player;
 import biz.thonbecker.personal.foosball.platform.persistence.PlayerStats;
 import biz.thonbecker.personal.foosball.platform.persistence.TeamStats;
 import biz.thonbecker.personal.foosball.platform.web.model.CreatePlayerRequest;
+import biz.thonbecker.personal.foosball.platform.web.model.GameHistoryPage;
 import biz.thonbecker.personal.foosball.platform.web.model.GameRequest;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiFunction;
+import org.jspecify.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -24,6 +28,8 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/foosball")
 public class FoosballRestController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final FoosballDataService foosballService;
 
     @Autowired
@@ -96,9 +102,31 @@ public class FoosballRestController {
     }
 
     @GetMapping("/games")
-    public ResponseEntity<List<Game>> getAllGames() {
-        final var games = foosballService.getAllGames();
-        return ResponseEntity.ok(games);
+    public ResponseEntity<GameHistoryPage> getGames(
+            @RequestParam(required = false) @Nullable String cursor, @RequestParam(defaultValue = "50") int limit) {
+        return page(cursor, limit, foosballService::getGameHistory);
+    }
+
+    @GetMapping("/players/{id}/games")
+    public ResponseEntity<GameHistoryPage> getPlayerGames(
+            @PathVariable Long id,
+            @RequestParam(required = false) @Nullable String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return page(cursor, limit, (position, size) -> foosballService.getPlayerGameHistory(id, position, size));
+    }
+
+    private static ResponseEntity<GameHistoryPage> page(
+            @Nullable String cursor, int limit, BiFunction<GameCursor, Integer, GameHistoryPage> loader) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        final GameCursor position;
+        try {
+            position = cursor == null ? GameCursor.START : GameCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(loader.apply(position, limit));
     }
 
     @GetMapping("/games/{id}")
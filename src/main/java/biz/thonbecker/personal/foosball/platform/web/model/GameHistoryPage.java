@@ -0,0 +1,11 @@
+package biz.thonbecker.personal.foosball.platform.web.model;
+
+import biz.thonbecker.personal.foosball.platform.persistence.Game;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * One page of game history, newest first. Pass {@code nextCursor} back as {@code cursor} for the next
+ * page; it is null on the last page.
+ */
+public record GameHistoryPage(List<Game> games, @Nullable String nextCursor) {}
@@ -1,20 +1,62 @@
 package biz.thonbecker.personal.shared.platform.configuration;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
-import java.util.concurrent.TimeUnit;
+import com.github.benmanes.caffeine.cache.Weigher;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+/**
+ * Caffeine caches, each with its own expiry and weight budget so a few heavy entries in one cache
+ * cannot evict another cache's entries. Payload caches are weighed in approximate bytes, list caches
+ * by element count and single-DTO caches by entry count. Every cache records statistics, which Spring
+ * Boot's cache metrics bind to Micrometer at startup like any other cache of a {@link CacheManager} bean.
+ */
 @Configuration
 public class CacheConfig {
+
+    static final List<CacheSpec> CACHE_SPECS = List.of(
+            new CacheSpec("bibleVerses", Duration.ofHours(24), 500, CacheConfig::entryWeight),
+            new CacheSpec("jokeAudio", Duration.ofHours(24), 256 * 1024, CacheConfig::payloadBytes),
+            new CacheSpec("plantData", Duration.ofDays(7), 2_000, CacheConfig::entryWeight),
+            new CacheSpec("plantSearch", Duration.ofHours(6), 20_000, CacheConfig::elementCount),
+            new CacheSpec("plantImages", Duration.ofDays(7), 1024 * 1024, CacheConfig::payloadBytes),
+            new CacheSpec("plantsByZone", Duration.ofHours(24), 20_000, CacheConfig::elementCount));
+
     @Bean
     public CacheManager cacheManager() {
-        final var cacheManager = new CaffeineCacheManager(
-                "bibleVerses", "jokeAudio", "plantData", "plantSearch", "plantImages", "plantsByZone");
-        cacheManager.setCaffeine(
-                Caffeine.newBuilder().expireAfterWrite(24, TimeUnit.HOURS).maximumSize(100));
+        final var cacheManager = new CaffeineCacheManager();
+        // Disables on-the-fly creation, so only the caches configured below exist
+        cacheManager.setCacheNames(List.of());
+        for (final var spec : CACHE_SPECS) {
+            final var cache = Caffeine.newBuilder()
+                    .expireAfterWrite(spec.timeToLive())
+                    .maximumWeight(spec.maximumWeight())
+                    .weigher(spec.weigher())
+                    .recordStats()
+                    .build();
+            cacheManager.registerCustomCache(spec.name(), cache);
+        }
         return cacheManager;
     }
+
+    private static int entryWeight(final Object key, final Object value) {
+        return 1;
+    }
+
+    private static int elementCount(final Object key, final Object value) {
+        return value instanceof Collection<?> collection ? Math.max(1, collection.size()) : 1;
+    }
+
+    // UTF-16 size of the key and the value's string form; close enough for URL and small record payloads
+    private static int payloadBytes(final Object key, final Object value) {
+        final long chars = String.valueOf(key).length() + String.valueOf(value).length();
+        return (int) Math.min(Integer.MAX_VALUE, chars * 2);
+    }
+
+    record CacheSpec(String name, Duration timeToLive, long maximumWeight, Weigher<Object, Object> weigher) {}
 }
@@ -4,9 +4,12 @@ import biz.thonbecker.personal.skatetricks.api.SupportedTrick;
 import biz.thonbecker.personal.skatetricks.api.TrickAnalysisResult;
 import biz.thonbecker.personal.skatetricks.api.TrickSequenceEntry;
 import biz.thonbecker.personal.skatetricks.domain.TrickCatalog;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.AdvisorParams;
 import org.springframework.ai.chat.client.ChatClient;
@@ -88,12 +91,12 @@ class OpenAiTrickAnalyzer implements TrickAnalyzer {
         }
 
         try {
+            if (videoFrameExtractor.outputMode() == VideoFrameExtractor.FrameOutputMode.RAW) {
+                return analyzeExtractedImages(scope, videoFrameExtractor.extractFrames(mp4VideoData));
+            }
             List<String> extractedFrames = videoFrameExtractor.extractBase64Frames(mp4VideoData);
             if (extractedFrames.isEmpty()) {
-                log.warn("event=video_analysis_fallback reason=no_frames_extracted");
-                observability.incrementStage("analyzer", "fallback", "reason", "no_frames_extracted");
-                observability.success(scope, "reason", "no_frames_extracted", "mode", "video");
-                return fallback();
+                return noFramesFallback(scope);
             }
             observability.recordFrameCount(extractedFrames.size(), "mode", "video");
             final var result = analyzeFramesInternal(extractedFrames);
@@ -107,6 +110,34 @@ class OpenAiTrickAnalyzer implements TrickAnalyzer {
         }
     }
 
+    private TrickAnalysisResult analyzeExtractedImages(
+            SkatetricksObservability.Scope scope, List<BufferedImage> extractedFrames) throws Exception {
+        if (extractedFrames.isEmpty()) {
+            return noFramesFallback(scope);
+        }
+        observability.recordFrameCount(extractedFrames.size(), "mode", "video");
+
+        // Decoded frames go straight to pose estimation; JPEG is only produced for the vision model
+        List<Media> mediaList = new ArrayList<>(extractedFrames.size());
+        for (BufferedImage frame : extractedFrames) {
+            mediaList.add(Media.builder()
+                    .mimeType(MimeTypeUtils.IMAGE_JPEG)
+                    .data(VideoFrameExtractor.toJpeg(frame))
+                    .build());
+        }
+        final var poseTexts = buildPoseDataText(() -> poseEstimationService.estimatePosesFromImages(extractedFrames));
+        final var result = analyzeMedia(mediaList, poseTexts);
+        observability.success(scope, "trick", result.trick().name(), "mode", "video");
+        return result;
+    }
+
+    private TrickAnalysisResult noFramesFallback(SkatetricksObservability.Scope scope) {
+        log.warn("event=video_analysis_fallback reason=no_frames_extracted");
+        observability.incrementStage("analyzer", "fallback", "reason", "no_frames_extracted");
+        observability.success(scope, "reason", "no_frames_extracted", "mode", "video");
+        return fallback();
+    }
+
     private TrickAnalysisResult analyzeFramesInternal(List<String> base64Frames) throws Exception {
         List<Media> mediaList = base64Frames.stream()
                 .map(frame -> Media.builder()
@@ -115,12 +146,15 @@ class OpenAiTrickAnalyzer implements TrickAnalyzer {
                         .build())
                 .toList();
 
-        final var poseTexts = buildPoseDataText(base64Frames);
+        return analyzeMedia(mediaList, buildPoseDataText(() -> poseEstimationService.estimatePoses(base64Frames)));
+    }
+
+    private TrickAnalysisResult analyzeMedia(List<Media> mediaList, PoseTexts poseTexts) throws Exception {
         final var similarExamples = fetchSimilarExamples(poseTexts.embeddingText());
         final var curatedKnowledge = trickKnowledgeService.buildPromptSection();
         log.info(
                 "event=analyzer_prompt_context frameCount={} posePrompt={} similarExamples={} curatedKnowledge={}",
-                base64Frames.size(),
+                mediaList.size(),
                 !poseTexts.promptText().isBlank(),
                 !similarExamples.isBlank(),
                 !curatedKnowledge.isBlank());
@@ -166,7 +200,7 @@ class OpenAiTrickAnalyzer implements TrickAnalyzer {
 
         String userPrompt = ("These %d images are sequential frames from a skateboarding video, evenly spaced in time. "
                         + "Frame 1 is earliest, frame %d is latest. Analyze the full progression of movement across all frames and identify all tricks performed in sequence.")
-                .formatted(base64Frames.size(), base64Frames.size());
+                .formatted(mediaList.size(), mediaList.size());
 
         final var schema = callAndExtract(systemPrompt, userPrompt, mediaList.toArray(new Media[0]));
 
@@ -245,9 +279,9 @@ class OpenAiTrickAnalyzer implements TrickAnalyzer {
         static final PoseTexts EMPTY = new PoseTexts("", "");
     }
 
-    private PoseTexts buildPoseDataText(List<String> base64Frames) {
+    private PoseTexts buildPoseDataText(Supplier<PoseData.SequencePoseData> poseEstimation) {
         try {
-            PoseData.SequencePoseData poseData = poseEstimationService.estimatePoses(base64Frames);
+            PoseData.SequencePoseData poseData = poseEstimation.get();
             if (poseData == null) {
                 return PoseTexts.EMPTY;
             }
@@ -1,6 +1,5 @@
 package biz.thonbecker.personal.skatetricks.platform;
 
-import ai.djl.inference.Predictor;
 import ai.djl.modality.cv.Image;
 import ai.djl.modality.cv.ImageFactory;
 import ai.djl.modality.cv.output.DetectedObjects;
@@ -10,13 +9,18 @@ import ai.djl.modality.cv.translator.YoloPoseTranslatorFactory;
 import ai.djl.modality.cv.translator.YoloV8TranslatorFactory;
 import ai.djl.repository.zoo.Criteria;
 import ai.djl.repository.zoo.ZooModel;
+import ai.djl.translate.TranslateException;
 import jakarta.annotation.PostConstruct;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
+import java.util.concurrent.Callable;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -57,10 +61,17 @@ class PoseEstimationService implements AutoCloseable {
     private static final int LEFT_ANKLE = 15;
     private static final int RIGHT_ANKLE = 16;
 
+    private static final int DEFAULT_INFERENCE_PARALLELISM = 4;
+
+    @Value("${skatetricks.analysis.inference-parallelism:4}")
+    private int inferenceParallelism = DEFAULT_INFERENCE_PARALLELISM;
+
     private volatile @Nullable ZooModel<Image, Joints[]> model;
+    private volatile @Nullable PredictorPool<Image, Joints[]> posePredictors;
     private volatile boolean modelLoadAttempted;
 
     private volatile @Nullable ZooModel<Image, DetectedObjects> objectModel;
+    private volatile @Nullable PredictorPool<Image, DetectedObjects> boardPredictors;
     private volatile boolean objectModelLoadAttempted;
 
     /**
@@ -76,93 +87,109 @@ class PoseEstimationService implements AutoCloseable {
     }
 
     PoseData.@Nullable SequencePoseData estimatePoses(List<String> base64Frames) {
-        ZooModel<Image, Joints[]> loadedModel = ensureModelLoaded();
-        if (loadedModel == null) {
-            return null;
-        }
+        return estimateDecodedPoses(() -> decodeImages(base64Frames));
+    }
 
-        try (Predictor<Image, Joints[]> predictor = loadedModel.newPredictor()) {
-            List<PoseData.FramePoseData> framePoseDataList = new ArrayList<>();
-            List<Double> allBodyRotations = new ArrayList<>();
-            List<Double> allAnkleYPositions = new ArrayList<>();
-            List<Double> allKneeAngles = new ArrayList<>();
+    PoseData.@Nullable SequencePoseData estimatePosesFromImages(List<BufferedImage> frames) {
+        ImageFactory imageFactory = ImageFactory.getInstance();
+        return estimateDecodedPoses(() -> frames.stream().map(imageFactory::fromImage).toList());
+    }
 
-            for (int i = 0; i < base64Frames.size(); i++) {
-                Image image = decodeImage(base64Frames.get(i));
-                Joints[] results = predictor.predict(image);
+    private PoseData.@Nullable SequencePoseData estimateDecodedPoses(Callable<List<Image>> imageSource) {
+        PredictorPool<Image, Joints[]> posePool = ensureModelLoaded();
+        if (posePool == null) {
+            return null;
+        }
 
-                List<PoseData.PersonPose> persons = new ArrayList<>();
-                for (Joints joints : results) {
-                    PoseData.PersonPose personPose = buildPersonPose(joints);
-                    persons.add(personPose);
+        try {
+            // Decode each frame once; the same images feed both pose and board inference
+            List<Image> images = imageSource.call();
+            return estimatePoses(images, posePool, ensureObjectModelLoaded());
+        } catch (Exception e) {
+            log.error("Pose estimation failed, continuing without pose data", e);
+            return null;
+        }
+    }
 
-                    allBodyRotations.add(personPose.bodyRotationAngle());
-                    allAnkleYPositions.add(getAverageAnkleY(joints.getJoints()));
-                    for (PoseData.JointAngle angle : personPose.angles()) {
-                        if (angle.name().contains("knee")) {
-                            allKneeAngles.add(angle.angleDegrees());
-                        }
+    PoseData.SequencePoseData estimatePoses(
+            List<Image> images,
+            PredictorPool<Image, Joints[]> posePool,
+            @Nullable PredictorPool<Image, DetectedObjects> boardPool)
+            throws TranslateException {
+        List<Joints[]> poseResults = posePool.predictAll(images);
+
+        List<PoseData.FramePoseData> framePoseDataList = new ArrayList<>();
+        List<Double> allBodyRotations = new ArrayList<>();
+        List<Double> allAnkleYPositions = new ArrayList<>();
+        List<Double> allKneeAngles = new ArrayList<>();
+
+        for (int i = 0; i < poseResults.size(); i++) {
+            List<PoseData.PersonPose> persons = new ArrayList<>();
+            for (Joints joints : poseResults.get(i)) {
+                PoseData.PersonPose personPose = buildPersonPose(joints);
+                persons.add(personPose);
+
+                allBodyRotations.add(personPose.bodyRotationAngle());
+                allAnkleYPositions.add(getAverageAnkleY(joints.getJoints()));
+                for (PoseData.JointAngle angle : personPose.angles()) {
+                    if (angle.name().contains("knee")) {
+                        allKneeAngles.add(angle.angleDegrees());
                     }
                 }
-
-                framePoseDataList.add(new PoseData.FramePoseData(i, persons));
             }
 
-            // Detect board via object detection model
-            List<PoseData.BoardDetection> boardDetections = detectBoards(base64Frames);
-            int boardAirborneCount = (int) boardDetections.stream()
-                    .filter(PoseData.BoardDetection::airborne)
-                    .count();
+            framePoseDataList.add(new PoseData.FramePoseData(i, persons));
+        }
 
-            // Detect airborne by tracking ankle vertical displacement across frames
-            int ankleAirborneCount = detectAirborneFrames(allAnkleYPositions);
+        // Detect board via object detection model
+        List<PoseData.BoardDetection> boardDetections = detectBoards(images, boardPool);
+        int boardAirborneCount = (int) boardDetections.stream()
+                .filter(PoseData.BoardDetection::airborne)
+                .count();
 
-            // Combine: frame is airborne if either person or board shows upward displacement
-            int airborneCount = combineAirborneSignals(allAnkleYPositions, boardDetections);
+        // Detect airborne by tracking ankle vertical displacement across frames
+        int ankleAirborneCount = detectAirborneFrames(allAnkleYPositions);
 
-            // Use smoothed cumulative rotation instead of noisy frame-to-frame max
-            double maxRotationDelta = computeSmoothedRotationDelta(allBodyRotations);
+        // Combine: frame is airborne if either person or board shows upward displacement
+        int airborneCount = combineAirborneSignals(allAnkleYPositions, boardDetections);
 
-            double avgKneeAngle = allKneeAngles.stream()
-                    .mapToDouble(Double::doubleValue)
-                    .average()
-                    .orElse(180.0);
-            String motionSummary =
-                    buildMotionSummary(airborneCount, base64Frames.size(), maxRotationDelta, avgKneeAngle);
+        // Use smoothed cumulative rotation instead of noisy frame-to-frame max
+        double maxRotationDelta = computeSmoothedRotationDelta(allBodyRotations);
 
-            // Update the feetAirborne flags on PersonPose using cross-frame detection
-            List<PoseData.FramePoseData> updatedFrames =
-                    applyAirborneDetection(framePoseDataList, allAnkleYPositions, boardDetections);
+        double avgKneeAngle = allKneeAngles.stream()
+                .mapToDouble(Double::doubleValue)
+                .average()
+                .orElse(180.0);
+        String motionSummary = buildMotionSummary(airborneCount, images.size(), maxRotationDelta, avgKneeAngle);
 
-            PoseData.SequencePoseData result = new PoseData.SequencePoseData(
-                    updatedFrames, maxRotationDelta, airborneCount, boardAirborneCount, avgKneeAngle, motionSummary);
+        // Update the feetAirborne flags on PersonPose using cross-frame detection
+        List<PoseData.FramePoseData> updatedFrames =
+                applyAirborneDetection(framePoseDataList, allAnkleYPositions, boardDetections);
 
-            log.info(
-                    "Pose estimation complete: {} airborne frames (ankle={}, board={}), {} deg max rotation",
-                    airborneCount,
-                    ankleAirborneCount,
-                    boardAirborneCount,
-                    String.format("%.0f", maxRotationDelta));
+        PoseData.SequencePoseData result = new PoseData.SequencePoseData(
+                updatedFrames, maxRotationDelta, airborneCount, boardAirborneCount, avgKneeAngle, motionSummary);
 
-            return result;
+        log.info(
+                "Pose estimation complete: {} airborne frames (ankle={}, board={}), {} deg max rotation",
+                airborneCount,
+                ankleAirborneCount,
+                boardAirborneCount,
+                String.format("%.0f", maxRotationDelta));
 
-        } catch (Exception e) {
-            log.error("Pose estimation failed, continuing without pose data", e);
-            return null;
-        }
+        return result;
     }
 
-    private @Nullable ZooModel<Image, Joints[]> ensureModelLoaded() {
-        if (model != null) {
-            return model;
+    private @Nullable PredictorPool<Image, Joints[]> ensureModelLoaded() {
+        if (posePredictors != null) {
+            return posePredictors;
         }
         if (modelLoadAttempted) {
             return null;
         }
 
         synchronized (this) {
-            if (model != null) {
-                return model;
+            if (posePredictors != null) {
+                return posePredictors;
             }
             if (modelLoadAttempted) {
                 return null;
@@ -175,9 +202,11 @@ class PoseEstimationService implements AutoCloseable {
                         .optModelUrls("djl://ai.djl.pytorch/yolo11n-pose")
                         .optTranslatorFactory(new YoloPoseTranslatorFactory())
                         .build();
-                model = criteria.loadModel();
-                log.info("YOLO11n-Pose model loaded successfully");
-                return model;
+                ZooModel<Image, Joints[]> loaded = criteria.loadModel();
+                model = loaded;
+                posePredictors = new PredictorPool<>("pose-inference", loaded::newPredictor, inferenceParallelism);
+                log.info("YOLO11n-Pose model loaded successfully with {} predictors", posePredictors.size());
+                return posePredictors;
             } catch (Exception e) {
                 log.warn("Failed to load YOLO11n-Pose model, pose estimation will be unavailable", e);
                 modelLoadAttempted = true;
@@ -186,17 +215,17 @@ class PoseEstimationService implements AutoCloseable {
         }
     }
 
-    private @Nullable ZooModel<Image, DetectedObjects> ensureObjectModelLoaded() {
-        if (objectModel != null) {
-            return objectModel;
+    private @Nullable PredictorPool<Image, DetectedObjects> ensureObjectModelLoaded() {
+        if (boardPredictors != null) {
+            return boardPredictors;
         }
         if (objectModelLoadAttempted) {
             return null;
         }
 
         synchronized (this) {
-            if (objectModel != null) {
-                return objectModel;
+            if (boardPredictors != null) {
+                return boardPredictors;
             }
             if (objectModelLoadAttempted) {
                 return null;
@@ -209,9 +238,13 @@ class PoseEstimationService implements AutoCloseable {
                         .optModelUrls("djl://ai.djl.pytorch/yolo11n")
                         .optTranslatorFactory(new YoloV8TranslatorFactory())
                         .build();
-                objectModel = criteria.loadModel();
-                log.info("YOLO11n object detection model loaded successfully");
-                return objectModel;
+                ZooModel<Image, DetectedObjects> loaded = criteria.loadModel();
+                objectModel = loaded;
+                boardPredictors = new PredictorPool<>("board-inference", loaded::newPredictor, inferenceParallelism);
+                log.info(
+                        "YOLO11n object detection model loaded successfully with {} predictors",
+                        boardPredictors.size());
+                return boardPredictors;
             } catch (Exception e) {
                 log.warn("Failed to load YOLO11n object detection model, board detection will be unavailable", e);
                 objectModelLoadAttempted = true;
@@ -220,26 +253,22 @@ class PoseEstimationService implements AutoCloseable {
         }
     }
 
-    private List<PoseData.BoardDetection> detectBoards(List<String> base64Frames) {
-        ZooModel<Image, DetectedObjects> loadedModel = ensureObjectModelLoaded();
-        if (loadedModel == null) {
-            return base64Frames.stream()
+    private List<PoseData.BoardDetection> detectBoards(
+            List<Image> images, @Nullable PredictorPool<Image, DetectedObjects> boardPool) {
+        if (boardPool == null) {
+            return images.stream()
                     .map(f -> new PoseData.BoardDetection(false, false, 0.0, 0.0))
                     .toList();
         }
 
         List<PoseData.BoardDetection> detections = new ArrayList<>();
-        try (Predictor<Image, DetectedObjects> predictor = loadedModel.newPredictor()) {
-            for (String frame : base64Frames) {
-                Image image = decodeImage(frame);
-                DetectedObjects objects = predictor.predict(image);
-
-                PoseData.BoardDetection best = findSkateboard(objects);
-                detections.add(best);
+        try {
+            for (DetectedObjects objects : boardPool.predictAll(images)) {
+                detections.add(findSkateboard(objects));
             }
         } catch (Exception e) {
             log.warn("Board detection failed, continuing without board data", e);
-            return base64Frames.stream()
+            return images.stream()
                     .map(f -> new PoseData.BoardDetection(false, false, 0.0, 0.0))
                     .toList();
         }
@@ -303,7 +332,7 @@ class PoseEstimationService implements AutoCloseable {
         return best;
     }
 
-    private int combineAirborneSignals(List<Double> ankleYPositions, List<PoseData.BoardDetection> boardDetections) {
+    int combineAirborneSignals(List<Double> ankleYPositions, List<PoseData.BoardDetection> boardDetections) {
         // Establish ankle baseline
         List<Double> validPositions =
                 ankleYPositions.stream().filter(y -> !Double.isNaN(y)).toList();
@@ -335,7 +364,15 @@ class PoseEstimationService implements AutoCloseable {
         return airborneCount;
     }
 
-    private Image decodeImage(String base64Frame) throws java.io.IOException {
+    private List<Image> decodeImages(List<String> base64Frames) throws IOException {
+        List<Image> images = new ArrayList<>(base64Frames.size());
+        for (String frame : base64Frames) {
+            images.add(decodeImage(frame));
+        }
+        return images;
+    }
+
+    private Image decodeImage(String base64Frame) throws IOException {
         byte[] imageBytes = Base64.getDecoder().decode(base64Frame);
         return ImageFactory.getInstance().fromInputStream(new ByteArrayInputStream(imageBytes));
     }
@@ -442,7 +479,7 @@ class PoseEstimationService implements AutoCloseable {
         return Double.NaN;
     }
 
-    private int detectAirborneFrames(List<Double> ankleYPositions) {
+    int detectAirborneFrames(List<Double> ankleYPositions) {
         // Establish baseline from first few valid frames (grounded position)
         List<Double> validPositions =
                 ankleYPositions.stream().filter(y -> !Double.isNaN(y)).toList();
@@ -544,7 +581,7 @@ class PoseEstimationService implements AutoCloseable {
         return new double[] {sumX / count, sumY / count};
     }
 
-    private double computeSmoothedRotationDelta(List<Double> rotations) {
+    double computeSmoothedRotationDelta(List<Double> rotations) {
         // Filter out NaN values (low-confidence frames)
         List<Double> valid = rotations.stream().filter(r -> !Double.isNaN(r)).toList();
 
@@ -604,6 +641,16 @@ class PoseEstimationService implements AutoCloseable {
 
     @Override
     public void close() {
+        PredictorPool<Image, Joints[]> pp = posePredictors;
+        if (pp != null) {
+            pp.close();
+            posePredictors = null;
+        }
+        PredictorPool<Image, DetectedObjects> bp = boardPredictors;
+        if (bp != null) {
+            bp.close();
+            boardPredictors = null;
+        }
         ZooModel<Image, Joints[]> m = model;
         if (m != null) {
             m.close();
@@ -0,0 +1,89 @@
+package biz.thonbecker.personal.skatetricks.platform;
+
+import ai.djl.inference.Predictor;
+import ai.djl.translate.TranslateException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Fixed set of pre-created DJL {@link Predictor} instances shared across requests.
+ *
+ * <p>A {@link Predictor} is not thread-safe, so each one is checked out by a single worker at a
+ * time. Inference for a batch of frames fans out over {@code size} workers, and results are
+ * returned in input order regardless of completion order.
+ */
+class PredictorPool<I, O> implements AutoCloseable {
+
+    private final BlockingQueue<Predictor<I, O>> idle;
+    private final List<Predictor<I, O>> all;
+    private final ExecutorService workers;
+
+    PredictorPool(String name, Supplier<Predictor<I, O>> factory, int size) {
+        int poolSize = Math.max(1, size);
+        this.idle = new ArrayBlockingQueue<>(poolSize);
+        this.all = new ArrayList<>(poolSize);
+        for (int i = 0; i < poolSize; i++) {
+            Predictor<I, O> predictor = factory.get();
+            all.add(predictor);
+            idle.add(predictor);
+        }
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    int size() {
+        return all.size();
+    }
+
+    List<O> predictAll(List<I> inputs) throws TranslateException {
+        List<Future<O>> futures = new ArrayList<>(inputs.size());
+        for (I input : inputs) {
+            futures.add(workers.submit(() -> predict(input)));
+        }
+
+        List<O> results = new ArrayList<>(inputs.size());
+        try {
+            for (Future<O> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(f -> f.cancel(true));
+            throw new TranslateException("Interrupted while waiting for inference", e);
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            if (e.getCause() instanceof TranslateException translateException) {
+                throw translateException;
+            }
+            throw new TranslateException("Inference failed", e.getCause());
+        }
+    }
+
+    private O predict(I input) throws TranslateException, InterruptedException {
+        Predictor<I, O> predictor = idle.take();
+        try {
+            return predictor.predict(input);
+        } finally {
+            idle.add(predictor);
+        }
+    }
+
+    @Override
+    public void close() {
+        workers.shutdownNow();
+        all.forEach(Predictor::close);
+    }
+}
@@ -259,7 +259,7 @@ public class SkateTricksService {
         }
     }
 
-    private String encodeTrickSequence(List<TrickSequenceEntry> sequence) {
+    static String encodeTrickSequence(List<TrickSequenceEntry> sequence) {
         if (sequence == null || sequence.isEmpty()) {
             return null;
         }
@@ -269,7 +269,7 @@ public class SkateTricksService {
                 .orElse(null);
     }
 
-    private List<TrickSequenceEntry> decodeTrickSequence(String encoded) {
+    static List<TrickSequenceEntry> decodeTrickSequence(String encoded) {
         if (encoded == null || encoded.isBlank()) {
             return List.of();
         }
@@ -1,6 +1,8 @@
 package biz.thonbecker.personal.skatetricks.platform;
 
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Base64;
@@ -31,13 +33,44 @@ class VideoFrameExtractor {
     @Value("${skatetricks.analysis.max-frames:24}")
     private int maxAnalysisFrames = DEFAULT_MAX_ANALYSIS_FRAMES;
 
+    @Value("${skatetricks.analysis.frame-output:RAW}")
+    private FrameOutputMode outputMode = FrameOutputMode.RAW;
+
     private final SkatetricksObservability observability;
 
     VideoFrameExtractor(SkatetricksObservability observability) {
         this.observability = observability;
     }
 
+    /**
+     * How sampled frames are handed to the analysis stage. {@code RAW} keeps decoded images in memory
+     * and only JPEG-encodes them where a model needs it; {@code BASE64_JPEG} preserves the original
+     * string-based hand-off.
+     */
+    enum FrameOutputMode {
+        RAW,
+        BASE64_JPEG
+    }
+
+    FrameOutputMode outputMode() {
+        return outputMode;
+    }
+
     List<String> extractBase64Frames(byte[] mp4VideoData) {
+        List<BufferedImage> frames = extractFrames(mp4VideoData);
+        List<String> encoded = new ArrayList<>(frames.size());
+        try {
+            for (BufferedImage frame : frames) {
+                encoded.add(Base64.getEncoder().encodeToString(toJpeg(frame)));
+            }
+            return encoded;
+        } catch (IOException e) {
+            log.warn("event=frame_encoding_failed sampledFrames={}", frames.size(), e);
+            return List.of();
+        }
+    }
+
+    List<BufferedImage> extractFrames(byte[] mp4VideoData) {
         final var scope = observability.start("frame_extractor.extract");
         if (mp4VideoData == null || mp4VideoData.length == 0) {
             observability.incrementStage("frame_extraction", "skipped", "reason", "empty_video");
@@ -53,15 +86,7 @@ class VideoFrameExtractor {
             double durationSeconds = meta.getTotalDuration();
             List<Integer> frameNumbers = sampleFrameNumbers(totalFrames, durationSeconds, maxAnalysisFrames);
 
-            List<String> frames = new ArrayList<>(frameNumbers.size());
-            for (int frameNumber : frameNumbers) {
-                frameGrab.seekToFramePrecise(frameNumber);
-                Picture picture = frameGrab.getNativeFrame();
-                if (picture == null) {
-                    continue;
-                }
-                frames.add(toBase64Jpeg(picture));
-            }
+            List<BufferedImage> frames = decodeSampledFrames(frameGrab, frameNumbers);
             log.info(
                     "event=frame_extraction_completed inputBytes={} sampledFrames={} durationSeconds={}",
                     mp4VideoData.length,
@@ -79,6 +104,35 @@ class VideoFrameExtractor {
         }
     }
 
+    /**
+     * Decodes the clip in a single forward pass and keeps only the requested frames. A precise seek
+     * re-decodes from the previous keyframe for every sample, so walking forward once is cheaper for
+     * any clip with more than a handful of samples.
+     *
+     * @param frameNumbers ascending frame numbers, as returned by {@link #sampleFrameNumbers}
+     */
+    static List<BufferedImage> decodeSampledFrames(FrameGrab frameGrab, List<Integer> frameNumbers)
+            throws IOException {
+        List<BufferedImage> frames = new ArrayList<>(frameNumbers.size());
+        int nextFrame = 0;
+        for (int frameNumber : frameNumbers) {
+            Picture picture = null;
+            while (nextFrame <= frameNumber) {
+                picture = frameGrab.getNativeFrame();
+                if (picture == null) {
+                    // Container metadata over-reported the frame count; keep what was decoded
+                    return frames;
+                }
+                nextFrame++;
+            }
+            if (picture != null) {
+                // Convert immediately: the decoder may reuse the picture buffer for the next frame
+                frames.add(AWTUtil.toBufferedImage(picture));
+            }
+        }
+        return frames;
+    }
+
     static List<Integer> sampleFrameNumbers(int totalFrames, double durationSeconds, int maxFrames) {
         int sanitizedTotalFrames = Math.max(1, totalFrames);
         int targetFrames = targetFrameCount(sanitizedTotalFrames, durationSeconds, maxFrames);
@@ -174,10 +228,10 @@ class VideoFrameExtractor {
         return Math.round((float) ((totalFrames - 1) * ratio));
     }
 
-    private static String toBase64Jpeg(Picture picture) throws Exception {
+    static byte[] toJpeg(BufferedImage frame) throws IOException {
         try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-            ImageIO.write(AWTUtil.toBufferedImage(picture), "jpg", outputStream);
-            return Base64.getEncoder().encodeToString(outputStream.toByteArray());
+            ImageIO.write(frame, "jpg", outputStream);
+            return outputStream.toByteArray();
         }
     }
 }
@@ -0,0 +1,193 @@
+package biz.thonbecker.personal.tankgame.application;
+
+import biz.thonbecker.personal.tankgame.domain.MatchResult;
+import biz.thonbecker.personal.tankgame.domain.PlayerProgression;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Persists finished-match results off the game loop.
+ *
+ * <p>{@link #submit} only appends to a bounded in-memory queue, so a tick never waits on the database. A
+ * single writer thread drains up to {@code max-batch-size} results at a time and records them through
+ * {@link ProgressionService#recordMatches} in one transaction, retrying a failed batch up to
+ * {@code max-attempts} times and then writing its results one at a time, so only the results that
+ * fail on their own are lost. When the queue is full the oldest result is dropped. Each player gets their
+ * progression update once their batch is committed; remaining results are written on shutdown.
+ */
+@Service
+@Slf4j
+public class MatchResultWriter {
+
+    private static final Duration POLL_INTERVAL = Duration.ofSeconds(1);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(15);
+
+    private final ProgressionService progressionService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final int maxBatchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final BlockingQueue<PendingResult> queue;
+    private final Counter droppedResults;
+    private final Counter failedResults;
+    private final Timer flushTimer;
+    private volatile boolean running;
+    private Thread writer;
+
+    public MatchResultWriter(
+            final ProgressionService progressionService,
+            final SimpMessagingTemplate messagingTemplate,
+            final MeterRegistry meterRegistry,
+            @Value("${tankgame.match-results.max-batch-size:50}") final int maxBatchSize,
+            @Value("${tankgame.match-results.queue-capacity:1000}") final int queueCapacity,
+            @Value("${tankgame.match-results.max-attempts:3}") final int maxAttempts,
+            @Value("${tankgame.match-results.retry-backoff-ms:500}") final long retryBackoffMillis) {
+        this.progressionService = progressionService;
+        this.messagingTemplate = messagingTemplate;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMillis = Math.max(0, retryBackoffMillis);
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.droppedResults = meterRegistry.counter("tankgame.match-results.dropped");
+        this.failedResults = meterRegistry.counter("tankgame.match-results.failed");
+        this.flushTimer = Timer.builder("tankgame.match-results.flush.duration").register(meterRegistry);
+        Gauge.builder("tankgame.match-results.queue.depth", queue, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        writer = Thread.ofPlatform().name("tankgame-match-writer").daemon().start(this::runWriter);
+    }
+
+    @PreDestroy
+    void close() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        // Not interrupted: the writer notices within one poll interval, and an interrupt could abort a
+        // batch in the middle of acquiring a connection
+        writer.join(SHUTDOWN_TIMEOUT);
+    }
+
+    /** Queues a result for persistence; {@code tankId} addresses the player's progression update. */
+    public void submit(final String tankId, final MatchResult matchResult) {
+        final var pending = new PendingResult(tankId, matchResult);
+        while (!queue.offer(pending)) {
+            final var dropped = queue.poll();
+            if (dropped != null) {
+                droppedResults.increment();
+                log.warn(
+                        "Match result backlog full, dropped result for {} in game {}",
+                        dropped.result().getUsername(),
+                        dropped.result().getGameId());
+            }
+        }
+    }
+
+    private void runWriter() {
+        final var batch = new ArrayList<PendingResult>(maxBatchSize);
+        try {
+            while (running) {
+                final var first = queue.poll(POLL_INTERVAL.toNanos(), TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                write(batch);
+                batch.clear();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        queue.drainTo(batch);
+        for (var from = 0; from < batch.size(); from += maxBatchSize) {
+            write(batch.subList(from, Math.min(batch.size(), from + maxBatchSize)));
+        }
+    }
+
+    private void write(final List<PendingResult> batch) {
+        final var results = batch.stream().map(PendingResult::result).toList();
+        final var progressions = record(results);
+        if (progressions != null) {
+            for (var i = 0; i < batch.size(); i++) {
+                sendProgression(batch.get(i), progressions.get(i));
+            }
+            return;
+        }
+        if (batch.size() == 1) {
+            failedResults.increment();
+            return;
+        }
+        // Write the batch one result at a time so a single bad result doesn't lose the others
+        for (final var pending : batch) {
+            try {
+                final var progression = flushTimer.recordCallable(
+                        () -> progressionService.recordMatches(List.of(pending.result())));
+                sendProgression(pending, progression.getFirst());
+            } catch (final Exception e) {
+                failedResults.increment();
+                log.error(
+                        "Failed to record match result for {} in game {}",
+                        pending.result().getUsername(),
+                        pending.result().getGameId(),
+                        e);
+            }
+        }
+    }
+
+    private void sendProgression(final PendingResult pending, final PlayerProgression progression) {
+        // Broadcast progression update to the player
+        Object payload = Map.of(
+                "progression", progression,
+                "matchResult", pending.result());
+        messagingTemplate.convertAndSend("/topic/tankgame/progression/" + pending.tankId(), payload);
+    }
+
+    /** Returns the updated progressions, or null once every attempt has failed. */
+    private @Nullable List<PlayerProgression> record(final List<MatchResult> results) {
+        for (var attempt = 1; ; attempt++) {
+            try {
+                return flushTimer.recordCallable(() -> progressionService.recordMatches(results));
+            } catch (final Exception e) {
+                if (attempt >= maxAttempts) {
+                    log.error("Failed to record {} match results after {} attempts", results.size(), attempt, e);
+                    return null;
+                }
+                log.warn("Recording {} match results failed, retrying (attempt {})", results.size(), attempt, e);
+                backOff(attempt);
+            }
+        }
+    }
+
+    private void backOff(final int attempt) {
+        try {
+            Thread.sleep(retryBackoffMillis * attempt);
+        } catch (final InterruptedException e) {
+            // Stop waiting between attempts; the writer loop sees the interrupt and exits
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record PendingResult(String tankId, MatchResult result) {}
+}
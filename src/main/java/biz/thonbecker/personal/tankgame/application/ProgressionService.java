@@ -3,6 +3,8 @@ package biz.thonbecker.personal.tankgame.application;
 import biz.thonbecker.personal.tankgame.domain.MatchResult;
 import biz.thonbecker.personal.tankgame.domain.PlayerProgression;
 import biz.thonbecker.personal.tankgame.platform.persistence.*;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -43,9 +45,41 @@ public class ProgressionService {
      */
     @Transactional
     public PlayerProgression recordMatch(MatchResult matchResult) {
-        // Get or create progression
-        PlayerProgression progression = getOrCreateProgression(matchResult.getUserId(), matchResult.getUsername());
+        return recordMatches(List.of(matchResult)).getFirst();
+    }
+
+    /**
+     * Record a batch of match results in one transaction, loading every affected progression with a
+     * single query. Returns the updated progression for each result, in order.
+     */
+    @Transactional
+    public List<PlayerProgression> recordMatches(List<MatchResult> matchResults) {
+        final var userIds =
+                matchResults.stream().map(MatchResult::getUserId).collect(Collectors.toSet());
+        final var progressions = new HashMap<String, PlayerProgression>();
+        progressionRepository
+                .findAllById(userIds)
+                .forEach(entity -> progressions.put(entity.getUserId(), ProgressionMapper.toDomain(entity)));
+
+        final var recorded = new ArrayList<PlayerProgression>(matchResults.size());
+        for (final var matchResult : matchResults) {
+            final var progression = progressions.computeIfAbsent(matchResult.getUserId(), userId -> {
+                log.info("Created new progression for user: {} ({})", matchResult.getUsername(), userId);
+                return new PlayerProgression(userId, matchResult.getUsername());
+            });
+            applyMatch(progression, matchResult);
+            recorded.add(progression);
+        }
 
+        progressionRepository.saveAll(progressions.values().stream()
+                .map(ProgressionMapper::toEntity)
+                .toList());
+        matchHistoryRepository.saveAll(
+                matchResults.stream().map(ProgressionMapper::toEntity).toList());
+        return recorded;
+    }
+
+    private void applyMatch(PlayerProgression progression, MatchResult matchResult) {
         // Calculate rewards if not already calculated
         if (matchResult.getXpEarned() == 0) {
             matchResult.calculateRewards();
@@ -53,9 +87,7 @@ public class ProgressionService {
 
         // Update stats
         progression.addGame();
-        for (int i = 0; i < matchResult.getKills(); i++) {
-            progression.addKill();
-        }
+        progression.addKills(matchResult.getKills());
 
         // Only add death if player didn't win (winner survives)
         if (matchResult.getPlacement() != 1) {
@@ -70,14 +102,6 @@ public class ProgressionService {
         int levelsGained = progression.addXp(matchResult.getXpEarned());
         progression.addCoins(matchResult.getCoinsEarned());
 
-        // Save progression
-        PlayerProgressionEntity entity = ProgressionMapper.toEntity(progression);
-        progressionRepository.save(entity);
-
-        // Save match history
-        MatchHistoryEntity matchEntity = ProgressionMapper.toEntity(matchResult);
-        matchHistoryRepository.save(matchEntity);
-
         if (levelsGained > 0) {
             log.info("Player {} leveled up! Now level {}", progression.getUsername(), progression.getLevel());
         }
@@ -88,8 +112,6 @@ public class ProgressionService {
                 matchResult.getXpEarned(),
                 matchResult.getCoinsEarned(),
                 matchResult.getPlacement());
-
-        return progression;
     }
 
     /**
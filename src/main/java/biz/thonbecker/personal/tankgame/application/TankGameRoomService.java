@@ -4,7 +4,7 @@ import biz.thonbecker.personal.tankgame.domain.GameState;
 import biz.thonbecker.personal.tankgame.domain.PlayerInput;
 import biz.thonbecker.personal.tankgame.domain.Tank;
 import biz.thonbecker.personal.tankgame.domain.TankLoadout;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
@@ -24,6 +24,9 @@ public class TankGameRoomService {
     private static final long INPUT_TIMEOUT_MS = 250;
 
     private final Map<String, GameState> activeGames = new ConcurrentHashMap<>();
+    private final Map<String, GameState> activeGamesView = Collections.unmodifiableMap(activeGames);
+    // tank id -> game id; written only while holding this service's lock, read lock-free on every input
+    private final Map<String, String> tankGameIds = new ConcurrentHashMap<>();
     private final Map<String, PlayerInput> playerInputs = new ConcurrentHashMap<>();
     private final Map<String, Long> gameStartTimes = new ConcurrentHashMap<>();
     private final Map<String, Long> gameActivityTimes = new ConcurrentHashMap<>();
@@ -64,6 +67,7 @@ public class TankGameRoomService {
                 TANK_COLORS[tankCount % TANK_COLORS.length],
                 TankLoadout.fromId(loadoutId));
         game.addTank(tank);
+        tankGameIds.put(tank.getId(), gameId);
         gameActivityTimes.put(gameId, System.currentTimeMillis());
         playerInputs.put(tank.getId(), new PlayerInput());
         inputUpdatedTimes.put(tank.getId(), System.currentTimeMillis());
@@ -75,10 +79,11 @@ public class TankGameRoomService {
         return tank;
     }
 
-    public void leaveGame(final String gameId, final String tankId) {
+    public synchronized void leaveGame(final String gameId, final String tankId) {
         final var game = activeGames.get(gameId);
         if (game == null) return;
         game.removeTank(tankId);
+        tankGameIds.remove(tankId, gameId);
         playerInputs.remove(tankId);
         inputUpdatedTimes.remove(tankId);
         if (game.getTanks().isEmpty()) {
@@ -90,10 +95,7 @@ public class TankGameRoomService {
     }
 
     public void updateInput(final String tankId, final PlayerInput input) {
-        final var game = activeGames.values().stream()
-                .filter(candidate -> candidate.getTanks().containsKey(tankId))
-                .findFirst()
-                .orElse(null);
+        final var game = getGameForTank(tankId);
         if (game == null) return;
         playerInputs.put(tankId, input.sanitized(game.getMapWidth(), game.getMapHeight()));
         inputUpdatedTimes.put(tankId, System.currentTimeMillis());
@@ -136,8 +138,17 @@ public class TankGameRoomService {
         return activeGames.get(gameId);
     }
 
+    /** Returns the game the tank is currently in, or null once it has left or the game was removed. */
+    public GameState getGameForTank(final String tankId) {
+        final var gameId = tankGameIds.get(tankId);
+        if (gameId == null) return null;
+        final var game = activeGames.get(gameId);
+        return game != null && game.getTanks().containsKey(tankId) ? game : null;
+    }
+
+    /** Live, read-only view of the active games; iteration is weakly consistent, so it is safe during updates. */
     public Map<String, GameState> getActiveGames() {
-        return new HashMap<>(activeGames);
+        return activeGamesView;
     }
 
     public Long getGameStartTime(final String gameId) {
@@ -150,7 +161,10 @@ public class TankGameRoomService {
 
     @Scheduled(fixedRate = 30_000)
     void removeInactiveGames() {
-        final long now = System.currentTimeMillis();
+        removeInactiveGames(System.currentTimeMillis());
+    }
+
+    synchronized void removeInactiveGames(final long now) {
         activeGames.entrySet().removeIf(entry -> {
             final var game = entry.getValue();
             final long lastActivity = gameActivityTimes.getOrDefault(entry.getKey(), game.getCreatedAt());
@@ -160,6 +174,7 @@ public class TankGameRoomService {
             if (now - lastActivity <= timeout) return false;
             game.getTanks().keySet().forEach(playerInputs::remove);
             game.getTanks().keySet().forEach(inputUpdatedTimes::remove);
+            game.getTanks().keySet().forEach(tankId -> tankGameIds.remove(tankId, entry.getKey()));
             gameStartTimes.remove(entry.getKey());
             gameActivityTimes.remove(entry.getKey());
             log.info("Removed inactive tank game {}", entry.getKey());
@@ -167,6 +182,10 @@ public class TankGameRoomService {
         });
     }
 
+    int indexedTankCount() {
+        return tankGameIds.size();
+    }
+
     private double[] findSpawnPosition(final GameState game, final int tankCount) {
         final double[][] spawnPoints = {
             {60, 60}, {game.getMapWidth() - 100, 60},
@@ -175,7 +194,7 @@ public class TankGameRoomService {
         if (tankCount < spawnPoints.length) {
             final var spawn = spawnPoints[tankCount];
             final var tempTank = new Tank("temp", "temp", spawn[0], spawn[1], "");
-            if (game.getWalls().stream().noneMatch(tempTank::collidesWith)) return spawn;
+            if (!game.getCollisionGrid().collidesWithWall(tempTank)) return spawn;
         }
         final var random = new Random();
         for (int attempt = 0; attempt < 50; attempt++) {
@@ -184,7 +203,7 @@ public class TankGameRoomService {
             final var tempTank = new Tank("temp", "temp", x, y, "");
             final var nearTank = game.getTanks().values().stream()
                     .anyMatch(other -> Math.hypot(other.getX() - x, other.getY() - y) < 200);
-            if (game.getWalls().stream().noneMatch(tempTank::collidesWith) && !nearTank) return new double[] {x, y};
+            if (!game.getCollisionGrid().collidesWithWall(tempTank) && !nearTank) return new double[] {x, y};
         }
         return new double[] {game.getMapWidth() / 2.0, game.getMapHeight() / 2.0};
     }
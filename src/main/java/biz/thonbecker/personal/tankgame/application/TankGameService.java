@@ -1,28 +1,112 @@
 package biz.thonbecker.personal.tankgame.application;
 
 import biz.thonbecker.personal.tankgame.domain.*;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+/**
+ * Runs the tank game simulation. A dedicated scheduler thread starts a tick every {@link #TICK_PERIOD_MS}
+ * and hands each playing game to a worker pool, so games are simulated in parallel and a slow game only
+ * delays itself. A game still busy with its previous tick when the next one is due skips that tick and
+ * counts as an overrun; its next tick covers the elapsed time.
+ */
 @Service
 @Slf4j
 public class TankGameService {
 
+    static final long TICK_PERIOD_MS = 16; // ~60 FPS
+
     private final SimpMessagingTemplate messagingTemplate;
-    private final ProgressionService progressionService;
+    private final MatchResultWriter matchResultWriter;
     private final TankGameRoomService roomService;
-    private long lastUpdateTime = System.currentTimeMillis();
-
+    private final Clock clock;
+    private final Executor tickWorkers;
+    private final Timer tickTimer;
+    private final Counter overruns;
+    private final Map<String, GameTicker> tickers = new ConcurrentHashMap<>();
+    private ScheduledExecutorService tickScheduler;
+
+    @Autowired
     public TankGameService(
             SimpMessagingTemplate messagingTemplate,
-            ProgressionService progressionService,
-            TankGameRoomService roomService) {
+            MatchResultWriter matchResultWriter,
+            TankGameRoomService roomService,
+            MeterRegistry meterRegistry,
+            @Value("${tankgame.tick.workers:0}") int workers) {
+        this(
+                messagingTemplate,
+                matchResultWriter,
+                roomService,
+                meterRegistry,
+                Clock.systemUTC(),
+                newWorkerPool(workers > 0 ? workers : Runtime.getRuntime().availableProcessors()));
+    }
+
+    TankGameService(
+            SimpMessagingTemplate messagingTemplate,
+            MatchResultWriter matchResultWriter,
+            TankGameRoomService roomService,
+            MeterRegistry meterRegistry,
+            Clock clock,
+            Executor tickWorkers) {
         this.messagingTemplate = messagingTemplate;
-        this.progressionService = progressionService;
+        this.matchResultWriter = matchResultWriter;
         this.roomService = roomService;
+        this.clock = clock;
+        this.tickWorkers = tickWorkers;
+        this.tickTimer = Timer.builder("tankgame.tick.duration")
+                .description("Time to simulate and broadcast one tick of one game")
+                .register(meterRegistry);
+        this.overruns = Counter.builder("tankgame.tick.overruns")
+                .description("Game ticks skipped because the game's previous tick was still running")
+                .register(meterRegistry);
+    }
+
+    private static ExecutorService newWorkerPool(int workers) {
+        final var threadIndex = new AtomicInteger();
+        return Executors.newFixedThreadPool(workers, runnable -> {
+            final var thread = new Thread(runnable, "tankgame-tick-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    void start() {
+        tickScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "tankgame-tick-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        tickScheduler.scheduleAtFixedRate(this::gameLoop, TICK_PERIOD_MS, TICK_PERIOD_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (tickScheduler != null) {
+            tickScheduler.shutdownNow();
+        }
+        if (tickWorkers instanceof ExecutorService pool) {
+            pool.shutdownNow();
+        }
     }
 
     public GameState createGame() {
@@ -57,33 +141,59 @@ public class TankGameService {
         roomService.updateInput(tankId, input);
     }
 
-    @Scheduled(fixedRate = 16) // ~60 FPS
-    public void gameLoop() {
-        long now = System.currentTimeMillis();
-        double rawDeltaTime = (now - lastUpdateTime) / 1000.0;
-        lastUpdateTime = now;
-
-        // Limit deltaTime to prevent huge jumps
-        final double deltaTime = Math.min(rawDeltaTime, 0.1);
+    /** Starts one tick: every playing game that isn't still busy is queued on the worker pool. */
+    void gameLoop() {
+        // An exception escaping here would cancel the fixed-rate schedule
+        try {
+            final long now = clock.millis();
+            roomService.addAiOpponents(now);
+
+            final var games = roomService.getActiveGames();
+            tickers.keySet().retainAll(games.keySet());
+            games.values().forEach(game -> {
+                if (game.getStatus() != GameState.GameStatus.PLAYING) {
+                    return;
+                }
 
-        roomService.addAiOpponents(now);
-        roomService.getActiveGames().values().forEach(game -> {
-            if (game.getStatus() != GameState.GameStatus.PLAYING) {
-                return;
-            }
+                final var ticker =
+                        tickers.computeIfAbsent(game.getGameId(), id -> new GameTicker(now - TICK_PERIOD_MS));
+                if (!ticker.running.compareAndSet(false, true)) {
+                    overruns.increment();
+                    return;
+                }
+                // Limit deltaTime to prevent huge jumps
+                final double deltaTime = Math.min((now - ticker.lastTickMillis) / 1000.0, 0.1);
+                ticker.lastTickMillis = now;
+                tickWorkers.execute(() -> tickGame(game, ticker, deltaTime));
+            });
+        } catch (RuntimeException e) {
+            log.error("Tank game tick failed", e);
+        }
+    }
 
-            updateGame(game, deltaTime);
-            broadcastGameState(game);
-        });
+    private void tickGame(GameState game, GameTicker ticker, double deltaTime) {
+        try {
+            tickTimer.record(() -> {
+                updateGame(game, deltaTime);
+                broadcastGameState(game);
+            });
+        } catch (RuntimeException e) {
+            log.error("Tick failed for game {}", game.getGameId(), e);
+        } finally {
+            ticker.running.set(false);
+        }
     }
 
-    private void updateGame(GameState game, double deltaTime) {
+    void updateGame(GameState game, double deltaTime) {
         synchronized (game) {
             updateGameLocked(game, deltaTime);
         }
     }
 
     private void updateGameLocked(GameState game, double deltaTime) {
+        final var grid = game.getCollisionGrid();
+        grid.indexTanks(game.getTanks().values());
+
         game.getTanks().values().stream()
                 .filter(Tank::isBot)
                 .filter(Tank::isAlive)
@@ -107,89 +217,72 @@ public class TankGameService {
 
             // Move tank
             tank.move(input, deltaTime);
+            grid.moveTank(tank);
 
-            // Check collisions with walls
-            boolean wallCollision = game.getWalls().stream().anyMatch(wall -> tank.collidesWith(wall));
-
-            // Check collisions with other tanks
-            boolean tankCollision = game.getTanks().values().stream()
-                    .filter(other -> !other.getId().equals(tank.getId()))
-                    .filter(Tank::isAlive)
-                    .anyMatch(other -> tank.collidesWith(other));
+            // Check collisions with walls and other tanks
+            boolean wallCollision = grid.collidesWithWall(tank);
+            boolean tankCollision = !wallCollision && grid.collidesWithOtherTank(tank);
 
             // Rollback if collision
             if (wallCollision || tankCollision) {
                 tank.setX(oldX);
                 tank.setY(oldY);
+                grid.moveTank(tank);
             }
 
             // Handle shooting
             if (input.isShoot() && tank.canShoot()) {
-                Projectile projectile = new Projectile(
-                        UUID.randomUUID().toString(),
-                        tank.getId(),
-                        tank.getX() + tank.getWidth() / 2,
-                        tank.getY() + tank.getHeight() / 2,
-                        tank.getRotation());
-                game.addProjectile(projectile);
+                game.getProjectilePool()
+                        .spawn(
+                                tank.getId(),
+                                tank.getX() + tank.getWidth() / 2,
+                                tank.getY() + tank.getHeight() / 2,
+                                tank.getRotation());
                 tank.recordShot();
             }
         });
 
         // Update projectiles
-        Iterator<Projectile> projectileIterator = game.getProjectiles().iterator();
-        while (projectileIterator.hasNext()) {
-            Projectile projectile = projectileIterator.next();
-
-            if (!projectile.isActive()) {
-                projectileIterator.remove();
+        final var projectiles = game.getProjectilePool();
+        for (int slot = 0; slot < projectiles.limit(); slot++) {
+            if (!projectiles.isLive(slot)) {
                 continue;
             }
 
-            projectile.update(deltaTime);
-
-            // Check if out of bounds
-            if (projectile.getX() < 0
-                    || projectile.getX() > game.getMapWidth()
-                    || projectile.getY() < 0
-                    || projectile.getY() > game.getMapHeight()) {
-                projectileIterator.remove();
-                continue;
-            }
-
-            // Check wall collision
-            boolean hitWall = game.getWalls().stream().anyMatch(wall -> projectile.collidesWith(wall));
-
-            if (hitWall) {
-                projectileIterator.remove();
+            projectiles.advance(slot, deltaTime);
+            double x = projectiles.x(slot);
+            double y = projectiles.y(slot);
+
+            // Check lifetime, bounds and wall collision
+            if (projectiles.isBurntOut(slot)
+                    || x < 0
+                    || x > game.getMapWidth()
+                    || y < 0
+                    || y > game.getMapHeight()
+                    || grid.collidesWithWall(x, y, ProjectilePool.RADIUS)) {
+                projectiles.retire(slot);
                 continue;
             }
 
             // Check tank collision
-            for (Tank tank : game.getTanks().values()) {
-                if (tank.getId().equals(projectile.getOwnerId())) continue;
-                if (!tank.isAlive()) continue;
-
-                if (projectile.collidesWith(tank)) {
-                    Tank shooter = game.getTanks().get(projectile.getOwnerId());
-                    tank.takeDamage(projectile.getDamage(), shooter);
-                    projectile.deactivate();
-
-                    if (!tank.isAlive()) {
-                        if (shooter != null) {
-                            shooter.addKill();
-                        }
-                        log.info(
-                                "Tank {} killed by {}",
-                                tank.getPlayerName(),
-                                shooter != null ? shooter.getPlayerName() : "unknown");
+            Tank tank = grid.findProjectileHit(projectiles.ownerId(slot), x, y, ProjectilePool.RADIUS);
+            if (tank != null) {
+                Tank shooter = game.getTanks().get(projectiles.ownerId(slot));
+                tank.takeDamage(ProjectilePool.DAMAGE, shooter);
+                projectiles.retire(slot);
+
+                if (!tank.isAlive()) {
+                    if (shooter != null) {
+                        shooter.addKill();
                     }
-
-                    projectileIterator.remove();
-                    break;
+                    log.info(
+                            "Tank {} killed by {}",
+                            tank.getPlayerName(),
+                            shooter != null ? shooter.getPlayerName() : "unknown");
                 }
             }
         }
+        projectiles.publish();
 
         // Check if game is over and record results
         GameState.GameStatus previousStatus = game.getStatus();
@@ -214,7 +307,7 @@ public class TankGameService {
     }
 
     /**
-     * Record match results and award XP/coins to all players
+     * Queue match results for every human player; XP and coins are awarded once they are persisted
      */
     private void recordMatchResults(GameState game) {
         String gameId = game.getGameId();
@@ -259,29 +352,13 @@ public class TankGameService {
             matchResult.setMatchDurationSeconds(matchDurationSeconds);
             matchResult.calculateRewards();
 
-            // Record with progression service
-            try {
-                PlayerProgression updatedProgression = progressionService.recordMatch(matchResult);
-                log.info(
-                        "Recorded match for {}: Level {}, +{} XP, +{} coins",
-                        tank.getPlayerName(),
-                        updatedProgression.getLevel(),
-                        matchResult.getXpEarned(),
-                        matchResult.getCoinsEarned());
-
-                // Broadcast progression update to the player
-                Object payload = Map.of(
-                        "progression", updatedProgression,
-                        "matchResult", matchResult);
-                messagingTemplate.convertAndSend("/topic/tankgame/progression/" + tank.getId(), payload);
-            } catch (Exception e) {
-                log.error("Failed to record match for {}: {}", tank.getPlayerName(), e.getMessage(), e);
-            }
+            // Persisted and announced to the player by the writer, off the game loop
+            matchResultWriter.submit(tank.getId(), matchResult);
         }
 
         // Clean up
         roomService.removeGameStartTime(gameId);
-        log.info("Finished recording match results for game {}", gameId);
+        log.info("Queued match results for game {}", gameId);
     }
 
     private void updateBotInput(final GameState game, final Tank bot) {
@@ -300,7 +377,7 @@ public class TankGameService {
         final double botX = bot.getX() + bot.getWidth() / 2;
         final double botY = bot.getY() + bot.getHeight() / 2;
         final double distance = Math.hypot(targetX - botX, targetY - botY);
-        final boolean lineOfSight = hasLineOfSight(game, botX, botY, targetX, targetY);
+        final boolean lineOfSight = game.getCollisionGrid().hasLineOfSight(botX, botY, targetX, targetY);
         // Keep a useful firing distance instead of blindly ramming the target.
         if (!lineOfSight && distance > 260) {
             // Strafe around an obstacle. The stable direction prevents the bot from
@@ -323,21 +400,13 @@ public class TankGameService {
         roomService.markInputUpdated(bot.getId());
     }
 
-    private boolean hasLineOfSight(
-            final GameState game, final double startX, final double startY, final double endX, final double endY) {
-        final int samples = Math.max(1, (int) (Math.hypot(endX - startX, endY - startY) / 8));
-        for (int i = 1; i < samples; i++) {
-            final double fraction = (double) i / samples;
-            final double x = startX + (endX - startX) * fraction;
-            final double y = startY + (endY - startY) * fraction;
-            if (game.getWalls().stream()
-                    .anyMatch(wall -> x >= wall.getX()
-                            && x <= wall.getX() + wall.getWidth()
-                            && y >= wall.getY()
-                            && y <= wall.getY() + wall.getHeight())) {
-                return false;
-            }
+    /** Tick bookkeeping for one game; {@code lastTickMillis} is only touched by the scheduler thread. */
+    private static final class GameTicker {
+        private final AtomicBoolean running = new AtomicBoolean();
+        private long lastTickMillis;
+
+        private GameTicker(long lastTickMillis) {
+            this.lastTickMillis = lastTickMillis;
         }
-        return true;
     }
 }
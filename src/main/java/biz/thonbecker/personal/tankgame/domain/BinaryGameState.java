@@ -0,0 +1,129 @@
+package biz.thonbecker.personal.tankgame.domain;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Quantized form of a {@link GameStateSnapshot} as carried by the binary frame protocol.
+ *
+ * <p>Positions and sizes are fixed-point in {@value #POSITION_SCALE}ths of a pixel, rotation is an
+ * unsigned 16-bit fraction of a full turn, and tanks and projectiles are addressed by short entity ids
+ * instead of their UUIDs. Entities are kept sorted by entity id so a state decoded from a delta compares
+ * equal to the state it was encoded from.
+ */
+public record BinaryGameState(
+        int tick,
+        GameState.GameStatus status,
+        int mapWidth,
+        int mapHeight,
+        int winner,
+        @Nullable String winnerName,
+        List<TankState> tanks,
+        List<ProjectileState> projectiles) {
+
+    public static final int POSITION_SCALE = 16;
+    public static final int NO_ENTITY = -1;
+    private static final int MAX_UNSIGNED_SHORT = 0xFFFF;
+
+    /** Quantizes a snapshot; {@code entityIds} maps tank and projectile ids to their entity ids. */
+    public static BinaryGameState quantize(
+            final int tick, final GameStateSnapshot snapshot, final ToIntFunction<String> entityIds) {
+        final var tanks = snapshot.tanks().values().stream()
+                .map(tank -> TankState.from(entityIds.applyAsInt(tank.id()), tank))
+                .sorted(Comparator.comparingInt(TankState::id))
+                .toList();
+        final var projectiles = snapshot.projectiles().stream()
+                .map(projectile -> ProjectileState.from(entityIds.applyAsInt(projectile.id()), projectile))
+                .sorted(Comparator.comparingInt(ProjectileState::id))
+                .toList();
+        final var winner = tanks.stream()
+                .filter(tank -> tank.tankId().equals(snapshot.winnerId()))
+                .mapToInt(TankState::id)
+                .findFirst()
+                .orElse(NO_ENTITY);
+        return new BinaryGameState(
+                tick,
+                snapshot.status(),
+                snapshot.mapWidth(),
+                snapshot.mapHeight(),
+                winner,
+                snapshot.winnerName(),
+                tanks,
+                projectiles);
+    }
+
+    static int fixed(final double value) {
+        return clamp((int) Math.round(value * POSITION_SCALE));
+    }
+
+    static int angle(final double radians) {
+        return (int) Math.floorMod(Math.round(radians / (2 * Math.PI) * 65_536), 65_536L);
+    }
+
+    static int clamp(final int value) {
+        return Math.clamp(value, 0, MAX_UNSIGNED_SHORT);
+    }
+
+    /**
+     * One tank. {@code tankId} through {@code maxHealth} only travel when the tank first appears in a
+     * client's baseline; the rest is sent whenever it changes.
+     */
+    public record TankState(
+            int id,
+            String tankId,
+            @Nullable String playerName,
+            @Nullable String color,
+            @Nullable String loadoutId,
+            boolean bot,
+            int width,
+            int height,
+            int maxHealth,
+            int x,
+            int y,
+            int rotation,
+            int health,
+            boolean alive,
+            int kills) {
+
+        static TankState from(final int id, final GameStateSnapshot.TankSnapshot tank) {
+            return new TankState(
+                    id,
+                    tank.id(),
+                    tank.playerName(),
+                    tank.color(),
+                    tank.loadoutId(),
+                    tank.bot(),
+                    fixed(tank.width()),
+                    fixed(tank.height()),
+                    clamp(tank.maxHealth()),
+                    fixed(tank.x()),
+                    fixed(tank.y()),
+                    angle(tank.rotation()),
+                    clamp(tank.health()),
+                    tank.alive(),
+                    clamp(tank.kills()));
+        }
+
+        boolean sameIdentity(final TankState other) {
+            return tankId.equals(other.tankId)
+                    && Objects.equals(playerName, other.playerName)
+                    && Objects.equals(color, other.color)
+                    && Objects.equals(loadoutId, other.loadoutId)
+                    && bot == other.bot
+                    && width == other.width
+                    && height == other.height
+                    && maxHealth == other.maxHealth;
+        }
+    }
+
+    /** One projectile; {@code radius} only travels when the projectile first appears. */
+    public record ProjectileState(int id, int x, int y, int radius) {
+
+        static ProjectileState from(final int id, final GameStateSnapshot.ProjectileSnapshot projectile) {
+            return new ProjectileState(id, fixed(projectile.x()), fixed(projectile.y()), fixed(projectile.radius()));
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package biz.thonbecker.personal.tankgame.domain;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Encodes {@link BinaryGameState}s as big-endian binary frames, either in full or as a delta against a
+ * baseline the client has acknowledged.
+ *
+ * <pre>
+ * u8  frame type (1)          i32 tick        i32 base tick (0 for a full frame)
+ * u8  status ordinal          u16 map width   u16 map height
+ * i16 winner entity id        str winner name
+ * tanks:       u16 count, i16 removed ids...   u16 count, tank records...
+ * projectiles: u16 count, i16 removed ids...   u16 count, projectile records...
+ * </pre>
+ *
+ * <p>A record is {@code i16 entity id, u8 flags} followed by the fields its flags name, in flag order.
+ * {@link #SPAWN} carries the entity's static fields and every dynamic field; a tank's alive state is the
+ * {@link #ALIVE} flag itself. Entities unchanged since the baseline are left out. Strings are a presence
+ * byte followed by modified UTF-8.
+ */
+public final class BinaryStateCodec {
+
+    public static final int FRAME_STATE = 1;
+
+    static final int X = 1;
+    static final int Y = 1 << 1;
+    static final int ROTATION = 1 << 2;
+    static final int HEALTH = 1 << 3;
+    static final int KILLS = 1 << 4;
+    static final int ALIVE = 1 << 6;
+    static final int SPAWN = 1 << 7;
+    private static final int UNCHANGED = -1;
+
+    private static final GameState.GameStatus[] STATUSES = GameState.GameStatus.values();
+
+    private BinaryStateCodec() {}
+
+    /** Encodes {@code state} in full when {@code baseline} is null, otherwise as a delta against it. */
+    public static byte[] encode(final BinaryGameState state, final @Nullable BinaryGameState baseline) {
+        final var bytes = new ByteArrayOutputStream(64 + 16 * (state.tanks().size() + state.projectiles().size()));
+        try (var out = new DataOutputStream(bytes)) {
+            out.writeByte(FRAME_STATE);
+            out.writeInt(state.tick());
+            out.writeInt(baseline == null ? 0 : baseline.tick());
+            out.writeByte(state.status().ordinal());
+            out.writeShort(state.mapWidth());
+            out.writeShort(state.mapHeight());
+            out.writeShort(state.winner());
+            writeString(out, state.winnerName());
+            writeTanks(out, state.tanks(), baseline == null ? List.of() : baseline.tanks());
+            writeProjectiles(out, state.projectiles(), baseline == null ? List.of() : baseline.projectiles());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /** The tick a frame was encoded against, or 0 for a full frame. */
+    public static int baseTick(final byte[] frame) {
+        if (frame.length < 9 || frame[0] != FRAME_STATE) {
+            throw new IllegalArgumentException("Not a tank game state frame");
+        }
+        return ((frame[5] & 0xFF) << 24) | ((frame[6] & 0xFF) << 16) | ((frame[7] & 0xFF) << 8) | (frame[8] & 0xFF);
+    }
+
+    /**
+     * Decodes a frame. {@code baseline} must be the state for the frame's {@link #baseTick}, and is
+     * ignored for full frames.
+     */
+    public static BinaryGameState decode(final byte[] frame, final @Nullable BinaryGameState baseline) {
+        final var baseTick = baseTick(frame);
+        if (baseTick != 0 && (baseline == null || baseline.tick() != baseTick)) {
+            throw new IllegalArgumentException("Frame is a delta against tick " + baseTick);
+        }
+        try (var in = new DataInputStream(new ByteArrayInputStream(frame))) {
+            in.readUnsignedByte();
+            final var tick = in.readInt();
+            in.readInt();
+            final var status = STATUSES[in.readUnsignedByte()];
+            final var mapWidth = in.readUnsignedShort();
+            final var mapHeight = in.readUnsignedShort();
+            final int winner = in.readShort();
+            final var winnerName = readString(in);
+            final var tanks = readTanks(in, baseTick == 0 ? List.of() : baseline.tanks());
+            final var projectiles = readProjectiles(in, baseTick == 0 ? List.of() : baseline.projectiles());
+            if (in.available() > 0) {
+                throw new IllegalArgumentException("Trailing bytes after tank game state frame");
+            }
+            return new BinaryGameState(tick, status, mapWidth, mapHeight, winner, winnerName, tanks, projectiles);
+        } catch (IOException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Malformed tank game state frame", e);
+        }
+    }
+
+    private static void writeTanks(
+            final DataOutputStream out,
+            final List<BinaryGameState.TankState> tanks,
+            final List<BinaryGameState.TankState> baseline)
+            throws IOException {
+        final var previous = byId(baseline, BinaryGameState.TankState::id);
+        final var current = byId(tanks, BinaryGameState.TankState::id);
+        writeRemoved(out, previous.keySet().stream().filter(id -> !current.containsKey(id)).toList());
+
+        final var flags = new int[tanks.size()];
+        var records = 0;
+        for (var i = 0; i < tanks.size(); i++) {
+            flags[i] = tankFlags(tanks.get(i), previous.get(tanks.get(i).id()));
+            records += flags[i] == UNCHANGED ? 0 : 1;
+        }
+
+        out.writeShort(records);
+        for (var i = 0; i < tanks.size(); i++) {
+            final var tank = tanks.get(i);
+            final var flag = flags[i];
+            if (flag == UNCHANGED) {
+                continue;
+            }
+            out.writeShort(tank.id());
+            out.writeByte(flag);
+            if ((flag & SPAWN) != 0) {
+                writeString(out, tank.tankId());
+                writeString(out, tank.playerName());
+                writeString(out, tank.color());
+                writeString(out, tank.loadoutId());
+                out.writeBoolean(tank.bot());
+                out.writeShort(tank.width());
+                out.writeShort(tank.height());
+                out.writeShort(tank.maxHealth());
+            }
+            if ((flag & X) != 0) out.writeShort(tank.x());
+            if ((flag & Y) != 0) out.writeShort(tank.y());
+            if ((flag & ROTATION) != 0) out.writeShort(tank.rotation());
+            if ((flag & HEALTH) != 0) out.writeShort(tank.health());
+            if ((flag & KILLS) != 0) out.writeShort(tank.kills());
+        }
+    }
+
+    /** Flags for a tank's record, or {@link #UNCHANGED} when it can be left out. */
+    private static int tankFlags(
+            final BinaryGameState.TankState tank, final BinaryGameState.@Nullable TankState base) {
+        if (base == null || !tank.sameIdentity(base)) {
+            return SPAWN | X | Y | ROTATION | HEALTH | KILLS | (tank.alive() ? ALIVE : 0);
+        }
+        final var changed = (tank.x() != base.x() ? X : 0)
+                | (tank.y() != base.y() ? Y : 0)
+                | (tank.rotation() != base.rotation() ? ROTATION : 0)
+                | (tank.health() != base.health() ? HEALTH : 0)
+                | (tank.kills() != base.kills() ? KILLS : 0);
+        if (changed == 0 && tank.alive() == base.alive()) {
+            return UNCHANGED;
+        }
+        return changed | (tank.alive() ? ALIVE : 0);
+    }
+
+    private static List<BinaryGameState.TankState> readTanks(
+            final DataInputStream in, final List<BinaryGameState.TankState> baseline) throws IOException {
+        final var tanks = new TreeMap<>(byId(baseline, BinaryGameState.TankState::id));
+        readRemoved(in, tanks);
+        final var count = in.readUnsignedShort();
+        for (var i = 0; i < count; i++) {
+            final int id = in.readShort();
+            final var flag = in.readUnsignedByte();
+            final BinaryGameState.TankState base;
+            if ((flag & SPAWN) != 0) {
+                base = new BinaryGameState.TankState(
+                        id,
+                        readString(in),
+                        readString(in),
+                        readString(in),
+                        readString(in),
+                        in.readBoolean(),
+                        in.readUnsignedShort(),
+                        in.readUnsignedShort(),
+                        in.readUnsignedShort(),
+                        0,
+                        0,
+                        0,
+                        0,
+                        false,
+                        0);
+            } else {
+                base = tanks.get(id);
+                if (base == null) {
+                    throw new IllegalArgumentException("Delta for unknown tank " + id);
+                }
+            }
+            tanks.put(
+                    id,
+                    new BinaryGameState.TankState(
+                            id,
+                            base.tankId(),
+                            base.playerName(),
+                            base.color(),
+                            base.loadoutId(),
+                            base.bot(),
+                            base.width(),
+                            base.height(),
+                            base.maxHealth(),
+                            (flag & X) != 0 ? in.readUnsignedShort() : base.x(),
+                            (flag & Y) != 0 ? in.readUnsignedShort() : base.y(),
+                            (flag & ROTATION) != 0 ? in.readUnsignedShort() : base.rotation(),
+                            (flag & HEALTH) != 0 ? in.readUnsignedShort() : base.health(),
+                            (flag & ALIVE) != 0,
+                            (flag & KILLS) != 0 ? in.readUnsignedShort() : base.kills()));
+        }
+        return List.copyOf(tanks.values());
+    }
+
+    private static void writeProjectiles(
+            final DataOutputStream out,
+            final List<BinaryGameState.ProjectileState> projectiles,
+            final List<BinaryGameState.ProjectileState> baseline)
+            throws IOException {
+        final var previous = byId(baseline, BinaryGameState.ProjectileState::id);
+        final var current = byId(projectiles, BinaryGameState.ProjectileState::id);
+        writeRemoved(out, previous.keySet().stream().filter(id -> !current.containsKey(id)).toList());
+
+        final var flags = new int[projectiles.size()];
+        var records = 0;
+        for (var i = 0; i < projectiles.size(); i++) {
+            flags[i] = projectileFlags(projectiles.get(i), previous.get(projectiles.get(i).id()));
+            records += flags[i] == UNCHANGED ? 0 : 1;
+        }
+
+        out.writeShort(records);
+        for (var i = 0; i < projectiles.size(); i++) {
+            final var projectile = projectiles.get(i);
+            final var flag = flags[i];
+            if (flag == UNCHANGED) {
+                continue;
+            }
+            out.writeShort(projectile.id());
+            out.writeByte(flag);
+            if ((flag & SPAWN) != 0) out.writeShort(projectile.radius());
+            if ((flag & X) != 0) out.writeShort(projectile.x());
+            if ((flag & Y) != 0) out.writeShort(projectile.y());
+        }
+    }
+
+    private static int projectileFlags(
+            final BinaryGameState.ProjectileState projectile, final BinaryGameState.@Nullable ProjectileState base) {
+        if (base == null || projectile.radius() != base.radius()) {
+            return SPAWN | X | Y;
+        }
+        final var changed = (projectile.x() != base.x() ? X : 0) | (projectile.y() != base.y() ? Y : 0);
+        return changed == 0 ? UNCHANGED : changed;
+    }
+
+    private static List<BinaryGameState.ProjectileState> readProjectiles(
+            final DataInputStream in, final List<BinaryGameState.ProjectileState> baseline) throws IOException {
+        final var projectiles = new TreeMap<>(byId(baseline, BinaryGameState.ProjectileState::id));
+        readRemoved(in, projectiles);
+        final var count = in.readUnsignedShort();
+        for (var i = 0; i < count; i++) {
+            final int id = in.readShort();
+            final var flag = in.readUnsignedByte();
+            final var spawned = (flag & SPAWN) != 0;
+            final var base = spawned ? null : projectiles.get(id);
+            if (!spawned && base == null) {
+                throw new IllegalArgumentException("Delta for unknown projectile " + id);
+            }
+            final var radius = spawned ? in.readUnsignedShort() : base.radius();
+            final var x = (flag & X) != 0 ? in.readUnsignedShort() : base.x();
+            final var y = (flag & Y) != 0 ? in.readUnsignedShort() : base.y();
+            projectiles.put(id, new BinaryGameState.ProjectileState(id, x, y, radius));
+        }
+        return List.copyOf(projectiles.values());
+    }
+
+    private static void writeRemoved(final DataOutputStream out, final List<Integer> removed) throws IOException {
+        out.writeShort(removed.size());
+        for (final var id : removed) {
+            out.writeShort(id);
+        }
+    }
+
+    private static void readRemoved(final DataInputStream in, final Map<Integer, ?> entities) throws IOException {
+        final var count = in.readUnsignedShort();
+        for (var i = 0; i < count; i++) {
+            final int id = in.readShort();
+            if (entities.remove(id) == null) {
+                throw new IllegalArgumentException("Removal of unknown entity " + id);
+            }
+        }
+    }
+
+    private static <T> Map<Integer, T> byId(final List<T> entities, final Function<T, Integer> id) {
+        return entities.stream().collect(Collectors.toMap(id, Function.identity(), (a, b) -> a, TreeMap::new));
+    }
+
+    private static void writeString(final DataOutputStream out, final @Nullable String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static @Nullable String readString(final DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,83 @@
+package biz.thonbecker.personal.tankgame.domain;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Per-game state for the binary frame protocol: assigns short entity ids, keeps the last
+ * {@value #HISTORY} states as delta baselines and caches the frame for each baseline, so sessions that
+ * acknowledged the same tick share one encoding.
+ *
+ * <p>Not thread-safe; one broadcast thread owns each encoder.
+ */
+public final class DeltaStateEncoder {
+
+    static final int HISTORY = 32;
+    private static final int MAX_ENTITIES = 1 << 15;
+
+    private final Map<String, Integer> entityIds = new HashMap<>();
+    private final BitSet usedIds = new BitSet(MAX_ENTITIES);
+    private final Set<String> seen = new HashSet<>();
+    private final BinaryGameState[] history = new BinaryGameState[HISTORY];
+    private final Map<Integer, byte[]> frames = new HashMap<>();
+    private int lastId = -1;
+    private @Nullable BinaryGameState latest;
+
+    /** Quantizes the next state; {@code tick} must be positive and increase with every call. */
+    public BinaryGameState advance(final int tick, final GameStateSnapshot snapshot) {
+        seen.clear();
+        final var state = BinaryGameState.quantize(tick, snapshot, this::entityId);
+        // Ids of departed entities go back to the pool; the allocator only reaches them again after it wraps
+        entityIds.entrySet().removeIf(entry -> {
+            if (seen.contains(entry.getKey())) {
+                return false;
+            }
+            usedIds.clear(entry.getValue());
+            return true;
+        });
+        history[Math.floorMod(tick, HISTORY)] = state;
+        frames.clear();
+        latest = state;
+        return state;
+    }
+
+    /**
+     * Encodes the latest state against {@code acknowledgedTick}, or in full when that tick is 0 or has
+     * already left the history.
+     */
+    public byte[] encode(final int acknowledgedTick) {
+        if (latest == null) {
+            throw new IllegalStateException("No state to encode yet");
+        }
+        final var baseline = baseline(acknowledgedTick);
+        final var state = latest;
+        return frames.computeIfAbsent(
+                baseline == null ? 0 : baseline.tick(), ignored -> BinaryStateCodec.encode(state, baseline));
+    }
+
+    private @Nullable BinaryGameState baseline(final int tick) {
+        if (tick <= 0 || latest == null || tick > latest.tick()) {
+            return null;
+        }
+        final var candidate = history[Math.floorMod(tick, HISTORY)];
+        return candidate != null && candidate.tick() == tick ? candidate : null;
+    }
+
+    private int entityId(final String key) {
+        seen.add(key);
+        return entityIds.computeIfAbsent(key, ignored -> {
+            if (usedIds.cardinality() >= MAX_ENTITIES) {
+                throw new IllegalStateException("Out of entity ids");
+            }
+            do {
+                lastId = (lastId + 1) % MAX_ENTITIES;
+            } while (usedIds.get(lastId));
+            usedIds.set(lastId);
+            return lastId;
+        });
+    }
+}
@@ -1,17 +1,22 @@
 package biz.thonbecker.personal.tankgame.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 @Data
 public class GameState {
+    private static final int INITIAL_PROJECTILE_CAPACITY = 64;
+
     private String gameId;
     private Map<String, Tank> tanks = new ConcurrentHashMap<>();
-    private List<Projectile> projectiles = new ArrayList<>();
     private List<Wall> walls = new ArrayList<>();
     private GameStatus status = GameStatus.WAITING;
     // Keep the authoritative map inside the Godot playfield (20,82)-(940,522).
@@ -21,10 +26,23 @@ public class GameState {
     private String winnerId;
     private String winnerName;
 
+    // Server-side collision index; walls are bucketed once here, tanks every tick
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final SpatialGrid collisionGrid;
+
+    // Mutated by the tick under the game lock; other threads read the published view via getProjectiles()
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final ProjectilePool projectilePool = new ProjectilePool(INITIAL_PROJECTILE_CAPACITY);
+
     public GameState() {
         this.gameId = UUID.randomUUID().toString();
         this.createdAt = System.currentTimeMillis();
         initializeWalls();
+        this.collisionGrid = new SpatialGrid(mapWidth, mapHeight, SpatialGrid.DEFAULT_CELL_SIZE, walls);
     }
 
     private void initializeWalls() {
@@ -53,8 +71,10 @@ public class GameState {
         tanks.remove(tankId);
     }
 
-    public void addProjectile(Projectile projectile) {
-        projectiles.add(projectile);
+    /** The projectiles as of the last completed tick; an immutable list, safe to read without the game lock. */
+    @JsonProperty("projectiles")
+    public List<GameStateSnapshot.ProjectileSnapshot> getProjectiles() {
+        return projectilePool.view();
     }
 
     public int getAliveTankCount() {
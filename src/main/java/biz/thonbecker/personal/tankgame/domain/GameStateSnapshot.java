@@ -1,10 +1,16 @@
 package biz.thonbecker.personal.tankgame.domain;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
-/** Immutable wire representation used by real-time clients. */
+/**
+ * Immutable wire representation used by real-time clients.
+ *
+ * <p>{@code walls} is {@code null} in per-tick snapshots built by {@link #dynamicState}; clients
+ * receive the static walls once when they join and keep them for the rest of the match.
+ */
 public record GameStateSnapshot(
         String gameId,
         GameState.GameStatus status,
@@ -14,8 +20,20 @@ public record GameStateSnapshot(
         String winnerName,
         Map<String, TankSnapshot> tanks,
         List<ProjectileSnapshot> projectiles,
-        List<WallSnapshot> walls) {
+        @JsonInclude(JsonInclude.Include.NON_NULL) List<WallSnapshot> walls) {
     public static GameStateSnapshot from(final GameState game) {
+        return from(game, walls(game));
+    }
+
+    public static GameStateSnapshot dynamicState(final GameState game) {
+        return from(game, null);
+    }
+
+    public static List<WallSnapshot> walls(final GameState game) {
+        return game.getWalls().stream().map(WallSnapshot::from).toList();
+    }
+
+    private static GameStateSnapshot from(final GameState game, final List<WallSnapshot> walls) {
         final var tanks = new LinkedHashMap<String, TankSnapshot>();
         game.getTanks().forEach((id, tank) -> tanks.put(id, TankSnapshot.from(tank)));
         return new GameStateSnapshot(
@@ -26,8 +44,8 @@ public record GameStateSnapshot(
                 game.getWinnerId(),
                 game.getWinnerName(),
                 tanks,
-                game.getProjectiles().stream().map(ProjectileSnapshot::from).toList(),
-                game.getWalls().stream().map(WallSnapshot::from).toList());
+                game.getProjectiles(),
+                walls);
     }
 
     public record TankSnapshot(
@@ -64,12 +82,7 @@ public record GameStateSnapshot(
         }
     }
 
-    public record ProjectileSnapshot(String id, double x, double y, double radius) {
-        static ProjectileSnapshot from(final Projectile projectile) {
-            return new ProjectileSnapshot(
-                    projectile.getId(), projectile.getX(), projectile.getY(), projectile.getRadius());
-        }
-    }
+    public record ProjectileSnapshot(String id, double x, double y, double radius) {}
 
     public record WallSnapshot(double x, double y, double width, double height) {
         static WallSnapshot from(final Wall wall) {
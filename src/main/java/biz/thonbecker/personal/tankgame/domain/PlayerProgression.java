@@ -88,8 +88,8 @@ public class PlayerProgression {
         this.coins += level * 10; // 10 coins per level
     }
 
-    public void addKill() {
-        this.totalKills++;
+    public void addKills(int kills) {
+        this.totalKills += kills;
         this.updatedAt = Instant.now();
     }
 
@@ -0,0 +1,166 @@
+package biz.thonbecker.personal.tankgame.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Projectiles of one game stored as parallel primitive arrays indexed by slot. Retired slots go on a
+ * free list and are reused by the next spawn, so steady fire allocates nothing beyond a short id per
+ * shot; the arrays double when every slot is taken.
+ *
+ * <p>The pool itself is owned by the tick, which mutates it under the game lock. Other threads read
+ * {@link #view()}, an immutable list the tick publishes with {@link #publish()} at the end of each update.
+ */
+public final class ProjectilePool {
+
+    public static final double SPEED = 400; // pixels per second
+    public static final double RADIUS = 5;
+    public static final int DAMAGE = 25;
+    // Longer than a shell needs to cross the map; only a stuck shell ever burns out
+    static final double LIFETIME_SECONDS = 3;
+
+    private double[] x;
+    private double[] y;
+    private double[] velocityX;
+    private double[] velocityY;
+    private double[] ttl;
+    private String[] ownerIds;
+    private String[] ids;
+    private boolean[] live;
+    private int[] freeSlots;
+    private int freeCount;
+    private int limit;
+    private int size;
+    private long nextId;
+    private boolean changed;
+    private volatile List<GameStateSnapshot.ProjectileSnapshot> view = List.of();
+
+    public ProjectilePool(final int capacity) {
+        final var slots = Math.max(1, capacity);
+        x = new double[slots];
+        y = new double[slots];
+        velocityX = new double[slots];
+        velocityY = new double[slots];
+        ttl = new double[slots];
+        ownerIds = new String[slots];
+        ids = new String[slots];
+        live = new boolean[slots];
+        freeSlots = new int[slots];
+    }
+
+    /** Fires a projectile from ({@code x}, {@code y}) along {@code angle} radians and returns its slot. */
+    public int spawn(final String ownerId, final double x, final double y, final double angle) {
+        final int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (limit == live.length) {
+                grow();
+            }
+            slot = limit++;
+        }
+        this.x[slot] = x;
+        this.y[slot] = y;
+        velocityX[slot] = Math.cos(angle) * SPEED;
+        velocityY[slot] = Math.sin(angle) * SPEED;
+        ttl[slot] = LIFETIME_SECONDS;
+        ownerIds[slot] = ownerId;
+        ids[slot] = Long.toString(nextId++);
+        live[slot] = true;
+        size++;
+        changed = true;
+        return slot;
+    }
+
+    /** Moves the projectile in {@code slot} and burns down its lifetime. */
+    public void advance(final int slot, final double deltaTime) {
+        x[slot] += velocityX[slot] * deltaTime;
+        y[slot] += velocityY[slot] * deltaTime;
+        ttl[slot] -= deltaTime;
+        changed = true;
+    }
+
+    public void retire(final int slot) {
+        if (!live[slot]) {
+            return;
+        }
+        live[slot] = false;
+        ownerIds[slot] = null;
+        ids[slot] = null;
+        freeSlots[freeCount++] = slot;
+        size--;
+        changed = true;
+    }
+
+    /** Publishes the current projectiles for {@link #view()} if anything changed since the last call. */
+    public void publish() {
+        if (!changed) {
+            return;
+        }
+        changed = false;
+        if (size == 0) {
+            view = List.of();
+            return;
+        }
+        final var projectiles = new ArrayList<GameStateSnapshot.ProjectileSnapshot>(size);
+        for (var slot = 0; slot < limit; slot++) {
+            if (live[slot]) {
+                projectiles.add(new GameStateSnapshot.ProjectileSnapshot(ids[slot], x[slot], y[slot], RADIUS));
+            }
+        }
+        view = Collections.unmodifiableList(projectiles);
+    }
+
+    /** The projectiles as of the last {@link #publish()}; safe to read from any thread. */
+    public List<GameStateSnapshot.ProjectileSnapshot> view() {
+        return view;
+    }
+
+    /** One past the highest slot ever used; iterate {@code [0, limit())} and skip slots that aren't live. */
+    public int limit() {
+        return limit;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isLive(final int slot) {
+        return live[slot];
+    }
+
+    public boolean isBurntOut(final int slot) {
+        return ttl[slot] <= 0;
+    }
+
+    public double x(final int slot) {
+        return x[slot];
+    }
+
+    public double y(final int slot) {
+        return y[slot];
+    }
+
+    public String ownerId(final int slot) {
+        return ownerIds[slot];
+    }
+
+    public String id(final int slot) {
+        return ids[slot];
+    }
+
+    private void grow() {
+        final var capacity = live.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        velocityX = Arrays.copyOf(velocityX, capacity);
+        velocityY = Arrays.copyOf(velocityY, capacity);
+        ttl = Arrays.copyOf(ttl, capacity);
+        ownerIds = Arrays.copyOf(ownerIds, capacity);
+        ids = Arrays.copyOf(ids, capacity);
+        live = Arrays.copyOf(live, capacity);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+    }
+}
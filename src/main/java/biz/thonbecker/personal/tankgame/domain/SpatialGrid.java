@@ -0,0 +1,226 @@
+package biz.thonbecker.personal.tankgame.domain;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/**
+ * Uniform-grid spatial index over the arena.
+ *
+ * <p>Walls are bucketed once when the grid is built. Tanks are re-bucketed at the start of every
+ * tick with {@link #indexTanks} and kept current with {@link #moveTank} while they move, so each
+ * query only tests the objects sharing a cell with the probe. Every query returns exactly what a
+ * full scan over the game's walls and tanks would return.
+ *
+ * <p>Not thread-safe: callers mutate and query it while holding the game's monitor.
+ */
+public class SpatialGrid {
+
+    public static final double DEFAULT_CELL_SIZE = 40;
+
+    // Line-of-sight sampling step in pixels, kept identical to the original bot visibility check
+    private static final double SIGHT_STEP = 8;
+
+    private final double cellSize;
+    private final int columns;
+    private final int rows;
+    private final List<List<Wall>> wallCells;
+    private final List<List<Tank>> tankCells;
+    private final Map<String, CellRange> tankRanges = new HashMap<>();
+    private final Map<String, Integer> tankOrder = new HashMap<>();
+
+    public SpatialGrid(double width, double height, double cellSize, Collection<Wall> walls) {
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (int) Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        this.wallCells = emptyCells(columns * rows);
+        this.tankCells = emptyCells(columns * rows);
+        for (Wall wall : walls) {
+            CellRange range =
+                    range(wall.getX(), wall.getY(), wall.getX() + wall.getWidth(), wall.getY() + wall.getHeight());
+            range.forEachCell(columns, cell -> wallCells.get(cell).add(wall));
+        }
+    }
+
+    /**
+     * Rebuilds the tank buckets. Iteration order of {@code tanks} is remembered so that
+     * {@link #findProjectileHit} resolves ties the same way a scan over the same collection would.
+     */
+    public void indexTanks(Collection<Tank> tanks) {
+        tankCells.forEach(List::clear);
+        tankRanges.clear();
+        tankOrder.clear();
+        for (Tank tank : tanks) {
+            tankOrder.put(tank.getId(), tankOrder.size());
+            CellRange range = range(tank);
+            tankRanges.put(tank.getId(), range);
+            range.forEachCell(columns, cell -> tankCells.get(cell).add(tank));
+        }
+    }
+
+    /** Moves a tank to the buckets covering its current position. */
+    public void moveTank(Tank tank) {
+        CellRange next = range(tank);
+        CellRange previous = tankRanges.put(tank.getId(), next);
+        if (next.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            previous.forEachCell(
+                    columns, cell -> tankCells.get(cell).removeIf(other -> other.getId().equals(tank.getId())));
+        } else {
+            tankOrder.putIfAbsent(tank.getId(), tankOrder.size());
+        }
+        next.forEachCell(columns, cell -> tankCells.get(cell).add(tank));
+    }
+
+    public boolean collidesWithWall(Tank tank) {
+        CellRange range = range(tank);
+        for (int row = range.minRow(); row <= range.maxRow(); row++) {
+            for (int column = range.minColumn(); column <= range.maxColumn(); column++) {
+                for (Wall wall : wallCells.get(row * columns + column)) {
+                    if (tank.collidesWith(wall)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /** Whether a circle of {@code radius} around ({@code x}, {@code y}) overlaps any wall. */
+    public boolean collidesWithWall(double x, double y, double radius) {
+        CellRange range = range(x, y, radius);
+        for (int row = range.minRow(); row <= range.maxRow(); row++) {
+            for (int column = range.minColumn(); column <= range.maxColumn(); column++) {
+                for (Wall wall : wallCells.get(row * columns + column)) {
+                    if (circleOverlaps(x, y, radius, wall.getX(), wall.getY(), wall.getWidth(), wall.getHeight())) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /** Whether {@code tank} overlaps any other living tank. */
+    public boolean collidesWithOtherTank(Tank tank) {
+        CellRange range = range(tank);
+        for (int row = range.minRow(); row <= range.maxRow(); row++) {
+            for (int column = range.minColumn(); column <= range.maxColumn(); column++) {
+                for (Tank other : tankCells.get(row * columns + column)) {
+                    if (!other.getId().equals(tank.getId()) && other.isAlive() && tank.collidesWith(other)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the living tank hit by a projectile of {@code radius} at ({@code x}, {@code y}), ignoring
+     * its owner, or {@code null}. When several tanks overlap the projectile the first one in indexing
+     * order wins.
+     */
+    public Tank findProjectileHit(String ownerId, double x, double y, double radius) {
+        CellRange range = range(x, y, radius);
+        Tank hit = null;
+        int hitOrder = Integer.MAX_VALUE;
+        for (int row = range.minRow(); row <= range.maxRow(); row++) {
+            for (int column = range.minColumn(); column <= range.maxColumn(); column++) {
+                for (Tank tank : tankCells.get(row * columns + column)) {
+                    if (tank.getId().equals(ownerId) || !tank.isAlive()) {
+                        continue;
+                    }
+                    int order = tankOrder.getOrDefault(tank.getId(), Integer.MAX_VALUE);
+                    if (order < hitOrder && circleOverlaps(x, y, radius, tank)) {
+                        hit = tank;
+                        hitOrder = order;
+                    }
+                }
+            }
+        }
+        return hit;
+    }
+
+    /** Whether the point lies inside or on the edge of any wall. */
+    public boolean isBlocked(double x, double y) {
+        for (Wall wall : wallCells.get(row(y) * columns + column(x))) {
+            if (x >= wall.getX()
+                    && x <= wall.getX() + wall.getWidth()
+                    && y >= wall.getY()
+                    && y <= wall.getY() + wall.getHeight()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Samples the segment every {@value #SIGHT_STEP} pixels and reports whether no wall blocks it. */
+    public boolean hasLineOfSight(double startX, double startY, double endX, double endY) {
+        int samples = Math.max(1, (int) (Math.hypot(endX - startX, endY - startY) / SIGHT_STEP));
+        for (int i = 1; i < samples; i++) {
+            double fraction = (double) i / samples;
+            double x = startX + (endX - startX) * fraction;
+            double y = startY + (endY - startY) * fraction;
+            if (isBlocked(x, y)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private CellRange range(Tank tank) {
+        return range(tank.getX(), tank.getY(), tank.getX() + tank.getWidth(), tank.getY() + tank.getHeight());
+    }
+
+    private CellRange range(double x, double y, double radius) {
+        return range(x - radius, y - radius, x + radius, y + radius);
+    }
+
+    private static boolean circleOverlaps(double x, double y, double radius, Tank tank) {
+        return circleOverlaps(x, y, radius, tank.getX(), tank.getY(), tank.getWidth(), tank.getHeight());
+    }
+
+    /** Circle-rectangle overlap: the closest point of the rectangle lies within {@code radius}. */
+    private static boolean circleOverlaps(
+            double x, double y, double radius, double left, double top, double width, double height) {
+        double distanceX = x - Math.max(left, Math.min(x, left + width));
+        double distanceY = y - Math.max(top, Math.min(y, top + height));
+        return distanceX * distanceX + distanceY * distanceY < radius * radius;
+    }
+
+    private CellRange range(double minX, double minY, double maxX, double maxY) {
+        return new CellRange(column(minX), row(minY), column(maxX), row(maxY));
+    }
+
+    private int column(double x) {
+        return Math.clamp((long) Math.floor(x / cellSize), 0, columns - 1);
+    }
+
+    private int row(double y) {
+        return Math.clamp((long) Math.floor(y / cellSize), 0, rows - 1);
+    }
+
+    private static <T> List<List<T>> emptyCells(int count) {
+        List<List<T>> cells = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            cells.add(new ArrayList<>(2));
+        }
+        return cells;
+    }
+
+    private record CellRange(int minColumn, int minRow, int maxColumn, int maxRow) {
+        void forEachCell(int columns, IntConsumer action) {
+            for (int row = minRow; row <= maxRow; row++) {
+                for (int column = minColumn; column <= maxColumn; column++) {
+                    action.accept(row * columns + column);
+                }
+            }
+        }
+    }
+}
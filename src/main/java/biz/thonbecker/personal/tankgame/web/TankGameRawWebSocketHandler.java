@@ -1,24 +1,41 @@
 package biz.thonbecker.personal.tankgame.web;
 
 import biz.thonbecker.personal.tankgame.application.TankGameService;
+import biz.thonbecker.personal.tankgame.domain.DeltaStateEncoder;
 import biz.thonbecker.personal.tankgame.domain.GameState;
 import biz.thonbecker.personal.tankgame.domain.GameStateSnapshot;
 import biz.thonbecker.personal.tankgame.domain.PlayerInput;
 import biz.thonbecker.personal.tankgame.domain.Tank;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.SubProtocolCapable;
 import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 
+/**
+ * Raw WebSocket endpoint for the Godot client. Requests are JSON text frames. State frames are JSON unless
+ * the client negotiates the {@value #BINARY_PROTOCOL} subprotocol on connect, in which case they are
+ * binary frames from {@link biz.thonbecker.personal.tankgame.domain.BinaryStateCodec}, delta-encoded
+ * against the last tick the client acknowledged with an {@code ack} field on any request. Acknowledgements
+ * only count for frames sent to the session in its current game.
+ */
 @Component
 @Slf4j
-class TankGameRawWebSocketHandler extends TextWebSocketHandler {
+class TankGameRawWebSocketHandler extends TextWebSocketHandler implements SubProtocolCapable {
+
+    static final String BINARY_PROTOCOL = "ironbound.delta.v1";
 
     private final TankGameService tankGameService;
     private final ObjectMapper objectMapper;
@@ -28,6 +45,11 @@ class TankGameRawWebSocketHandler extends TextWebSocketHandler {
     private final Map<String, Object> sessionLocks = new ConcurrentHashMap<>();
     private final Map<String, Long> lastInputTimes = new ConcurrentHashMap<>();
     private final Map<String, Long> lastInputSequences = new ConcurrentHashMap<>();
+    private final Set<String> binarySessions = ConcurrentHashMap.newKeySet();
+    private final Map<String, Baseline> baselines = new ConcurrentHashMap<>();
+    // Only touched by the broadcast thread
+    private final Map<String, DeltaStateEncoder> encoders = new HashMap<>();
+    private volatile int tick;
     private static final long MIN_INPUT_INTERVAL_MS = 20;
 
     TankGameRawWebSocketHandler(final TankGameService tankGameService, final ObjectMapper objectMapper) {
@@ -35,17 +57,38 @@ class TankGameRawWebSocketHandler extends TextWebSocketHandler {
         this.objectMapper = objectMapper;
     }
 
+    @Override
+    public List<String> getSubProtocols() {
+        return List.of(BINARY_PROTOCOL);
+    }
+
     @Override
     public void afterConnectionEstablished(final WebSocketSession session) throws Exception {
         sessions.put(session.getId(), session);
         sessionLocks.put(session.getId(), new Object());
-        send(session, Map.of("type", "connected", "message", "Ironbound Online connected"));
+        final var binary = BINARY_PROTOCOL.equals(session.getAcceptedProtocol());
+        if (binary) {
+            binarySessions.add(session.getId());
+        }
+        send(
+                session,
+                Map.of(
+                        "type",
+                        "connected",
+                        "message",
+                        "Ironbound Online connected",
+                        "protocol",
+                        binary ? BINARY_PROTOCOL : "json"));
     }
 
     @Override
     protected void handleTextMessage(final WebSocketSession session, final TextMessage message) throws Exception {
         final JsonNode request = objectMapper.readTree(message.getPayload());
         final String action = request.path("action").asText();
+        final var ack = request.path("ack");
+        if (ack.isIntegralNumber()) {
+            baselines.computeIfPresent(session.getId(), (id, baseline) -> baseline.acknowledge(ack.asInt()));
+        }
 
         switch (action) {
             case "queue" ->
@@ -55,6 +98,9 @@ class TankGameRawWebSocketHandler extends TextWebSocketHandler {
                         request.path("loadoutId").asText("striker"));
             case "input" -> updateInput(session, request);
             case "leave" -> leave(session);
+            case "ack" -> {
+                // handled above; lets a client acknowledge without sending input
+            }
             default -> send(session, Map.of("type", "error", "message", "Unknown action: " + action));
         }
     }
@@ -67,6 +113,7 @@ class TankGameRawWebSocketHandler extends TextWebSocketHandler {
         sessionLocks.remove(session.getId());
         lastInputTimes.remove(session.getId());
         lastInputSequences.remove(session.getId());
+        binarySessions.remove(session.getId());
     }
 
     private void joinQueue(final WebSocketSession session, final String playerName, final String loadoutId)
@@ -74,9 +121,15 @@ class TankGameRawWebSocketHandler extends TextWebSocketHandler {
         leave(session);
         final GameState game = tankGameService.findOrCreateWaitingGame();
         final Tank tank = tankGameService.joinGame(game.getGameId(), playerName, loadoutId);
-        sessionGames.put(session.getId(), game.getGameId());
-        sessionTanks.put(session.getId(), tank.getId());
-        send(session, Map.of("type", "joined", "gameId", game.getGameId(), "tankId", tank.getId()));
+        // Under the session lock, so a state frame of the previous game can't go out after the switch
+        synchronized (sessionLock(session)) {
+            sessionGames.put(session.getId(), game.getGameId());
+            sessionTanks.put(session.getId(), tank.getId());
+            baselines.put(session.getId(), new Baseline(game.getGameId()));
+        }
+        // Walls never change during a match, so they travel once here instead of in every state frame
+        final var walls = GameStateSnapshot.walls(game);
+        send(session, Map.of("type", "joined", "gameId", game.getGameId(), "tankId", tank.getId(), "walls", walls));
     }
 
     private void updateInput(final WebSocketSession session, final JsonNode request) throws Exception {
@@ -111,6 +164,7 @@ class TankGameRawWebSocketHandler extends TextWebSocketHandler {
         final String tankId = sessionTanks.remove(session.getId());
         lastInputTimes.remove(session.getId());
         lastInputSequences.remove(session.getId());
+        baselines.remove(session.getId());
         if (gameId != null && tankId != null) {
             tankGameService.leaveGame(gameId, tankId);
         }
@@ -118,29 +172,114 @@ class TankGameRawWebSocketHandler extends TextWebSocketHandler {
 
     @Scheduled(fixedRate = 50)
     void broadcastStates() {
+        final Map<String, List<WebSocketSession>> sessionsByGame = new HashMap<>();
         sessions.values().forEach(session -> {
             final String gameId = sessionGames.get(session.getId());
-            if (gameId == null || !session.isOpen()) {
-                return;
+            if (gameId != null && session.isOpen()) {
+                sessionsByGame.computeIfAbsent(gameId, ignored -> new ArrayList<>()).add(session);
             }
-            final GameState game = tankGameService.getGame(gameId);
-            if (game == null) {
+        });
+
+        // Tick numbers are never reused, so an acknowledgement can't match a baseline from an earlier encoder
+        tick++;
+        sessionsByGame.forEach(this::broadcastState);
+        encoders.keySet().retainAll(sessionsByGame.keySet());
+    }
+
+    private void broadcastState(final String gameId, final List<WebSocketSession> gameSessions) {
+        final GameState game = tankGameService.getGame(gameId);
+        if (game == null) {
+            return;
+        }
+        final GameStateSnapshot snapshot;
+        synchronized (game) {
+            snapshot = GameStateSnapshot.dynamicState(game);
+        }
+        // At most one JSON serialization and one binary frame per baseline per game, shared across sessions
+        TextMessage jsonFrame = null;
+        DeltaStateEncoder encoder = null;
+        for (final var session : gameSessions) {
+            final WebSocketMessage<?> frame;
+            try {
+                if (binarySessions.contains(session.getId())) {
+                    if (encoder == null) {
+                        encoder = encoders.computeIfAbsent(gameId, ignored -> new DeltaStateEncoder());
+                        encoder.advance(tick, snapshot);
+                    }
+                    // Each session reads its own buffer position, so only the bytes are shared
+                    final var baseline = baselines.get(session.getId());
+                    final var acknowledged =
+                            baseline != null && gameId.equals(baseline.gameId()) ? baseline.acknowledgedTick() : 0;
+                    frame = new BinaryMessage(encoder.encode(acknowledged));
+                } else {
+                    if (jsonFrame == null) {
+                        jsonFrame = toMessage(Map.of("type", "state", "game", snapshot));
+                    }
+                    frame = jsonFrame;
+                }
+            } catch (Exception e) {
+                log.warn("Could not serialize tank game state for {}: {}", gameId, e.getMessage());
                 return;
             }
             try {
-                synchronized (game) {
-                    send(session, Map.of("type", "state", "game", GameStateSnapshot.from(game)));
-                }
+                sendState(session, gameId, frame);
             } catch (Exception e) {
                 log.debug("Could not send tank game state to {}: {}", session.getId(), e.getMessage());
             }
-        });
+        }
     }
 
     private void send(final WebSocketSession session, final Object payload) throws Exception {
-        final var lock = sessionLocks.computeIfAbsent(session.getId(), ignored -> new Object());
-        synchronized (lock) {
-            if (session.isOpen()) session.sendMessage(new TextMessage(objectMapper.writeValueAsString(payload)));
+        send(session, toMessage(payload));
+    }
+
+    private void send(final WebSocketSession session, final WebSocketMessage<?> message) throws Exception {
+        synchronized (sessionLock(session)) {
+            if (session.isOpen()) session.sendMessage(message);
+        }
+    }
+
+    /** Sends a state frame of {@code gameId} for the current tick, unless the session has left that game. */
+    private void sendState(final WebSocketSession session, final String gameId, final WebSocketMessage<?> frame)
+            throws Exception {
+        synchronized (sessionLock(session)) {
+            // The session may have switched games since this broadcast grouped it
+            final var baseline = baselines.computeIfPresent(
+                    session.getId(), (id, current) -> gameId.equals(current.gameId()) ? current.sent(tick) : current);
+            if (baseline != null && gameId.equals(baseline.gameId()) && session.isOpen()) {
+                session.sendMessage(frame);
+            }
+        }
+    }
+
+    private Object sessionLock(final WebSocketSession session) {
+        return sessionLocks.computeIfAbsent(session.getId(), ignored -> new Object());
+    }
+
+    private TextMessage toMessage(final Object payload) {
+        return new TextMessage(objectMapper.writeValueAsString(payload));
+    }
+
+    /**
+     * A session's current game and the ticks it was sent frames for in that game. Only an acknowledgement
+     * of one of those ticks becomes its delta baseline, so a late acknowledgement from a previous game, or
+     * of a tick it never received, can't make the encoder send a delta the client can't apply.
+     */
+    private record Baseline(String gameId, int firstSentTick, int lastSentTick, int acknowledgedTick) {
+
+        Baseline(final String gameId) {
+            this(gameId, 0, 0, 0);
+        }
+
+        Baseline sent(final int tick) {
+            return new Baseline(gameId, firstSentTick == 0 ? tick : firstSentTick, tick, acknowledgedTick);
+        }
+
+        Baseline acknowledge(final int tick) {
+            final var received = firstSentTick > 0 && tick >= firstSentTick && tick <= lastSentTick;
+            return received && tick > acknowledgedTick
+                    ? new Baseline(gameId, firstSentTick, lastSentTick, tick)
+                    : this;
         }
     }
 }
@@ -0,0 +1,26 @@
+package biz.thonbecker.personal.trivia.api;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * Incremental change to a running quiz, sent to its players instead of the full {@link QuizState}.
+ * Serialized with a {@code type} discriminator.
+ * This is a public API type that can be shared with other modules.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({
+    @JsonSubTypes.Type(value = QuizUpdate.PlayerAnswered.class, name = "PLAYER_ANSWERED"),
+    @JsonSubTypes.Type(value = QuizUpdate.ScoreChanged.class, name = "SCORE_CHANGED"),
+    @JsonSubTypes.Type(value = QuizUpdate.QuestionAdvanced.class, name = "QUESTION_ADVANCED")
+})
+public sealed interface QuizUpdate {
+
+    /** A player locked in an answer; whether it was right is only revealed by a {@link ScoreChanged}. */
+    record PlayerAnswered(String playerId, Long questionId) implements QuizUpdate {}
+
+    record ScoreChanged(String playerId, int score) implements QuizUpdate {}
+
+    record QuestionAdvanced(QuizQuestionState currentQuestion, int currentQuestionNumber, int totalQuestions)
+            implements QuizUpdate {}
+}
@@ -1,3 +0,0 @@
-package biz.thonbecker.personal.trivia.api;
-
-public record TriviaAnswerSubmittedEvent(String distinctId, Long quizId, Long questionId, boolean correct) {}
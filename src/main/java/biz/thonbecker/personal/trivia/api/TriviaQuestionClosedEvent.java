@@ -0,0 +1,21 @@
+package biz.thonbecker.personal.trivia.api;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Domain event published once per question when the quiz moves past it, summarizing every answer it
+ * received. Replaces one event per answer, so a quiz publishes as many of these as it has questions
+ * regardless of how many players it has.
+ */
+public record TriviaQuestionClosedEvent(
+        Long quizId,
+        Long questionId,
+        int questionNumber,
+        int playerCount,
+        int answeredCount,
+        int correctCount,
+        List<PlayerAnswer> answers,
+        Instant closedAt) {
+    public record PlayerAnswer(String playerId, boolean correct) {}
+}
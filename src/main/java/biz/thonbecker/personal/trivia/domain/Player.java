@@ -8,5 +8,11 @@ import lombok.NoArgsConstructor;
 public class Player {
     private String id;
     private String name;
-    private int score = 0;
+    private volatile int score = 0;
+
+    /** Adds {@code points} atomically and returns the new score. */
+    public synchronized int addScore(int points) {
+        score += points;
+        return score;
+    }
 }
@@ -1,7 +1,10 @@
 package biz.thonbecker.personal.trivia.domain;
 
-import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -10,14 +13,21 @@ import lombok.Setter;
 public class Quiz {
     private final Long id;
     private final String title;
-    private final List<Question> questions;
+    private List<Question> questions;
     private final int timePerQuestionInSeconds;
     private final QuizDifficulty difficulty;
-    private final List<Player> players = new ArrayList<>();
+    // Keyed by player ID so answers and joins don't scan the roster; kept in join order, which breaks
+    // ties for the winner and placements. Guarded by this quiz's lock.
+    private final Map<String, Player> players = new LinkedHashMap<>();
     private QuizStatus status = QuizStatus.CREATED;
     private int currentQuestionIndex = -1;
     private String creatorId; // ID of the player who created the quiz
 
+    // Answers to the current question only; replaced whenever the question changes
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile QuestionAnswers answers = new QuestionAnswers(null);
+
     public Quiz(
             Long id, String title, List<Question> questions, int timePerQuestionInSeconds, QuizDifficulty difficulty) {
         this.id = id;
@@ -27,6 +37,23 @@ public class Quiz {
         this.difficulty = difficulty;
     }
 
+    public synchronized List<Player> getPlayers() {
+        return List.copyOf(players.values());
+    }
+
+    public synchronized Player getPlayer(String playerId) {
+        return players.get(playerId);
+    }
+
+    /**
+     * Adds the player unless one with the same ID has already joined.
+     *
+     * @return true if the player was added
+     */
+    public synchronized boolean addPlayer(Player player) {
+        return players.putIfAbsent(player.getId(), player) == null;
+    }
+
     public Question getCurrentQuestion() {
         if (currentQuestionIndex >= 0 && currentQuestionIndex < questions.size()) {
             return questions.get(currentQuestionIndex);
@@ -34,11 +61,54 @@ public class Quiz {
         return null;
     }
 
+    public void start() {
+        status = QuizStatus.IN_PROGRESS;
+        currentQuestionIndex = 0;
+        answers = new QuestionAnswers(getCurrentQuestion());
+    }
+
     public void nextQuestion() {
         if (currentQuestionIndex < questions.size() - 1) {
             currentQuestionIndex++;
+            answers = new QuestionAnswers(getCurrentQuestion());
         } else {
             status = QuizStatus.COMPLETED;
         }
     }
+
+    /**
+     * Records a player's answer to the open question.
+     *
+     * @return false if {@code questionId} isn't the open question or the player already answered it
+     */
+    public boolean recordAnswer(Long questionId, String playerId, boolean correct) {
+        final var open = answers;
+        return open.questionId() != null
+                && open.questionId().equals(questionId)
+                && open.byPlayer().putIfAbsent(playerId, correct) == null;
+    }
+
+    /**
+     * Stops taking answers for the open question.
+     *
+     * @return whether each player who answered was correct, by player ID
+     */
+    public Map<String, Boolean> closeQuestion() {
+        final var closed = answers;
+        answers = new QuestionAnswers(null);
+        return closed.byPlayer();
+    }
+
+    /** Drops the players and questions once the quiz has left the registry. */
+    public synchronized void release() {
+        players.clear();
+        questions = List.of();
+        answers = new QuestionAnswers(null);
+    }
+
+    private record QuestionAnswers(Long questionId, Map<String, Boolean> byPlayer) {
+        private QuestionAnswers(Question question) {
+            this(question != null ? question.getId() : null, new ConcurrentHashMap<>());
+        }
+    }
 }
@@ -4,5 +4,6 @@ public enum QuizStatus {
     CREATED,
     WAITING,
     IN_PROGRESS,
-    COMPLETED
+    COMPLETED,
+    ABANDONED
 }
@@ -3,97 +3,176 @@ package biz.thonbecker.personal.trivia.platform;
 import biz.thonbecker.personal.trivia.domain.Question;
 import biz.thonbecker.personal.trivia.domain.QuizDifficulty;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.springframework.ai.chat.client.AdvisorParams;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.model.ChatModel;
 import org.springframework.ai.openai.OpenAiChatOptions;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 /**
  * Generates Financial Peace trivia questions using AI.
  * Package-private to enforce module boundaries.
+ *
+ * <p>Quizzes are served from the {@link QuestionPool}, never from the model directly. A scheduled job
+ * seeds an empty pool with the hardcoded questions and then tops every difficulty up to
+ * {@code target-size} with AI-generated batches. The hardcoded questions also fill in if the pool is
+ * short or unavailable.
  */
 @Component
 @Slf4j
 class FinancialPeaceQuestionGenerator implements QuestionGenerator {
 
+    static final String SOURCE_SEED = "SEED";
+    static final String SOURCE_MODEL = "MODEL";
+
     private final ChatClient chatClient;
     private final String model;
-    private final AtomicLong questionIdGenerator = new AtomicLong(1);
+    private final QuestionPool questionPool;
+    private final int targetSize;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    // Fallback questions count down from -1 so they never collide with pooled question IDs in one quiz
+    private final AtomicLong fallbackIdGenerator = new AtomicLong();
 
     @Autowired(required = false)
     public FinancialPeaceQuestionGenerator(
             ChatModel chatModel,
-            @Value("${trivia.ai.model:${PERSONAL_OPENAI_TRIVIA_MODEL:gpt-4o-mini}}") String model) {
+            @Value("${trivia.ai.model:${PERSONAL_OPENAI_TRIVIA_MODEL:gpt-4o-mini}}") String model,
+            QuestionPool questionPool,
+            @Value("${trivia.question-pool.target-size:200}") int targetSize,
+            @Value("${trivia.question-pool.batch-size:10}") int batchSize,
+            @Value("${trivia.question-pool.max-batches-per-run:5}") int maxBatchesPerRun) {
         this.chatClient = chatModel != null ? ChatClient.create(chatModel) : null;
         this.model = model;
+        this.questionPool = questionPool;
+        this.targetSize = targetSize;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxBatchesPerRun = Math.max(1, maxBatchesPerRun);
     }
 
-    public List<Question> generateQuestions(int count, QuizDifficulty difficulty) {
-        if (chatClient == null) {
-            log.warn("ChatModel not configured, using fallback questions");
-            return generateFallbackQuestions(count);
+    @Override
+    public List<Question> generateQuestions(int count, QuizDifficulty difficulty, Collection<String> playerIds) {
+        List<Question> questions;
+        try {
+            questions = questionPool.draw(count, difficulty, playerIds);
+        } catch (Exception e) {
+            log.error("Error drawing from the question pool, falling back to hardcoded questions", e);
+            questions = List.of();
         }
 
-        try {
-            log.info("Generating {} {} questions about Financial Peace by Dave Ramsey", count, difficulty);
-
-            final var responses = chatClient
-                    .prompt()
-                    .advisors(AdvisorParams.ENABLE_NATIVE_STRUCTURED_OUTPUT)
-                    .options(OpenAiChatOptions.builder().model(model).maxTokens(2048))
-                    .user(u -> u.text("""
-                            You are a financial literacy expert specializing in Dave Ramsey's Financial Peace principles.
-                            Generate {count} multiple-choice trivia questions about Dave Ramsey's Financial Peace teachings.
-                            Return the questions in the questions field.
-
-                            Difficulty level: {difficulty}
-
-                            Topics to cover:
-                            - The 7 Baby Steps
-                            - Emergency Fund principles
-                            - Debt Snowball method
-                            - Budgeting strategies
-                            - Saving and investing principles
-                            - Insurance recommendations
-                            - Wealth building
-
-                            For each question, provide:
-                            1. A clear question text
-                            2. Exactly 4 answer options
-                            3. The index (0-3) of the correct answer
-
-                            Make sure the questions are accurate to Dave Ramsey's actual teachings.
-                            Difficulty guidelines:
-                            - EASY: Basic concepts and definitions
-                            - MEDIUM: Application of principles and multi-step thinking
-                            - HARD: Detailed scenarios and edge cases
-                            """).param("count", String.valueOf(count)).param("difficulty", difficulty.name()))
-                    .call()
-                    .entity(QuestionBatch.class)
-                    .questions();
-
-            final var questions = responses.stream()
-                    .map(q -> new Question(
-                            questionIdGenerator.incrementAndGet(),
-                            q.questionText(),
-                            q.options(),
-                            q.correctAnswerIndex()))
-                    .toList();
-
-            log.info("Successfully generated {} AI questions", questions.size());
-            return questions;
+        if (questions.size() < count) {
+            log.warn("Question pool has only {} {} questions, topping up with fallback", questions.size(), difficulty);
+            final var fingerprints = new HashSet<String>();
+            questions.forEach(q -> fingerprints.add(QuestionPool.fingerprint(q.getQuestionText())));
+            final var combined = new ArrayList<>(questions);
+            for (final var fallback : generateFallbackQuestions(count)) {
+                if (combined.size() < count && fingerprints.add(QuestionPool.fingerprint(fallback.getQuestionText()))) {
+                    combined.add(fallback);
+                }
+            }
+            questions = combined;
+        }
+        return questions;
+    }
 
-        } catch (Exception e) {
-            log.error("Error generating AI questions, falling back to hardcoded questions", e);
-            return generateFallbackQuestions(count);
+    @Override
+    public void recordShown(Collection<String> playerIds, List<Question> questions) {
+        questionPool.recordShown(playerIds, questions);
+    }
+
+    @Scheduled(
+            initialDelayString = "${trivia.question-pool.initial-delay:PT10S}",
+            fixedDelayString = "${trivia.question-pool.refill-interval:PT10M}")
+    @SchedulerLock(name = "refillTriviaQuestionPool", lockAtMostFor = "PT10M")
+    public void refillPool() {
+        refill();
+    }
+
+    void refill() {
+        for (final var difficulty : QuizDifficulty.values()) {
+            try {
+                refill(difficulty);
+            } catch (Exception e) {
+                log.error("Error refilling the {} question pool", difficulty, e);
+            }
+        }
+    }
+
+    private void refill(QuizDifficulty difficulty) {
+        var size = questionPool.size(difficulty);
+        if (size == 0) {
+            size += questionPool.add(difficulty, generateFallbackQuestions(Integer.MAX_VALUE), SOURCE_SEED);
+        }
+        if (chatClient == null) {
+            return;
         }
+        for (var batch = 0; batch < maxBatchesPerRun && size < targetSize; batch++) {
+            final var requested = (int) Math.min(batchSize, targetSize - size);
+            final var added = questionPool.add(difficulty, requestQuestions(requested, difficulty), SOURCE_MODEL);
+            if (added == 0) {
+                // The model is only repeating itself; try again next run
+                break;
+            }
+            size += added;
+        }
+    }
+
+    private List<Question> requestQuestions(int count, QuizDifficulty difficulty) {
+        log.info("Generating {} {} questions about Financial Peace by Dave Ramsey", count, difficulty);
+
+        final var responses = chatClient
+                .prompt()
+                .advisors(AdvisorParams.ENABLE_NATIVE_STRUCTURED_OUTPUT)
+                .options(OpenAiChatOptions.builder().model(model).maxTokens(2048))
+                .user(u -> u.text("""
+                        You are a financial literacy expert specializing in Dave Ramsey's Financial Peace principles.
+                        Generate {count} multiple-choice trivia questions about Dave Ramsey's Financial Peace teachings.
+                        Return the questions in the questions field.
+
+                        Difficulty level: {difficulty}
+
+                        Topics to cover:
+                        - The 7 Baby Steps
+                        - Emergency Fund principles
+                        - Debt Snowball method
+                        - Budgeting strategies
+                        - Saving and investing principles
+                        - Insurance recommendations
+                        - Wealth building
+
+                        For each question, provide:
+                        1. A clear question text
+                        2. Exactly 4 answer options
+                        3. The index (0-3) of the correct answer
+
+                        Make sure the questions are accurate to Dave Ramsey's actual teachings.
+                        Difficulty guidelines:
+                        - EASY: Basic concepts and definitions
+                        - MEDIUM: Application of principles and multi-step thinking
+                        - HARD: Detailed scenarios and edge cases
+                        """).param("count", String.valueOf(count)).param("difficulty", difficulty.name()))
+                .call()
+                .entity(QuestionBatch.class)
+                .questions();
+
+        final var questions = responses == null
+                ? List.<Question>of()
+                : responses.stream()
+                        .map(q -> new Question(null, q.questionText(), q.options(), q.correctAnswerIndex()))
+                        .toList();
+
+        log.info("Received {} AI questions", questions.size());
+        return questions;
     }
 
     private record QuestionResponse(String questionText, List<String> options, int correctAnswerIndex) {}
@@ -183,7 +262,7 @@ class FinancialPeaceQuestionGenerator implements QuestionGenerator {
         for (int i = 0; i < questionsToGenerate; i++) {
             int idx = indices.get(i);
             result.add(new Question(
-                    questionIdGenerator.incrementAndGet(), questions[idx], List.of(options[idx]), correctAnswers[idx]));
+                    fallbackIdGenerator.decrementAndGet(), questions[idx], List.of(options[idx]), correctAnswers[idx]));
         }
 
         return result;
@@ -2,6 +2,7 @@ package biz.thonbecker.personal.trivia.platform;
 
 import biz.thonbecker.personal.trivia.domain.Question;
 import biz.thonbecker.personal.trivia.domain.QuizDifficulty;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -9,5 +10,9 @@ import java.util.List;
  * This is NOT part of the public API.
  */
 interface QuestionGenerator {
-    List<Question> generateQuestions(int count, QuizDifficulty difficulty);
+    /** Questions for a new quiz, preferring ones {@code playerIds} haven't been shown recently. */
+    List<Question> generateQuestions(int count, QuizDifficulty difficulty, Collection<String> playerIds);
+
+    /** Notes that {@code questions} were shown to {@code playerIds}. */
+    default void recordShown(Collection<String> playerIds, List<Question> questions) {}
 }
@@ -0,0 +1,193 @@
+package biz.thonbecker.personal.trivia.platform;
+
+import biz.thonbecker.personal.trivia.domain.Question;
+import biz.thonbecker.personal.trivia.domain.QuizDifficulty;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.SequencedSet;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Persistent pool of validated questions per difficulty that quizzes are drawn from.
+ *
+ * <p>Questions are deduplicated by a fingerprint of their normalized text. Every draw is remembered per
+ * player for the last {@code recent-per-player} questions, and later draws for the same players prefer
+ * questions none of them has seen; when the pool runs short, seen questions fill the remainder.
+ */
+@Component
+@Slf4j
+class QuestionPool {
+
+    static final int OPTION_COUNT = 4;
+    private static final int MAX_TEXT_LENGTH = 500;
+
+    private final QuestionPoolRepository repository;
+    private final int recentPerPlayer;
+    private final Cache<String, SequencedSet<Long>> recentlyShown;
+
+    QuestionPool(
+            QuestionPoolRepository repository,
+            @Value("${trivia.question-pool.recent-per-player:100}") int recentPerPlayer,
+            @Value("${trivia.question-pool.recent-retention:7d}") Duration recentRetention) {
+        this.repository = repository;
+        this.recentPerPlayer = Math.max(0, recentPerPlayer);
+        this.recentlyShown = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterAccess(recentRetention)
+                .build();
+    }
+
+    long size(QuizDifficulty difficulty) {
+        return repository.countByDifficulty(difficulty.name());
+    }
+
+    /**
+     * Picks up to {@code count} distinct questions at random, avoiding those recently shown to any of
+     * {@code playerIds}, and remembers them as shown to those players.
+     */
+    List<Question> draw(int count, QuizDifficulty difficulty, Collection<String> playerIds) {
+        final var seen = new HashSet<Long>();
+        playerIds.forEach(playerId -> {
+            final var shown = recentlyShown.getIfPresent(playerId);
+            if (shown != null) {
+                seen.addAll(shown);
+            }
+        });
+
+        final var fresh = new ArrayList<Long>();
+        final var stale = new ArrayList<Long>();
+        for (final var id : repository.findIdsByDifficulty(difficulty.name())) {
+            (seen.contains(id) ? stale : fresh).add(id);
+        }
+        Collections.shuffle(fresh);
+        Collections.shuffle(stale);
+        fresh.addAll(stale);
+
+        final var picked = fresh.subList(0, Math.min(count, fresh.size()));
+        // The database returns rows in its own order, usually by id, so put them back in the shuffled order
+        final var entities = new HashMap<Long, QuestionPoolEntity>();
+        repository.findAllById(picked).forEach(entity -> entities.put(entity.getId(), entity));
+        final var questions = picked.stream()
+                .map(entities::get)
+                .filter(Objects::nonNull)
+                .map(entity -> new Question(
+                        entity.getId(),
+                        entity.getQuestionText(),
+                        List.copyOf(entity.getOptions()),
+                        entity.getCorrectAnswerIndex()))
+                .toList();
+        recordShown(playerIds, questions);
+        return questions;
+    }
+
+    void recordShown(Collection<String> playerIds, Collection<Question> questions) {
+        if (recentPerPlayer == 0 || questions.isEmpty()) {
+            return;
+        }
+        final var ids = questions.stream().map(Question::getId).toList();
+        for (final var playerId : playerIds) {
+            recentlyShown.asMap().compute(playerId, (id, shown) -> {
+                final var updated = shown == null ? new LinkedHashSet<Long>() : new LinkedHashSet<>(shown);
+                ids.forEach(questionId -> {
+                    // Re-adding moves the question to the most recent end
+                    updated.remove(questionId);
+                    updated.add(questionId);
+                });
+                while (updated.size() > recentPerPlayer) {
+                    updated.removeFirst();
+                }
+                return Collections.unmodifiableSequencedSet(updated);
+            });
+        }
+    }
+
+    /**
+     * Stores the valid candidates whose text is not already in the pool for {@code difficulty}.
+     *
+     * @return the number of questions added
+     */
+    int add(QuizDifficulty difficulty, List<Question> candidates, String source) {
+        final Set<String> fingerprints = new HashSet<>(repository.findFingerprintsByDifficulty(difficulty.name()));
+        final var now = Instant.now();
+        final var entities = new ArrayList<QuestionPoolEntity>();
+        var rejected = 0;
+        for (final var candidate : candidates) {
+            if (!isValid(candidate)) {
+                rejected++;
+                continue;
+            }
+            final var fingerprint = fingerprint(candidate.getQuestionText());
+            if (!fingerprints.add(fingerprint)) {
+                continue;
+            }
+            entities.add(new QuestionPoolEntity(
+                    null,
+                    difficulty.name(),
+                    candidate.getQuestionText().strip(),
+                    candidate.getOptions().stream().map(String::strip).toList(),
+                    candidate.getCorrectAnswerIndex(),
+                    fingerprint,
+                    source,
+                    now));
+        }
+        repository.saveAll(entities);
+        log.info(
+                "Added {} {} questions to the pool from {} ({} invalid, {} duplicate)",
+                entities.size(),
+                difficulty,
+                source,
+                rejected,
+                candidates.size() - rejected - entities.size());
+        return entities.size();
+    }
+
+    /** Four distinct, non-blank options, an in-range answer and a question of sensible length. */
+    static boolean isValid(Question question) {
+        final var text = question.getQuestionText();
+        final var options = question.getOptions();
+        if (text == null || text.isBlank() || text.length() > MAX_TEXT_LENGTH) {
+            return false;
+        }
+        if (options == null || options.size() != OPTION_COUNT) {
+            return false;
+        }
+        final var distinct = new HashSet<String>();
+        for (final var option : options) {
+            if (option == null || option.isBlank() || !distinct.add(option.strip().toLowerCase(Locale.ROOT))) {
+                return false;
+            }
+        }
+        return question.getCorrectAnswerIndex() >= 0 && question.getCorrectAnswerIndex() < OPTION_COUNT;
+    }
+
+    static String fingerprint(String questionText) {
+        final var normalized = questionText
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^\\p{L}\\p{N}]+", " ")
+                .strip();
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256").digest(normalized.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package biz.thonbecker.personal.trivia.platform;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+@Entity
+@Table(name = "question_pool", schema = "trivia")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuestionPoolEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String difficulty;
+
+    @Column(nullable = false)
+    private String questionText;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(nullable = false, columnDefinition = "jsonb")
+    private List<String> options;
+
+    @Column(nullable = false)
+    private Integer correctAnswerIndex;
+
+    @Column(nullable = false)
+    private String fingerprint;
+
+    @Column(nullable = false)
+    private String source;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+}
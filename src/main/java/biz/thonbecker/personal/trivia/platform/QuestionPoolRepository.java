@@ -0,0 +1,21 @@
+package biz.thonbecker.personal.trivia.platform;
+
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Repository for the pre-generated question pool.
+ * Package-private to enforce module boundaries.
+ */
+interface QuestionPoolRepository extends JpaRepository<QuestionPoolEntity, Long> {
+
+    long countByDifficulty(String difficulty);
+
+    @Query("SELECT q.id FROM QuestionPoolEntity q WHERE q.difficulty = :difficulty")
+    List<Long> findIdsByDifficulty(@Param("difficulty") String difficulty);
+
+    @Query("SELECT q.fingerprint FROM QuestionPoolEntity q WHERE q.difficulty = :difficulty")
+    List<String> findFingerprintsByDifficulty(@Param("difficulty") String difficulty);
+}
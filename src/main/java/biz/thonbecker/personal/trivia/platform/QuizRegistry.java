@@ -0,0 +1,120 @@
+package biz.thonbecker.personal.trivia.platform;
+
+import biz.thonbecker.personal.trivia.api.QuizPlayerState;
+import biz.thonbecker.personal.trivia.api.QuizState;
+import biz.thonbecker.personal.trivia.domain.Quiz;
+import biz.thonbecker.personal.trivia.domain.QuizStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory home of running quizzes, bounded by count and idle time.
+ *
+ * <p>A quiz nobody has touched for {@code idle-timeout}, or the coldest one once {@code max-active} is
+ * reached, is evicted as abandoned. Finished and abandoned quizzes are kept only as their final
+ * {@link QuizState} for the same idle timeout, so late messages still get an answer; the evicted
+ * {@link Quiz} itself is released.
+ */
+@Component
+@Slf4j
+class QuizRegistry {
+
+    private final Cache<Long, Quiz> active;
+    private final Cache<Long, QuizState> finished;
+
+    @Autowired
+    QuizRegistry(
+            MeterRegistry meterRegistry,
+            @Value("${trivia.quizzes.max-active:1000}") long maxActive,
+            @Value("${trivia.quizzes.max-finished:5000}") long maxFinished,
+            @Value("${trivia.quizzes.idle-timeout:2h}") Duration idleTimeout) {
+        this(maxActive, maxFinished, idleTimeout, Ticker.systemTicker());
+        CaffeineCacheMetrics.monitor(meterRegistry, active, "trivia.quizzes.active");
+        CaffeineCacheMetrics.monitor(meterRegistry, finished, "trivia.quizzes.finished");
+    }
+
+    QuizRegistry(long maxActive, long maxFinished, Duration idleTimeout, Ticker ticker) {
+        this.finished = Caffeine.newBuilder()
+                .maximumSize(maxFinished)
+                .expireAfterWrite(idleTimeout)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        this.active = Caffeine.newBuilder()
+                .maximumSize(maxActive)
+                .expireAfterAccess(idleTimeout)
+                .ticker(ticker)
+                .recordStats()
+                .<Long, Quiz>evictionListener(this::onEviction)
+                .build();
+    }
+
+    void register(Quiz quiz) {
+        active.put(quiz.getId(), quiz);
+    }
+
+    Optional<Quiz> find(Long quizId) {
+        return Optional.ofNullable(active.getIfPresent(quizId));
+    }
+
+    /** The final state of a quiz that has finished or been abandoned, if it is still remembered. */
+    Optional<QuizState> findFinished(Long quizId) {
+        return Optional.ofNullable(finished.getIfPresent(quizId));
+    }
+
+    /** Replaces a completed quiz with its final state, releases it and returns that state. */
+    QuizState finish(Quiz quiz) {
+        final var summary = completedState(quiz);
+        finished.put(quiz.getId(), summary);
+        active.invalidate(quiz.getId());
+        quiz.release();
+        return summary;
+    }
+
+    long activeCount() {
+        active.cleanUp();
+        return active.estimatedSize();
+    }
+
+    void cleanUp() {
+        active.cleanUp();
+        finished.cleanUp();
+    }
+
+    /** The final state of a completed quiz, without taking it out of the registry. */
+    static QuizState completedState(Quiz quiz) {
+        return summarize(quiz, QuizStatus.COMPLETED);
+    }
+
+    private void onEviction(Long quizId, Quiz quiz, RemovalCause cause) {
+        if (quizId == null || quiz == null) {
+            return;
+        }
+        log.info("Quiz {} abandoned ({}), keeping its summary only", quizId, cause);
+        finished.put(quizId, summarize(quiz, QuizStatus.ABANDONED));
+        quiz.release();
+    }
+
+    private static QuizState summarize(Quiz quiz, QuizStatus status) {
+        final var players = quiz.getPlayers().stream()
+                .map(player -> new QuizPlayerState(player.getId(), player.getName(), player.getScore()))
+                .toList();
+        return new QuizState(
+                quiz.getId(),
+                status.name(),
+                null,
+                players,
+                quiz.getCurrentQuestionIndex(),
+                quiz.getQuestions().size());
+    }
+}
@@ -12,8 +12,14 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class QuizResultEntity {
+    // Sequence ids (the column's sequence, incremented by 50) keep a quiz's inserts batchable; IDENTITY would not
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "quiz_results_id_seq")
+    @SequenceGenerator(
+            name = "quiz_results_id_seq",
+            sequenceName = "quiz_results_id_seq",
+            schema = "trivia",
+            allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
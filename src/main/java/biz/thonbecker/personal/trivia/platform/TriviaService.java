@@ -7,20 +7,24 @@ import biz.thonbecker.personal.trivia.api.QuizQuestionState;
 import biz.thonbecker.personal.trivia.api.QuizResult;
 import biz.thonbecker.personal.trivia.api.QuizStartedEvent;
 import biz.thonbecker.personal.trivia.api.QuizState;
-import biz.thonbecker.personal.trivia.api.TriviaAnswerSubmittedEvent;
+import biz.thonbecker.personal.trivia.api.QuizUpdate;
+import biz.thonbecker.personal.trivia.api.TriviaQuestionClosedEvent;
 import biz.thonbecker.personal.trivia.domain.*;
 import java.time.Instant;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * Trivia service providing quiz creation, player management, and game flow.
+ * Running quizzes live in a bounded {@link QuizRegistry}; once a quiz completes or is abandoned only its
+ * final state is kept.
  */
 @Service
 @Slf4j
@@ -29,7 +33,7 @@ public class TriviaService {
     private static final int POINTS_PER_CORRECT_ANSWER = 100;
     private static final int DEFAULT_TIME_PER_QUESTION_SECONDS = 60;
 
-    private final Map<Long, Quiz> quizzes = new ConcurrentHashMap<>();
+    private final QuizRegistry quizzes;
     private final AtomicLong quizIdGenerator = new AtomicLong(System.currentTimeMillis());
     private final QuestionGenerator questionGenerator;
     private final QuizResultRepository quizResultRepository;
@@ -38,7 +42,9 @@ public class TriviaService {
     public TriviaService(
             QuestionGenerator questionGenerator,
             QuizResultRepository quizResultRepository,
-            ApplicationEventPublisher eventPublisher) {
+            ApplicationEventPublisher eventPublisher,
+            QuizRegistry quizzes) {
+        this.quizzes = quizzes;
         this.questionGenerator = questionGenerator;
         this.quizResultRepository = quizResultRepository;
         this.eventPublisher = eventPublisher;
@@ -67,18 +73,18 @@ public class TriviaService {
                 creatorId);
 
         Long quizId = quizIdGenerator.incrementAndGet();
-        List<Question> questions = questionGenerator.generateQuestions(questionCount, difficulty);
+        List<Question> questions = questionGenerator.generateQuestions(questionCount, difficulty, Set.of(creatorId));
 
         Quiz quiz = new Quiz(quizId, title, questions, DEFAULT_TIME_PER_QUESTION_SECONDS, difficulty);
         quiz.setCreatorId(creatorId);
-        quizzes.put(quizId, quiz);
+        quizzes.register(quiz);
 
         log.info("Quiz created with ID: {} with {} AI-generated questions", quizId, questions.size());
         return quiz;
     }
 
     public Optional<Quiz> getQuiz(Long quizId) {
-        return Optional.ofNullable(quizzes.get(quizId));
+        return quizzes.find(quizId);
     }
 
     @Transactional
@@ -96,14 +102,9 @@ public class TriviaService {
             throw new IllegalArgumentException("Player name cannot be null or empty");
         }
 
-        Quiz quiz = quizzes.get(quizId);
+        Quiz quiz = quizzes.find(quizId).orElse(null);
         if (quiz != null) {
-            // Check if player already exists
-            boolean playerExists =
-                    quiz.getPlayers().stream().anyMatch(p -> p.getId().equals(player.getId()));
-
-            if (!playerExists) {
-                quiz.getPlayers().add(player);
+            if (quiz.addPlayer(player)) {
                 log.info("Player {} joined quiz {}", player.getName(), quizId);
 
                 // Publish event
@@ -114,13 +115,12 @@ public class TriviaService {
     }
 
     public List<Player> getPlayers(Long quizId) {
-        Quiz quiz = quizzes.get(quizId);
-        return quiz != null ? quiz.getPlayers() : Collections.emptyList();
+        return quizzes.find(quizId).map(Quiz::getPlayers).orElse(Collections.emptyList());
     }
 
     @Transactional
     public QuizState startQuiz(Long quizId, String playerId) {
-        Quiz quiz = quizzes.get(quizId);
+        Quiz quiz = quizzes.find(quizId).orElse(null);
         if (quiz == null) {
             log.warn("Quiz not found: {}", quizId);
             return null;
@@ -136,70 +136,87 @@ public class TriviaService {
             throw new IllegalArgumentException("Only the quiz creator can start the quiz");
         }
 
-        quiz.setStatus(QuizStatus.IN_PROGRESS);
-        quiz.setCurrentQuestionIndex(0);
+        quiz.start();
         log.info("Quiz {} started by creator {}", quizId, playerId);
 
+        final var playerIds = quiz.getPlayers().stream().map(Player::getId).toList();
+        questionGenerator.recordShown(playerIds, quiz.getQuestions());
+
         // Publish event
         eventPublisher.publishEvent(new QuizStartedEvent(
                 quizId,
                 quiz.getTitle(),
                 quiz.getDifficulty().name(),
                 quiz.getQuestions().size(),
-                quiz.getPlayers().stream().map(Player::getId).toList(),
+                playerIds,
                 Instant.now()));
 
         return buildQuizState(quiz);
     }
 
-    public QuizState submitAnswer(Long quizId, String playerId, Long questionId, int selectedOption) {
-        Quiz quiz = quizzes.get(quizId);
+    /**
+     * Scores a player's first answer to the current question.
+     *
+     * @return the updates to broadcast, empty if the answer was stale, repeated or not from a player
+     */
+    public List<QuizUpdate> submitAnswer(Long quizId, String playerId, Long questionId, int selectedOption) {
+        Quiz quiz = quizzes.find(quizId).orElse(null);
         if (quiz == null) {
-            return null;
+            return List.of();
         }
 
         Question currentQuestion = quiz.getCurrentQuestion();
-        if (currentQuestion != null && currentQuestion.getId().equals(questionId)) {
-            final var correct = selectedOption == currentQuestion.getCorrectAnswerIndex();
-            eventPublisher.publishEvent(new TriviaAnswerSubmittedEvent(playerId, quizId, questionId, correct));
-            // Check if answer is correct
-            if (correct) {
-                // Award points to player
-                quiz.getPlayers().stream()
-                        .filter(p -> p.getId().equals(playerId))
-                        .findFirst()
-                        .ifPresent(player -> {
-                            player.setScore(player.getScore() + POINTS_PER_CORRECT_ANSWER);
-                            log.info(
-                                    "Player {} answered correctly! New score: {}", player.getName(), player.getScore());
-                        });
-            }
+        Player player = quiz.getPlayer(playerId);
+        if (currentQuestion == null || player == null) {
+            return List.of();
         }
 
-        return buildQuizState(quiz);
+        // Tallied on the quiz and published once per question by nextQuestion
+        final var correct = selectedOption == currentQuestion.getCorrectAnswerIndex();
+        if (!quiz.recordAnswer(questionId, playerId, correct)) {
+            return List.of();
+        }
+        final var answered = new QuizUpdate.PlayerAnswered(playerId, questionId);
+        if (!correct) {
+            return List.of(answered);
+        }
+
+        // Award points to player
+        int score = player.addScore(POINTS_PER_CORRECT_ANSWER);
+        log.info("Player {} answered correctly! New score: {}", player.getName(), score);
+        return List.of(answered, new QuizUpdate.ScoreChanged(playerId, score));
     }
 
     @Transactional
     public QuizState nextQuestion(Long quizId) {
-        Quiz quiz = quizzes.get(quizId);
+        Quiz quiz = quizzes.find(quizId).orElse(null);
         if (quiz == null) {
-            return null;
+            return quizzes.findFinished(quizId).orElse(null);
         }
 
-        quiz.nextQuestion();
-        log.info(
-                "Quiz {} moved to question {}/{}",
-                quizId,
-                quiz.getCurrentQuestionIndex() + 1,
-                quiz.getQuestions().size());
+        synchronized (quiz) {
+            // A concurrent request already finished this quiz; it may not have left the registry yet
+            if (quiz.getStatus() == QuizStatus.COMPLETED) {
+                return quizzes.findFinished(quizId).orElseGet(() -> QuizRegistry.completedState(quiz));
+            }
 
-        // Check if quiz is completed and save results
-        if (quiz.getStatus() == QuizStatus.COMPLETED) {
-            saveQuizResults(quiz);
-            publishQuizCompletedEvent(quiz);
-        }
+            publishQuestionClosedEvent(quiz);
+            quiz.nextQuestion();
+            log.info(
+                    "Quiz {} moved to question {}/{}",
+                    quizId,
+                    quiz.getCurrentQuestionIndex() + 1,
+                    quiz.getQuestions().size());
+
+            // Check if quiz is completed and save results
+            if (quiz.getStatus() == QuizStatus.COMPLETED) {
+                saveQuizResults(quiz);
+                publishQuizCompletedEvent(quiz);
+                return finishAfterCommit(quiz);
+            }
 
-        return buildQuizState(quiz);
+            return buildQuizState(quiz);
+        }
     }
 
     public List<QuizResult> getWinners() {
@@ -222,6 +239,7 @@ public class TriviaService {
                 .max(Comparator.comparingInt(Player::getScore))
                 .orElse(null);
 
+        List<QuizResultEntity> results = new ArrayList<>();
         for (Player player : quiz.getPlayers()) {
             int correctAnswers = player.getScore() / POINTS_PER_CORRECT_ANSWER;
 
@@ -238,9 +256,12 @@ public class TriviaService {
                     player.getId().equals(winner.getId()),
                     quiz.getDifficulty() != null ? quiz.getDifficulty().name() : "MEDIUM");
 
-            quizResultRepository.save(result);
-            log.info("Saved quiz result for player {} with score {}", player.getName(), player.getScore());
+            results.add(result);
         }
+
+        // One batched insert for the whole quiz
+        quizResultRepository.saveAll(results);
+        log.info("Saved {} quiz results for quiz {}", results.size(), quiz.getId());
     }
 
     private QuizState buildQuizState(Quiz quiz) {
@@ -282,6 +303,55 @@ public class TriviaService {
                 entity.getDifficulty());
     }
 
+    /**
+     * Takes a completed quiz out of the registry once its results have committed. If the transaction rolls
+     * back, the quiz stays registered on its last question, so advancing it again retries the save.
+     */
+    private QuizState finishAfterCommit(Quiz quiz) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return quizzes.finish(quiz);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    quizzes.finish(quiz);
+                    return;
+                }
+                log.warn("Saving results of quiz {} did not commit, keeping it in progress", quiz.getId());
+                synchronized (quiz) {
+                    quiz.setStatus(QuizStatus.IN_PROGRESS);
+                }
+            }
+        });
+        return QuizRegistry.completedState(quiz);
+    }
+
+    private void publishQuestionClosedEvent(Quiz quiz) {
+        final var question = quiz.getCurrentQuestion();
+        final var answers = quiz.closeQuestion();
+        if (quiz.getStatus() != QuizStatus.IN_PROGRESS || question == null) {
+            return;
+        }
+
+        final var playerAnswers = answers.entrySet().stream()
+                .map(answer -> new TriviaQuestionClosedEvent.PlayerAnswer(answer.getKey(), answer.getValue()))
+                .toList();
+        final var correctCount = (int) playerAnswers.stream()
+                .filter(TriviaQuestionClosedEvent.PlayerAnswer::correct)
+                .count();
+
+        eventPublisher.publishEvent(new TriviaQuestionClosedEvent(
+                quiz.getId(),
+                question.getId(),
+                quiz.getCurrentQuestionIndex() + 1,
+                quiz.getPlayers().size(),
+                playerAnswers.size(),
+                correctCount,
+                playerAnswers,
+                Instant.now()));
+    }
+
     private void publishQuizCompletedEvent(Quiz quiz) {
         Player winner = quiz.getPlayers().stream()
                 .max(Comparator.comparingInt(Player::getScore))
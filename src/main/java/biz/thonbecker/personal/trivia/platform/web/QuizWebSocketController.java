@@ -3,9 +3,11 @@ package biz.thonbecker.personal.trivia.platform.web;
 import biz.thonbecker.personal.trivia.api.QuizPlayerState;
 import biz.thonbecker.personal.trivia.api.QuizState;
 import biz.thonbecker.personal.trivia.api.QuizSummary;
+import biz.thonbecker.personal.trivia.api.QuizUpdate;
 import biz.thonbecker.personal.trivia.domain.Player;
 import biz.thonbecker.personal.trivia.domain.Quiz;
 import biz.thonbecker.personal.trivia.domain.QuizDifficulty;
+import biz.thonbecker.personal.trivia.domain.QuizStatus;
 import biz.thonbecker.personal.trivia.platform.TriviaService;
 import java.security.Principal;
 import java.util.List;
@@ -17,6 +19,11 @@ import org.springframework.stereotype.Controller;
 /**
  * WebSocket controller for trivia quiz operations.
  * This is internal infrastructure and should not be accessed directly by other modules.
+ *
+ * <p>Apart from quiz creation, everything is broadcast to per-quiz destinations under
+ * {@code /topic/quiz/{id}/}: the roster on {@code players}, the full state on {@code state} when a quiz
+ * starts or ends, and small {@link QuizUpdate} deltas on {@code updates} for answers, scores and
+ * question changes.
  */
 @Controller
 @Slf4j
@@ -59,7 +66,7 @@ class QuizWebSocketController {
         List<QuizPlayerState> players = triviaService.getPlayers(request.quizId()).stream()
                 .map(player -> new QuizPlayerState(player.getId(), player.getName(), player.getScore()))
                 .toList();
-        messagingTemplate.convertAndSend("/topic/quiz/players", players);
+        messagingTemplate.convertAndSend(destination(request.quizId(), "players"), players);
         log.info("Player list updated for quiz {}: {} players", request.quizId(), players.size());
     }
 
@@ -72,7 +79,7 @@ class QuizWebSocketController {
 
             if (state != null) {
                 // Broadcast quiz state to all subscribers of this specific quiz
-                messagingTemplate.convertAndSend("/topic/quiz/state/" + request.quizId(), state);
+                messagingTemplate.convertAndSend(destination(request.quizId(), "state"), state);
                 log.info("Quiz {} started and state broadcast", request.quizId());
             } else {
                 log.warn("Failed to start quiz: {}", request.quizId());
@@ -87,13 +94,12 @@ class QuizWebSocketController {
     public void submitAnswer(AnswerSubmission submission, Principal principal) {
         log.info("Answer submitted for quiz {} by player {}", submission.quizId(), principal.getName());
 
-        QuizState state = triviaService.submitAnswer(
+        List<QuizUpdate> updates = triviaService.submitAnswer(
                 submission.quizId(), principal.getName(), submission.questionId(), submission.selectedOption());
 
-        if (state != null) {
-            // Broadcast updated state (with scores) to all players
-            messagingTemplate.convertAndSend("/topic/quiz/state/" + submission.quizId(), state);
-        }
+        // Only what changed goes out, and only to this quiz's players
+        final var destination = destination(submission.quizId(), "updates");
+        updates.forEach(update -> messagingTemplate.convertAndSend(destination, update));
     }
 
     @MessageMapping("/quiz/next")
@@ -102,9 +108,22 @@ class QuizWebSocketController {
 
         QuizState state = triviaService.nextQuestion(request.quizId());
 
-        if (state != null) {
-            messagingTemplate.convertAndSend("/topic/quiz/state/" + request.quizId(), state);
+        if (state == null) {
+            return;
+        }
+        if (QuizStatus.IN_PROGRESS.name().equals(state.status())) {
+            messagingTemplate.convertAndSend(
+                    destination(request.quizId(), "updates"),
+                    new QuizUpdate.QuestionAdvanced(
+                            state.currentQuestion(), state.currentQuestionNumber(), state.totalQuestions()));
             log.info("Quiz {} moved to next question", request.quizId());
+        } else {
+            messagingTemplate.convertAndSend(destination(request.quizId(), "state"), state);
+            log.info("Quiz {} ended with status {}", request.quizId(), state.status());
         }
     }
+
+    private static String destination(Long quizId, String channel) {
+        return "/topic/quiz/" + quizId + "/" + channel;
+    }
 }
@@ -13,6 +13,9 @@ import biz.thonbecker.personal.user.platform.persistence.UserLoginTokenRepositor
 import biz.thonbecker.personal.user.platform.persistence.UserService;
 import biz.thonbecker.personal.user.platform.persistence.UserSessionEntity;
 import biz.thonbecker.personal.user.platform.persistence.UserSessionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
@@ -26,6 +29,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
@@ -34,12 +39,21 @@ public class MagicLinkAuthenticationService implements UserSessionResolver {
     private static final Duration LOGIN_TOKEN_TTL = Duration.ofMinutes(15);
     private static final Duration SESSION_TTL = Duration.ofHours(24);
     private static final int MAX_REQUESTS_PER_HOUR = 5;
+    private static final Duration SESSION_CACHE_TTL = Duration.ofMinutes(1);
+    private static final int SESSION_CACHE_MAX_SIZE = 10_000;
 
     private final UserLoginTokenRepository loginTokenRepository;
     private final UserSessionRepository sessionRepository;
     private final UserService userService;
     private final ApplicationEventPublisher eventPublisher;
 
+    // Resolved sessions keyed by session hash. Entries live for SESSION_CACHE_TTL at most and never past the
+    // session's own expiry; logout invalidates on this instance immediately and again once the revocation commits.
+    private final Cache<String, ResolvedSession> sessionCache = Caffeine.newBuilder()
+            .maximumSize(SESSION_CACHE_MAX_SIZE)
+            .expireAfter(new SessionCacheExpiry())
+            .build();
+
     @Transactional
     public void requestLoginLink(final String email, final String baseUrl, final String requestIp) {
         requestLoginLink(email, baseUrl, requestIp, "/landscape");
@@ -108,9 +122,16 @@ public class MagicLinkAuthenticationService implements UserSessionResolver {
         if (sessionToken == null || sessionToken.isBlank()) {
             return Optional.empty();
         }
-        return sessionRepository
-                .findBySessionHashAndRevokedAtIsNullAndExpiresAtAfter(hash(sessionToken), Instant.now())
-                .map(UserSessionEntity::getUserId);
+        final var sessionHash = hash(sessionToken);
+        final var now = Instant.now();
+        final var cached = sessionCache.getIfPresent(sessionHash);
+        if (cached != null && cached.expiresAt().isAfter(now)) {
+            return Optional.of(cached.userId());
+        }
+        final var session = sessionRepository.findBySessionHashAndRevokedAtIsNullAndExpiresAtAfter(sessionHash, now);
+        session.ifPresent(entity -> sessionCache.put(
+                sessionHash, new ResolvedSession(entity.getUserId(), entity.getExpiresAt())));
+        return session.map(UserSessionEntity::getUserId);
     }
 
     @Transactional
@@ -118,8 +139,19 @@ public class MagicLinkAuthenticationService implements UserSessionResolver {
         if (sessionToken == null || sessionToken.isBlank()) {
             return;
         }
+        final var sessionHash = hash(sessionToken);
+        sessionCache.invalidate(sessionHash);
+        // A concurrent resolveUserId can still read the unrevoked row until this commits and cache it again
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    sessionCache.invalidate(sessionHash);
+                }
+            });
+        }
         sessionRepository
-                .findBySessionHashAndRevokedAtIsNull(hash(sessionToken))
+                .findBySessionHashAndRevokedAtIsNull(sessionHash)
                 .ifPresent(session -> {
                     session.setRevokedAt(Instant.now());
                     sessionRepository.save(session);
@@ -144,4 +176,33 @@ public class MagicLinkAuthenticationService implements UserSessionResolver {
     }
 
     public record Session(String token, String userId, Instant expiresAt) {}
+
+    private record ResolvedSession(String userId, Instant expiresAt) {}
+
+    private static final class SessionCacheExpiry implements Expiry<String, ResolvedSession> {
+
+        @Override
+        public long expireAfterCreate(final String sessionHash, final ResolvedSession session, final long currentTime) {
+            final var untilExpiry = Duration.between(Instant.now(), session.expiresAt());
+            return Math.max(0, Math.min(untilExpiry.toNanos(), SESSION_CACHE_TTL.toNanos()));
+        }
+
+        @Override
+        public long expireAfterUpdate(
+                final String sessionHash,
+                final ResolvedSession session,
+                final long currentTime,
+                final long currentDuration) {
+            return expireAfterCreate(sessionHash, session, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(
+                final String sessionHash,
+                final ResolvedSession session,
+                final long currentTime,
+                final long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
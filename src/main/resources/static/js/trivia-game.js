@@ -34,6 +34,7 @@ function triviaGame() {
 
     // Internal
     _stompClient: null,
+    _quizSubscriptions: [],
 
     init() {
       this.serverUrl = window.location.origin + "/quiz-websocket";
@@ -121,9 +122,25 @@ function triviaGame() {
       this._stompClient.subscribe("/topic/quiz/created", (payload) =>
         this._onQuizCreated(JSON.parse(payload.body))
       );
-      this._stompClient.subscribe("/topic/quiz/players", (payload) =>
-        this._onPlayersUpdated(JSON.parse(payload.body))
+    },
+
+    _subscribeToQuiz(quizId) {
+      this._quizSubscriptions.forEach((subscription) =>
+        subscription.unsubscribe()
       );
+      const topic = `/topic/quiz/${quizId}`;
+      this._quizSubscriptions = [
+        this._stompClient.subscribe(`${topic}/players`, (payload) =>
+          this._onPlayersUpdated(JSON.parse(payload.body))
+        ),
+        this._stompClient.subscribe(`${topic}/state`, (payload) =>
+          this._onQuizStateUpdated(JSON.parse(payload.body))
+        ),
+        this._stompClient.subscribe(`${topic}/updates`, (payload) =>
+          this._onQuizUpdate(JSON.parse(payload.body))
+        ),
+      ];
+      this.log("Subscribed to quiz updates", "info");
     },
 
     _onError(error) {
@@ -184,11 +201,6 @@ function triviaGame() {
       this.log(`Quiz created: ${quiz.title} with ID ${quiz.id}`, "success");
       this.currentQuizId = quiz.id;
 
-      this._stompClient.subscribe("/topic/quiz/state/" + quiz.id, (payload) =>
-        this._onQuizStateUpdated(JSON.parse(payload.body))
-      );
-      this.log("Subscribed to quiz state updates", "info");
-
       this._joinQuiz(quiz.id);
     },
 
@@ -198,6 +210,10 @@ function triviaGame() {
         return;
       }
 
+      // Subscribe before joining so this client sees its own join
+      this._subscribeToQuiz(quizId);
+      this.currentQuizId = quizId;
+
       this._stompClient.send(
         "/app/quiz/join",
         {},
@@ -208,12 +224,6 @@ function triviaGame() {
         })
       );
       this.log(`Joining quiz ${quizId} as ${this.playerName.trim()}`, "info");
-
-      this.currentQuizId = quizId;
-      this._stompClient.subscribe("/topic/quiz/state/" + quizId, (payload) =>
-        this._onQuizStateUpdated(JSON.parse(payload.body))
-      );
-      this.log("Subscribed to quiz state updates", "info");
     },
 
     joinQuizById() {
@@ -287,6 +297,34 @@ function triviaGame() {
       }
     },
 
+    _onQuizUpdate(update) {
+      switch (update.type) {
+        case "PLAYER_ANSWERED": {
+          const player = this.scoreboard.find((p) => p.id === update.playerId);
+          this.log(`${player ? player.name : "A player"} answered`, "info");
+          break;
+        }
+        case "SCORE_CHANGED":
+          this.scoreboard = this.scoreboard
+            .map((p) =>
+              p.id === update.playerId ? { ...p, score: update.score } : p
+            )
+            .sort((a, b) => b.score - a.score);
+          break;
+        case "QUESTION_ADVANCED":
+          this.currentQuestion = update.currentQuestion;
+          this.selectedAnswer = null;
+          this.answerSubmitted = false;
+          this.log(
+            `Question ${update.currentQuestionNumber + 1} of ${update.totalQuestions}`,
+            "info"
+          );
+          break;
+        default:
+          this.log(`Unknown quiz update: ${update.type}`, "warning");
+      }
+    },
+
     submitAnswer(index) {
       if (!this.currentQuizId || !this.currentQuestion) {
         this.log("Cannot submit answer: No active question", "warning");
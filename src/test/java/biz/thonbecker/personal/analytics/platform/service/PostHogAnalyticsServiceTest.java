@@ -0,0 +1,154 @@
+package biz.thonbecker.personal.analytics.platform.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/** Runs the batching pipeline against a local HTTP stand-in for PostHog's {@code /batch/} endpoint. */
+class PostHogAnalyticsServiceTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private final BlockingQueue<JsonNode> batches = new LinkedBlockingQueue<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private volatile CountDownLatch firstRequestArrived = new CountDownLatch(1);
+    private volatile CountDownLatch releaseRequests = new CountDownLatch(0);
+    private HttpServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/batch/", exchange -> {
+            batches.add(objectMapper.readTree(exchange.getRequestBody().readAllBytes()));
+            firstRequestArrived.countDown();
+            try {
+                releaseRequests.await(10, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void flushesFullBatchesInOrderAndTheRemainderOnShutdown() throws Exception {
+        final var service = service(5, 60_000, 100);
+        service.start();
+
+        for (var i = 0; i < 12; i++) {
+            service.capture("user", "event-" + i, Map.of("index", i));
+        }
+
+        final var first = nextBatch();
+        final var second = nextBatch();
+        assertThat(batches.poll(200, TimeUnit.MILLISECONDS))
+                .as("the last two events wait for the interval")
+                .isNull();
+        service.close();
+        final var last = nextBatch();
+
+        assertThat(first.path("api_key").asText()).isEqualTo("test-key");
+        assertThat(eventNames(first)).containsExactly("event-0", "event-1", "event-2", "event-3", "event-4");
+        assertThat(eventNames(second)).containsExactly("event-5", "event-6", "event-7", "event-8", "event-9");
+        assertThat(eventNames(last)).containsExactly("event-10", "event-11");
+        assertThat(first.path("batch").get(0).path("distinct_id").asText()).isEqualTo("user");
+        assertThat(first.path("batch").get(0).path("properties").path("index").asInt()).isZero();
+        assertThat(meterRegistry.get("posthog.flush.duration").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    void flushesPartialBatchOnceOldestEventReachesFlushInterval() throws Exception {
+        final var service = service(100, 100, 100);
+        service.start();
+
+        service.capture("user", "a", Map.of());
+        service.capture("user", "b", Map.of());
+
+        assertThat(eventNames(nextBatch())).containsExactly("a", "b");
+        service.close();
+        assertThat(batches).isEmpty();
+    }
+
+    @Test
+    void dropsOldestEventsWhenQueueIsFull() throws Exception {
+        releaseRequests = new CountDownLatch(1);
+        final var service = service(1, 60_000, 2);
+        service.start();
+
+        service.capture("user", "in-flight", Map.of());
+        assertThat(firstRequestArrived.await(5, TimeUnit.SECONDS)).isTrue();
+        for (var i = 0; i < 5; i++) {
+            service.capture("user", "queued-" + i, Map.of());
+        }
+        assertThat(meterRegistry.get("posthog.queue.depth").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("posthog.events.dropped").counter().count()).isEqualTo(3);
+
+        releaseRequests.countDown();
+        service.close();
+
+        final var received = new ArrayList<String>();
+        JsonNode batch;
+        while ((batch = batches.poll()) != null) {
+            received.addAll(eventNames(batch));
+        }
+        assertThat(received).containsExactly("in-flight", "queued-3", "queued-4");
+    }
+
+    @Test
+    void ignoresEventsWhenNotConfigured() throws Exception {
+        final var service = new PostHogAnalyticsService(
+                false, "test-key", "http://127.0.0.1:" + server.getAddress().getPort(), 1, 10, 10, meterRegistry);
+        service.start();
+
+        service.capture("user", "ignored", Map.of());
+        service.close();
+
+        assertThat(batches.poll(200, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    private PostHogAnalyticsService service(
+            final int maxBatchSize, final long flushIntervalMillis, final int capacity) {
+        return new PostHogAnalyticsService(
+                true,
+                "test-key",
+                "http://127.0.0.1:" + server.getAddress().getPort(),
+                maxBatchSize,
+                flushIntervalMillis,
+                capacity,
+                meterRegistry);
+    }
+
+    private JsonNode nextBatch() throws InterruptedException {
+        final var batch = batches.poll(5, TimeUnit.SECONDS);
+        assertThat(batch).as("expected a batch request").isNotNull();
+        return batch;
+    }
+
+    private static List<String> eventNames(final JsonNode batch) {
+        final var names = new ArrayList<String>();
+        batch.path("batch").forEach(event -> names.add(event.path("event").asText()));
+        return names;
+    }
+}
@@ -0,0 +1,63 @@
+package biz.thonbecker.personal.analytics.platform.service;
+
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import biz.thonbecker.personal.user.api.LoginRequestedEvent;
+import biz.thonbecker.personal.user.api.UserProfileUpdatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/** Publishes events through a plain application context, as business code does, to the PostHog listener. */
+class PostHogEventListenerTest {
+
+    private static final Instant UPDATED_AT = Instant.parse("2026-10-17T12:00:00Z");
+
+    @Test
+    void nullPropertiesAreLeftOut() {
+        final var analytics = mock(PostHogAnalyticsService.class);
+        try (final var context = context(analytics)) {
+            context.publishEvent(new UserProfileUpdatedEvent("user-1", null, UPDATED_AT));
+            context.publishEvent(new LoginRequestedEvent("visitor-1", null));
+        }
+
+        verify(analytics).capture("user-1", "user_profile_updated", Map.of("updated_at", UPDATED_AT.toString()));
+        verify(analytics).capture("visitor-1", "auth_login_requested", Map.of());
+    }
+
+    @Test
+    void nullPropertiesNeverReachThePublisherWhenPostHogIsDisabled() {
+        final var analytics = new PostHogAnalyticsService(false, "", "", 100, 2_000, 10_000, new SimpleMeterRegistry());
+        try (final var context = context(analytics)) {
+            assertThatNoException()
+                    .isThrownBy(() -> context.publishEvent(new UserProfileUpdatedEvent("user-1", null, null)));
+        }
+    }
+
+    @Test
+    void failedCaptureIsLoggedRatherThanThrownAtThePublisher() {
+        final var analytics = mock(PostHogAnalyticsService.class);
+        doThrow(new IllegalStateException("queue unavailable"))
+                .when(analytics)
+                .capture(anyString(), anyString(), any());
+        try (final var context = context(analytics)) {
+            assertThatNoException()
+                    .isThrownBy(() -> context.publishEvent(new UserProfileUpdatedEvent("user-1", "Ada", UPDATED_AT)));
+        }
+    }
+
+    private static AnnotationConfigApplicationContext context(final PostHogAnalyticsService analytics) {
+        final var context = new AnnotationConfigApplicationContext();
+        context.registerBean(PostHogAnalyticsService.class, () -> analytics);
+        context.registerBean(PostHogEventListener.class);
+        context.refresh();
+        return context;
+    }
+}
@@ -0,0 +1,122 @@
+package biz.thonbecker.personal.booking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import biz.thonbecker.personal.IntegrationTest;
+import biz.thonbecker.personal.booking.platform.BookingService;
+import biz.thonbecker.personal.booking.platform.persistence.AvailabilitySlotEntity;
+import biz.thonbecker.personal.booking.platform.persistence.AvailabilitySlotRepository;
+import biz.thonbecker.personal.booking.platform.service.AvailabilityScheduler;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Runs slot generation and cleanup against PostgreSQL and counts their JDBC statements with Hibernate
+ * statistics: generation is idempotent and inserts whatever is missing in one statement, and cleanup
+ * is one range delete.
+ */
+@IntegrationTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class AvailabilitySchedulerTest {
+
+    @Autowired
+    private AvailabilityScheduler availabilityScheduler;
+
+    @Autowired
+    private AvailabilitySlotRepository availabilitySlotRepository;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void generationIsIdempotentAndInsertsMissingSlotsInOneStatement() {
+        final var statistics = statistics();
+        final var expected = scheduledSlots();
+
+        // Startup already generated the schedule; take a few slots away to leave gaps
+        final var removed = availabilitySlotRepository.findAll().stream()
+                .filter(slot -> expected.contains(timeRange(slot)))
+                .limit(3)
+                .toList();
+        assertThat(removed).hasSize(3);
+        availabilitySlotRepository.deleteAll(removed);
+
+        statistics.clear();
+        availabilityScheduler.generateSlotsOnStartup();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(scheduledSlotsInDatabase(expected)).containsExactlyInAnyOrderElementsOf(expected);
+
+        statistics.clear();
+        availabilityScheduler.generateSlotsOnStartup();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(scheduledSlotsInDatabase(expected)).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    void cleanupDeletesEndedSlotsInOneStatement() {
+        final var statistics = statistics();
+        final var longAgo = LocalDate.now().minusYears(1);
+        for (var day = 0; day < 20; day++) {
+            final var date = longAgo.plusDays(day);
+            bookingService.createAvailabilitySlot(date.atTime(9, 0), date.atTime(10, 0));
+        }
+        final var future = LocalDate.now().plusYears(1);
+        bookingService.createAvailabilitySlot(future.atTime(9, 0), future.atTime(10, 0));
+
+        final var cutoff = LocalDateTime.now();
+        statistics.clear();
+        availabilityScheduler.cleanupOldSlots();
+
+        // ShedLock's own statements go through plain JDBC, so this is just the delete
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        final var remaining = availabilitySlotRepository.findAll();
+        assertThat(remaining).noneMatch(slot -> slot.getEndTime().isBefore(cutoff));
+        assertThat(remaining).anyMatch(slot -> slot.getStartTime().equals(future.atTime(9, 0)));
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private Set<List<LocalDateTime>> scheduledSlotsInDatabase(final Set<List<LocalDateTime>> expected) {
+        final var slots = new HashSet<List<LocalDateTime>>();
+        for (final var slot : availabilitySlotRepository.findAll()) {
+            final var range = timeRange(slot);
+            if (expected.contains(range)) {
+                assertThat(slots.add(range)).as("duplicate slot %s", range).isTrue();
+            }
+        }
+        return slots;
+    }
+
+    private static Set<List<LocalDateTime>> scheduledSlots() {
+        final var slots = new HashSet<List<LocalDateTime>>();
+        final var today = LocalDate.now();
+        for (var date = today; !date.isAfter(today.plusWeeks(4)); date = date.plusDays(1)) {
+            if (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                continue;
+            }
+            slots.add(List.of(date.atTime(LocalTime.of(11, 0)), date.atTime(LocalTime.of(12, 0))));
+            slots.add(List.of(date.atTime(LocalTime.of(18, 0)), date.atTime(LocalTime.of(21, 0))));
+        }
+        return slots;
+    }
+
+    private static List<LocalDateTime> timeRange(final AvailabilitySlotEntity slot) {
+        return List.of(slot.getStartTime(), slot.getEndTime());
+    }
+}
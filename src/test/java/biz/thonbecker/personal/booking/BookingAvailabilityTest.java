@@ -0,0 +1,92 @@
+package biz.thonbecker.personal.booking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import biz.thonbecker.personal.IntegrationTest;
+import biz.thonbecker.personal.booking.api.TimeSlot;
+import biz.thonbecker.personal.booking.domain.exceptions.SlotNotAvailableException;
+import biz.thonbecker.personal.booking.platform.BookingService;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Verifies that the range-based availability lookup returns exactly what the per-day lookup returns
+ * for every date in the window.
+ */
+@IntegrationTest
+class BookingAvailabilityTest {
+
+    private static final int WINDOW_DAYS = 28;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Test
+    void rangeAvailabilityMatchesPerDayLookupOverFourWeeks() {
+        final var typeIds = new LinkedHashSet<Long>();
+        typeIds.add(bookingService
+                .createBookingType("Range Short", "Short call", 30, 10, "#007bff")
+                .id());
+        typeIds.add(bookingService
+                .createBookingType("Range Long", "Long session", 60, 15, "#28a745")
+                .id());
+        typeIds.add(bookingService
+                .createBookingType("Range Back To Back", "No buffer", 45, 0, "#dc3545")
+                .id());
+
+        final var from = LocalDate.now().plusDays(30);
+        final var to = from.plusDays(WINDOW_DAYS - 1);
+        final var random = new Random(5);
+        final var bookedIds = new ArrayList<Long>();
+
+        for (var date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            if (date.getDayOfWeek().getValue() == 7) {
+                continue; // leave a gap day with no availability
+            }
+            bookingService.createAvailabilitySlot(date.atTime(9, 0), date.atTime(12, 0));
+            bookingService.createAvailabilitySlot(date.atTime(13, 15), date.atTime(17, 40));
+            if (date.getDayOfMonth() % 3 == 0) {
+                // Crosses midnight, so the per-day lookup clips it into two days
+                bookingService.createAvailabilitySlot(date.atTime(22, 0), date.plusDays(1).atTime(2, 0));
+            }
+            if (date.getDayOfMonth() % 4 == 0) {
+                // Overlaps the afternoon slot
+                bookingService.createAvailabilitySlot(date.atTime(16, 0), date.atTime(19, 0));
+            }
+
+            final var bookingsToday = random.nextInt(4);
+            for (var i = 0; i < bookingsToday; i++) {
+                final var typeId = List.copyOf(typeIds).get(random.nextInt(typeIds.size()));
+                final var start = date.atTime(9 + random.nextInt(9), random.nextInt(12) * 5);
+                try {
+                    bookedIds.add(bookingService
+                            .createBooking(typeId, "Range Tester", "range@example.com", null, start, null)
+                            .id());
+                } catch (final SlotNotAvailableException ignored) {
+                    // Random start fell outside availability or onto an existing booking
+                }
+            }
+        }
+        assertThat(bookedIds).hasSizeGreaterThan(5);
+        // Cancelled bookings free their time again
+        bookingService.cancelBooking(bookedIds.getFirst());
+        bookingService.cancelBooking(bookedIds.getLast());
+
+        final var availability = bookingService.getAvailability(typeIds, from, to);
+
+        assertThat(availability).containsOnlyKeys(typeIds);
+        for (final var typeId : typeIds) {
+            final var perDay = new ArrayList<TimeSlot>();
+            for (var date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                perDay.addAll(bookingService.getAvailableSlots(typeId, date));
+            }
+            assertThat(perDay).isNotEmpty();
+            assertThat(availability.get(typeId)).as("booking type %d", typeId).containsExactlyElementsOf(perDay);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package biz.thonbecker.personal.foosball;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import biz.thonbecker.personal.IntegrationTest;
+import biz.thonbecker.personal.foosball.domain.Game;
+import biz.thonbecker.personal.foosball.domain.GameResult;
+import biz.thonbecker.personal.foosball.domain.Team;
+import biz.thonbecker.personal.foosball.platform.FoosballService;
+import biz.thonbecker.personal.foosball.platform.persistence.PlayerStats;
+import biz.thonbecker.personal.foosball.platform.persistence.PlayerStatsRepository;
+import biz.thonbecker.personal.foosball.platform.persistence.TeamStats;
+import biz.thonbecker.personal.foosball.platform.persistence.TeamStatsRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Records games through {@link FoosballService} and expects the materialized stats views to catch up
+ * once the debounced refresh triggered by the game-recorded event has run.
+ */
+@IntegrationTest
+@TestPropertySource(properties = "foosball.stats.refresh-debounce=50ms")
+class FoosballStatsRefreshTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private FoosballService foosballService;
+
+    @Autowired
+    private PlayerStatsRepository playerStatsRepository;
+
+    @Autowired
+    private TeamStatsRepository teamStatsRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void statsAreFreshAfterGamesAreRecorded() throws InterruptedException {
+        final var white = new Team(uniqueName("w1"), uniqueName("w2"));
+        final var black = new Team(uniqueName("b1"), uniqueName("b2"));
+
+        foosballService.createGame(new Game(white, black, GameResult.WHITE_TEAM_WIN));
+        awaitUntil(() -> playerStats(white.getPlayer1())
+                .filter(stats -> stats.getTotalGames() == 1 && stats.getWins() == 1)
+                .isPresent());
+
+        foosballService.createGame(new Game(white, black, GameResult.BLACK_TEAM_WIN));
+        awaitUntil(() -> playerStats(black.getPlayer2())
+                .filter(stats -> stats.getTotalGames() == 2 && stats.getWins() == 1)
+                .isPresent());
+
+        final var whiteTeam = teamStats(white).orElseThrow();
+        assertThat(whiteTeam.getGamesPlayedTogether()).isEqualTo(2);
+        assertThat(whiteTeam.getWins()).isEqualTo(1);
+
+        awaitUntil(() -> meterRegistry.get("foosball.stats.refresh.lag").timer().count() > 0);
+        assertThat(meterRegistry.get("foosball.stats.refresh.duration").timer().count())
+                .isPositive();
+    }
+
+    private Optional<PlayerStats> playerStats(final String name) {
+        return playerStatsRepository.findAllPlayerStatsOrderedByTotalGames().stream()
+                .filter(stats -> stats.getName().equals(name))
+                .findFirst();
+    }
+
+    private Optional<TeamStats> teamStats(final Team team) {
+        return teamStatsRepository.findAllTeamStatsOrderedByGamesPlayed().stream()
+                .filter(stats -> (stats.getPlayer1Name().equals(team.getPlayer1())
+                                && stats.getPlayer2Name().equals(team.getPlayer2()))
+                        || (stats.getPlayer1Name().equals(team.getPlayer2())
+                                && stats.getPlayer2Name().equals(team.getPlayer1())))
+                .findFirst();
+    }
+
+    private static void awaitUntil(final BooleanSupplier condition) throws InterruptedException {
+        final var deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("stats refreshed within %s", TIMEOUT).isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+
+    private static String uniqueName(final String prefix) {
+        return prefix + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
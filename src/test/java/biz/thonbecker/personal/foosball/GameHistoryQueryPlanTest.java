@@ -0,0 +1,167 @@
+package biz.thonbecker.personal.foosball;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import biz.thonbecker.personal.IntegrationTest;
+import biz.thonbecker.personal.foosball.platform.FoosballDataService;
+import biz.thonbecker.personal.foosball.platform.GameCursor;
+import biz.thonbecker.personal.foosball.platform.persistence.Game;
+import biz.thonbecker.personal.foosball.platform.persistence.GameRepository;
+import biz.thonbecker.personal.foosball.platform.persistence.PlayerRepository;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs EXPLAIN on the game history queries against a realistically sized, analyzed games table and
+ * expects index scans rather than sequential scans. Test data is rolled back after each test.
+ */
+@IntegrationTest
+class GameHistoryQueryPlanTest {
+
+    private static final int PLAYERS = 40;
+    private static final int GAMES = 20_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private FoosballDataService foosballDataService;
+
+    @Test
+    void gamePagesUseThePlayedAtIndex() {
+        inRolledBackTransaction(playerIds -> {
+            final var sql = querySql("findPageBefore", Instant.class, long.class, int.class);
+            final var middle = Instant.parse("2020-01-08T00:00:00Z");
+
+            for (final var cursor : List.of(GameCursor.START, new GameCursor(middle, 5_000))) {
+                final var plan = explain(sql, Map.of(
+                        "playedAt", Timestamp.from(cursor.playedAt()), "id", cursor.id(), "limit", PAGE_SIZE));
+                assertThat(plan).contains("idx_games_played_at_id").doesNotContain("Seq Scan");
+            }
+        });
+    }
+
+    @Test
+    void playerPagesUseOneIndexPerPlayerSlot() {
+        inRolledBackTransaction(playerIds -> {
+            final var sql = querySql("findPlayerPageBefore", long.class, Instant.class, long.class, int.class);
+            final var plan = explain(sql, Map.of(
+                    "playerId", playerIds.getFirst(),
+                    "playedAt", Timestamp.from(GameCursor.START.playedAt()),
+                    "id", GameCursor.START.id(),
+                    "limit", PAGE_SIZE));
+
+            assertThat(plan)
+                    .contains("idx_games_white_player1_played_at")
+                    .contains("idx_games_white_player2_played_at")
+                    .contains("idx_games_black_player1_played_at")
+                    .contains("idx_games_black_player2_played_at")
+                    .doesNotContain("Seq Scan");
+        });
+    }
+
+    @Test
+    void playerPagesWalkTheWholeHistoryOnce() {
+        inRolledBackTransaction(playerIds -> {
+            final var player = playerIds.getFirst();
+            // Singles games put the same player in both slots of a team
+            jdbcTemplate.update(
+                    """
+                    INSERT INTO foosball.games
+                        (white_team_player1_id, white_team_player2_id, black_team_player1_id, black_team_player2_id,
+                         winner, played_at)
+                    SELECT :player, :player, :opponent, :opponent, 'WHITE',
+                           TIMESTAMP '2019-06-01' + i * INTERVAL '1 day'
+                    FROM generate_series(1, 25) i
+                    """,
+                    Map.of("player", player, "opponent", playerIds.getLast()));
+
+            final var expected =
+                    gameRepository.findByPlayer(playerRepository.findById(player).orElseThrow());
+            final var paged = new ArrayList<Game>();
+            var cursor = GameCursor.START;
+            while (true) {
+                final var page = foosballDataService.getPlayerGameHistory(player, cursor, PAGE_SIZE);
+                assertThat(page.games()).hasSizeLessThanOrEqualTo(PAGE_SIZE);
+                paged.addAll(page.games());
+                if (page.nextCursor() == null) {
+                    break;
+                }
+                cursor = GameCursor.decode(page.nextCursor());
+            }
+
+            assertThat(paged).extracting(Game::getId).doesNotHaveDuplicates();
+            assertThat(paged).extracting(Game::getId).containsExactlyElementsOf(expected.stream()
+                    .map(Game::getId)
+                    .toList());
+        });
+    }
+
+    private void inRolledBackTransaction(final Consumer<List<Long>> test) {
+        transactionTemplate.executeWithoutResult(status -> {
+            test.accept(seedGames());
+            status.setRollbackOnly();
+        });
+    }
+
+    /** Spreads {@link #GAMES} games a minute apart over {@link #PLAYERS} players, then analyzes. */
+    private List<Long> seedGames() {
+        final var prefix = "plan-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+        final var playerIds = jdbcTemplate.queryForList(
+                """
+                INSERT INTO foosball.players (name, rating, peak_rating, games_played, current_streak, best_streak)
+                SELECT :prefix || i, 1000, 1000, 0, 0, 0 FROM generate_series(1, :players) i
+                RETURNING id
+                """,
+                Map.of("prefix", prefix, "players", PLAYERS),
+                Long.class);
+        jdbcTemplate.update(
+                """
+                INSERT INTO foosball.games
+                    (white_team_player1_id, white_team_player2_id, black_team_player1_id, black_team_player2_id,
+                     winner, played_at)
+                SELECT ids[1 + i % :players], ids[1 + (i + 1) % :players], ids[1 + (i + 2) % :players],
+                       ids[1 + (i + 3) % :players], 'WHITE', TIMESTAMP '2020-01-01' + i * INTERVAL '1 minute'
+                FROM generate_series(1, :games) i,
+                     (SELECT array_agg(id ORDER BY id) AS ids FROM foosball.players WHERE name LIKE :pattern) p
+                """,
+                Map.of("players", PLAYERS, "games", GAMES, "pattern", prefix + "%"));
+        jdbcTemplate.getJdbcOperations().execute("ANALYZE foosball.games");
+        return playerIds;
+    }
+
+    private String explain(final String sql, final Map<String, ?> parameters) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, parameters, String.class));
+    }
+
+    private static String querySql(final String method, final Class<?>... parameterTypes) {
+        try {
+            return GameRepository.class
+                    .getMethod(method, parameterTypes)
+                    .getAnnotation(Query.class)
+                    .value();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
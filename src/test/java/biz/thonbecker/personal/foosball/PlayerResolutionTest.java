@@ -0,0 +1,109 @@
+package biz.thonbecker.personal.foosball;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import biz.thonbecker.personal.IntegrationTest;
+import biz.thonbecker.personal.foosball.domain.Game;
+import biz.thonbecker.personal.foosball.domain.GameResult;
+import biz.thonbecker.personal.foosball.domain.Team;
+import biz.thonbecker.personal.foosball.platform.FoosballDataService;
+import biz.thonbecker.personal.foosball.platform.FoosballService;
+import biz.thonbecker.personal.foosball.platform.persistence.PlayerRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Resolves game players through {@link FoosballDataService#findOrCreatePlayersByNames}, checking the
+ * statement count and that concurrent games introducing the same new names all succeed.
+ */
+@IntegrationTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PlayerResolutionTest {
+
+    private static final int THREADS = 8;
+    private static final int GAMES_PER_THREAD = 3;
+
+    @Autowired
+    private FoosballService foosballService;
+
+    @Autowired
+    private FoosballDataService foosballDataService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void resolvingPlayersCostsOneSelectAndAtMostOneInsert() {
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        final var existing = uniqueName("existing");
+        foosballDataService.createPlayer(existing);
+        final var names = List.of(existing, uniqueName("new1"), uniqueName("new2"), uniqueName("new3"));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            statistics.clear();
+            final var players = foosballDataService.findOrCreatePlayersByNames(names);
+            assertThat(players).containsOnlyKeys(names);
+            assertThat(players.values()).allSatisfy(player -> assertThat(player.getId())
+                    .isNotNull());
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        });
+
+        transactionTemplate.executeWithoutResult(status -> {
+            statistics.clear();
+            assertThat(foosballDataService.findOrCreatePlayersByNames(names)).containsOnlyKeys(names);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void concurrentGamesWithTheSameNewPlayersAllSucceed() throws Exception {
+        final var white = new Team(uniqueName("w1"), uniqueName("w2"));
+        final var black = new Team(uniqueName("b1"), uniqueName("b2"));
+        final var start = new CountDownLatch(1);
+
+        final var results = new ArrayList<Future<?>>();
+        try (final var executor = Executors.newFixedThreadPool(THREADS)) {
+            for (var i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    for (var game = 0; game < GAMES_PER_THREAD; game++) {
+                        foosballService.createGame(new Game(white, black, GameResult.WHITE_TEAM_WIN));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (final var result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        }
+
+        final var names = List.of(white.getPlayer1(), white.getPlayer2(), black.getPlayer1(), black.getPlayer2());
+        assertThat(playerRepository.findByNameIn(names)).hasSize(4);
+        final var recorded = transactionTemplate.execute(status -> foosballDataService.getAllGames().stream()
+                .filter(game -> game.getWhiteTeamPlayer1().getName().equals(white.getPlayer1()))
+                .count());
+        assertThat(recorded).isEqualTo((long) THREADS * GAMES_PER_THREAD);
+    }
+
+    private static String uniqueName(final String prefix) {
+        return prefix + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
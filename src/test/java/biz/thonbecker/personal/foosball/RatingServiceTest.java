@@ -0,0 +1,99 @@
+package biz.thonbecker.personal.foosball;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import biz.thonbecker.personal.IntegrationTest;
+import biz.thonbecker.personal.foosball.platform.RatingService;
+import biz.thonbecker.personal.foosball.platform.persistence.Game;
+import biz.thonbecker.personal.foosball.platform.persistence.GameRepository;
+import biz.thonbecker.personal.foosball.platform.persistence.Player;
+import biz.thonbecker.personal.foosball.platform.persistence.PlayerRepository;
+import biz.thonbecker.personal.foosball.platform.persistence.RatingHistoryRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Counts the JDBC statements a rating update issues, using Hibernate statistics, to keep the four
+ * history inserts and four player updates batched.
+ */
+@IntegrationTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class RatingServiceTest {
+
+    @Autowired
+    private RatingService ratingService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private RatingHistoryRepository ratingHistoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void ratingUpdateBatchesHistoryInsertsAndPlayerUpdates() {
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        final var names = List.of(uniqueName("w1"), uniqueName("w2"), uniqueName("b1"), uniqueName("b2"));
+        names.forEach(name -> playerRepository.save(new Player(name)));
+        final var historyBefore = ratingHistoryRepository.count();
+
+        for (var round = 0; round < 3; round++) {
+            final var winner = round % 2 == 0 ? Game.TeamColor.WHITE : Game.TeamColor.BLACK;
+            transactionTemplate.executeWithoutResult(status -> {
+                final var game = saveGame(names, winner);
+
+                statistics.clear();
+                ratingService.updateRatingsAfterGame(game);
+                entityManager.flush();
+
+                assertStatementsForOneGame(statistics);
+            });
+        }
+
+        assertThat(ratingHistoryRepository.count()).isEqualTo(historyBefore + 12);
+        names.forEach(name -> assertThat(playerRepository.findByName(name).orElseThrow().getGamesPlayed())
+                .isEqualTo(3));
+    }
+
+    private Game saveGame(final List<String> names, final Game.TeamColor winner) {
+        final var players = names.stream()
+                .map(name -> playerRepository.findByName(name).orElseThrow())
+                .toList();
+        final var game = new Game(players.get(0), players.get(1), players.get(2), players.get(3));
+        game.setWinner(winner);
+        final var saved = gameRepository.save(game);
+        entityManager.flush();
+        return saved;
+    }
+
+    private static void assertStatementsForOneGame(final Statistics statistics) {
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(4);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(4);
+        // One batched INSERT, one batched UPDATE and at most one id block fetch from the sequence
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    private static String uniqueName(final String prefix) {
+        return prefix + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,117 @@
+package biz.thonbecker.personal.foosball;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import biz.thonbecker.personal.IntegrationTest;
+import biz.thonbecker.personal.foosball.platform.TournamentService;
+import biz.thonbecker.personal.foosball.platform.persistence.Player;
+import biz.thonbecker.personal.foosball.platform.persistence.PlayerRepository;
+import biz.thonbecker.personal.foosball.platform.persistence.Tournament;
+import biz.thonbecker.personal.foosball.platform.persistence.TournamentMatch;
+import biz.thonbecker.personal.foosball.platform.persistence.TournamentMatchRepository;
+import biz.thonbecker.personal.foosball.platform.persistence.TournamentRegistration;
+import biz.thonbecker.personal.foosball.platform.persistence.TournamentRegistrationRepository;
+import biz.thonbecker.personal.foosball.platform.persistence.TournamentRepository;
+import biz.thonbecker.personal.foosball.platform.persistence.TournamentStanding;
+import biz.thonbecker.personal.foosball.platform.persistence.TournamentStandingRepository;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Plays random match orders through {@link TournamentService} and compares the incrementally
+ * maintained standings with a full recomputation from the match results.
+ */
+@IntegrationTest
+class TournamentStandingsTest {
+
+    private static final int TEAMS = 10;
+    private static final int MATCHES = 30;
+
+    private static final Comparator<TournamentStanding> STANDINGS_ORDER =
+            Comparator.comparing(TournamentStanding::getPoints, Comparator.reverseOrder())
+                    .thenComparing(TournamentStanding::getGoalDifference, Comparator.reverseOrder())
+                    .thenComparing(TournamentStanding::getGoalsFor, Comparator.reverseOrder())
+                    .thenComparing(TournamentStanding::getGamesPlayed)
+                    .thenComparing(TournamentStanding::getId);
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private TournamentRegistrationRepository registrationRepository;
+
+    @Autowired
+    private TournamentMatchRepository matchRepository;
+
+    @Autowired
+    private TournamentStandingRepository standingRepository;
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3})
+    void incrementalStandingsMatchFullRecomputation(long seed) {
+        final var random = new Random(seed);
+        final var host = playerRepository.save(new Player(uniqueName("host")));
+        final var tournament = tournamentRepository.save(
+                new Tournament(uniqueName("standings"), Tournament.TournamentType.SINGLE_ELIMINATION, host));
+
+        final var registrations = new ArrayList<TournamentRegistration>();
+        for (var i = 0; i < TEAMS; i++) {
+            final var player = playerRepository.save(new Player(uniqueName("p" + i)));
+            registrations.add(registrationRepository.save(new TournamentRegistration(tournament, player)));
+        }
+        final var matches = new ArrayList<TournamentMatch>();
+        for (var i = 1; i <= MATCHES; i++) {
+            final var team1 = random.nextInt(TEAMS);
+            final var team2 = (team1 + 1 + random.nextInt(TEAMS - 1)) % TEAMS;
+            matches.add(matchRepository.save(
+                    new TournamentMatch(tournament, 1, i, registrations.get(team1), registrations.get(team2))));
+        }
+        Collections.shuffle(matches, random);
+
+        // Full recomputation: replay every result onto fresh standings
+        final var expected = new HashMap<Long, TournamentStanding>();
+        for (final var match : matches) {
+            final var team1Wins = random.nextBoolean();
+            tournamentService.recordMatchScore(match.getId(), team1Wins ? 5 : 3, team1Wins ? 3 : 5);
+
+            final var winner = team1Wins ? match.getTeam1() : match.getTeam2();
+            final var loser = team1Wins ? match.getTeam2() : match.getTeam1();
+            expected.computeIfAbsent(winner.getId(), id -> new TournamentStanding(tournament, winner))
+                    .recordWin(0, 0);
+            expected.computeIfAbsent(loser.getId(), id -> new TournamentStanding(tournament, loser))
+                    .recordLoss(0, 0);
+        }
+
+        final var actual = standingRepository.findByTournamentIdOrderByPointsDesc(tournament.getId());
+        assertThat(actual).hasSize(expected.size());
+        for (final var standing : actual) {
+            final var recomputed = expected.get(standing.getRegistration().getId());
+            assertThat(standing.getWins()).isEqualTo(recomputed.getWins());
+            assertThat(standing.getLosses()).isEqualTo(recomputed.getLosses());
+            assertThat(standing.getGamesPlayed()).isEqualTo(recomputed.getGamesPlayed());
+            assertThat(standing.getPoints()).isEqualByComparingTo(recomputed.getPoints());
+        }
+
+        final var ranked = actual.stream().sorted(STANDINGS_ORDER).toList();
+        for (var i = 0; i < ranked.size(); i++) {
+            assertThat(ranked.get(i).getPosition()).isEqualTo(i + 1);
+        }
+    }
+
+    private static String uniqueName(final String prefix) {
+        return prefix + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,175 @@
+package biz.thonbecker.personal.foosball.platform.tournament.algorithm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import biz.thonbecker.personal.foosball.platform.persistence.Player;
+import biz.thonbecker.personal.foosball.platform.persistence.Tournament;
+import biz.thonbecker.personal.foosball.platform.persistence.TournamentMatch;
+import biz.thonbecker.personal.foosball.platform.persistence.TournamentRegistration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Simulates complete tournaments on brackets wired through {@link BracketIndex} and on the same
+ * brackets re-wired with the original full-list searches, and expects identical paths and results.
+ */
+class BracketNavigationTest {
+
+    private static final Comparator<TournamentRegistration> BY_SEED =
+            Comparator.comparing(TournamentRegistration::getSeed);
+
+    @ParameterizedTest
+    @ValueSource(ints = {4, 5, 7, 8, 12, 16, 31, 32, 64, 100, 128, 256, 512})
+    void singleEliminationMatchesLinearSearchWiring(int entrants) {
+        final var algorithm = new SingleEliminationAlgorithm();
+        final var indexed = generate(algorithm, Tournament.TournamentType.SINGLE_ELIMINATION, entrants);
+        final var legacy = generate(algorithm, Tournament.TournamentType.SINGLE_ELIMINATION, entrants);
+        rewireSingleElimination(legacy, roundCount(entrants));
+
+        assertSameWiring(indexed, legacy);
+        final var results = simulate(algorithm, indexed);
+        assertThat(results).isEqualTo(simulate(algorithm, legacy));
+
+        // Only full brackets are played to the end; byes can leave first-round matches without teams
+        if (Integer.bitCount(entrants) == 1) {
+            final var finalMatch = indexed.get(indexed.size() - 1);
+            assertThat(finalMatch.isCompleted()).isTrue();
+            assertThat(finalMatch.getWinner().getSeed()).isEqualTo(1);
+            assertThat(results).hasSize(entrants - 1);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {4, 5, 7, 8, 12, 16, 31, 32, 64, 100, 128, 256, 512})
+    void doubleEliminationMatchesLinearSearchWiring(int entrants) {
+        final var algorithm = new DoubleEliminationAlgorithm();
+        final var indexed = generate(algorithm, Tournament.TournamentType.DOUBLE_ELIMINATION, entrants);
+        final var legacy = generate(algorithm, Tournament.TournamentType.DOUBLE_ELIMINATION, entrants);
+        rewireDoubleElimination(legacy, roundCount(entrants));
+
+        assertSameWiring(indexed, legacy);
+        assertThat(simulate(algorithm, indexed)).isEqualTo(simulate(algorithm, legacy));
+    }
+
+    private static List<TournamentMatch> generate(
+            TournamentAlgorithm algorithm, Tournament.TournamentType type, int entrants) {
+        final var tournament = new Tournament("bracket", type, new Player("host"));
+        final var registrations = new ArrayList<TournamentRegistration>();
+        for (var i = 1; i <= entrants; i++) {
+            final var registration = new TournamentRegistration(tournament, new Player("player-" + i));
+            registration.setId((long) i);
+            registration.setSeed(i);
+            registrations.add(registration);
+        }
+        return algorithm.generateBracket(tournament, registrations);
+    }
+
+    private static int roundCount(int entrants) {
+        return (int) Math.ceil(Math.log(entrants) / Math.log(2));
+    }
+
+    private static void assertSameWiring(List<TournamentMatch> indexed, List<TournamentMatch> legacy) {
+        assertThat(indexed).hasSameSizeAs(legacy);
+        for (var i = 0; i < indexed.size(); i++) {
+            final var expected = legacy.get(i);
+            final var actual = indexed.get(i);
+            assertThat(slot(actual.getNextMatch()))
+                    .as("next match of %s", slot(actual))
+                    .isEqualTo(slot(expected.getNextMatch()));
+            assertThat(slot(actual.getConsolationMatch()))
+                    .as("loser destination of %s", slot(actual))
+                    .isEqualTo(slot(expected.getConsolationMatch()));
+        }
+    }
+
+    /** Plays every ready match, lower seed winning, until nothing is left to play. */
+    private static Map<String, String> simulate(TournamentAlgorithm algorithm, List<TournamentMatch> matches) {
+        final var results = new TreeMap<String, String>();
+        var played = true;
+        while (played) {
+            played = false;
+            for (final var match : matches) {
+                if (!match.canStart()) {
+                    continue;
+                }
+                match.walkover(BY_SEED.compare(match.getTeam1(), match.getTeam2()) < 0
+                        ? match.getTeam1()
+                        : match.getTeam2());
+                algorithm.advanceWinner(match);
+                final var pairing = match.getTeam1().getSeed() + "-" + match.getTeam2().getSeed();
+                results.put(slot(match), pairing + ":" + match.getWinner().getSeed());
+                played = true;
+            }
+        }
+        return results;
+    }
+
+    private static String slot(TournamentMatch match) {
+        return match == null
+                ? "none"
+                : match.getBracketType() + "-" + match.getRoundNumber() + "-" + match.getMatchNumber();
+    }
+
+    // The original wiring, searching the whole bracket for every destination
+
+    private static void rewireSingleElimination(List<TournamentMatch> matches, int roundCount) {
+        matches.forEach(match -> match.setNextMatch(null));
+        for (final var match : matches) {
+            if (match.getRoundNumber() == roundCount) continue;
+            final var nextRound = match.getRoundNumber() + 1;
+            final var nextMatch = (match.getMatchNumber() + 1) / 2;
+            matches.stream()
+                    .filter(m -> m.getRoundNumber().equals(nextRound)
+                            && m.getMatchNumber().equals(nextMatch))
+                    .findFirst()
+                    .ifPresent(match::setNextMatch);
+        }
+    }
+
+    private static void rewireDoubleElimination(List<TournamentMatch> matches, int winnersRounds) {
+        final var winners = matches.stream()
+                .filter(m -> m.getBracketType() == TournamentMatch.BracketType.MAIN
+                        && m.getRoundNumber() <= winnersRounds)
+                .toList();
+        final var losers = matches.stream()
+                .filter(m -> m.getBracketType() == TournamentMatch.BracketType.LOSERS)
+                .toList();
+        final var grandFinals = matches.get(matches.size() - 1);
+        matches.forEach(match -> {
+            match.setNextMatch(null);
+            match.setConsolationMatch(null);
+        });
+
+        rewireSingleElimination(winners, winnersRounds);
+        final var losersRounds = 2 * winnersRounds - 1;
+        for (final var match : losers) {
+            if (match.getRoundNumber() == losersRounds) continue;
+            final var nextRound = match.getRoundNumber() + 1;
+            final var nextMatch =
+                    match.getRoundNumber() % 2 == 0 ? (match.getMatchNumber() + 1) / 2 : match.getMatchNumber();
+            losers.stream()
+                    .filter(m -> m.getRoundNumber().equals(nextRound)
+                            && m.getMatchNumber().equals(nextMatch))
+                    .findFirst()
+                    .ifPresent(match::setNextMatch);
+        }
+
+        winners.stream().filter(m -> m.getNextMatch() == null).findFirst().ifPresent(m -> m.setNextMatch(grandFinals));
+        losers.stream().filter(m -> m.getNextMatch() == null).findFirst().ifPresent(m -> m.setNextMatch(grandFinals));
+        for (final var match : winners) {
+            final int round = match.getRoundNumber();
+            final var losersRound = round == 1 ? 1 : 2 * round - 2;
+            final var losersMatch = round == 1 ? (match.getMatchNumber() + 1) / 2 : match.getMatchNumber();
+            losers.stream()
+                    .filter(m -> m.getRoundNumber().equals(losersRound)
+                            && m.getMatchNumber().equals(losersMatch))
+                    .findFirst()
+                    .ifPresent(match::setConsolationMatch);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package biz.thonbecker.personal.shared.platform.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+class CacheConfigTest {
+
+    private final CacheManager cacheManager = new CacheConfig().cacheManager();
+
+    @Test
+    void registersEveryConfiguredCacheAndNothingElse() {
+        assertThat(cacheManager.getCacheNames())
+                .containsExactlyInAnyOrder(
+                        "bibleVerses", "jokeAudio", "plantData", "plantSearch", "plantImages", "plantsByZone");
+        assertThat(cacheManager.getCache("unconfigured")).isNull();
+    }
+
+    @Test
+    void heavyEntriesInOneCacheDoNotEvictAnotherCache() {
+        final var plantData = nativeCache("plantData");
+        final var plantImages = nativeCache("plantImages");
+        for (var i = 0; i < 50; i++) {
+            plantData.put("symbol-" + i, "plant-" + i);
+        }
+
+        final var longUrl = "https://cdn.example.com/" + "x".repeat(4_000);
+        for (var i = 0; i < 1_000; i++) {
+            plantImages.put("plant-" + i, longUrl + i);
+        }
+        plantData.cleanUp();
+        plantImages.cleanUp();
+
+        final var imageEviction = plantImages.policy().eviction().orElseThrow();
+        assertThat(imageEviction.weightedSize().orElseThrow()).isLessThanOrEqualTo(imageEviction.getMaximum());
+        assertThat(plantImages.estimatedSize()).isLessThan(1_000);
+        assertThat(plantImages.stats().evictionCount()).isPositive();
+        assertThat(plantData.estimatedSize()).isEqualTo(50);
+        assertThat(plantData.stats().evictionCount()).isZero();
+    }
+
+    @Test
+    void listCachesAreWeighedByElementCount() {
+        final var plantsByZone = nativeCache("plantsByZone");
+        plantsByZone.put("zone-5", List.of("a", "b", "c"));
+        plantsByZone.put("zone-6", List.of());
+        plantsByZone.cleanUp();
+
+        assertThat(plantsByZone.policy().eviction().orElseThrow().weightedSize()).hasValue(4);
+    }
+
+    @Test
+    void everyCacheRecordsStatisticsForTheCacheMetrics() {
+        final var plantData = cacheManager.getCache("plantData");
+        plantData.put("ABC", "Plant");
+        plantData.get("ABC");
+        plantData.get("missing");
+
+        final var stats = nativeCache("plantData").stats();
+        assertThat(stats.hitCount()).isEqualTo(1);
+        assertThat(stats.missCount()).isEqualTo(1);
+        for (final var name : cacheManager.getCacheNames()) {
+            assertThat(nativeCache(name).policy().isRecordingStats()).as(name).isTrue();
+        }
+    }
+
+    private Cache<Object, Object> nativeCache(final String name) {
+        return ((CaffeineCache) cacheManager.getCache(name)).getNativeCache();
+    }
+}
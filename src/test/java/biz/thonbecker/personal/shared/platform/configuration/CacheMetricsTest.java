@@ -0,0 +1,47 @@
+package biz.thonbecker.personal.shared.platform.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import biz.thonbecker.personal.IntegrationTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Checks that Spring Boot's cache metrics pick up the caches {@link CacheConfig} registers, now that
+ * nothing binds them by hand.
+ */
+@IntegrationTest
+class CacheMetricsTest {
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void cacheGetsAreCountedByResult() {
+        final var hitsBefore = gets("hit");
+        final var missesBefore = gets("miss");
+
+        final var plantData = cacheManager.getCache("plantData");
+        final var key = UUID.randomUUID().toString();
+        plantData.put(key, "Plant");
+        plantData.get(key);
+        plantData.get(UUID.randomUUID().toString());
+
+        assertThat(gets("hit")).isEqualTo(hitsBefore + 1);
+        assertThat(gets("miss")).isEqualTo(missesBefore + 1);
+    }
+
+    private double gets(final String result) {
+        return meterRegistry
+                .get("cache.gets")
+                .tags("cache", "plantData", "cache.manager", "cacheManager", "result", result)
+                .functionCounter()
+                .count();
+    }
+}
@@ -0,0 +1,164 @@
+package biz.thonbecker.personal.skatetricks.platform;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import ai.djl.inference.Predictor;
+import ai.djl.modality.cv.Image;
+import ai.djl.modality.cv.ImageFactory;
+import ai.djl.modality.cv.output.BoundingBox;
+import ai.djl.modality.cv.output.DetectedObjects;
+import ai.djl.modality.cv.output.Joints;
+import ai.djl.modality.cv.output.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class PoseEstimationServiceTest {
+
+    private static final int FRAME_COUNT = 24;
+
+    private final PoseEstimationService service = new PoseEstimationService();
+
+    @Test
+    void parallelPipelineMatchesSequentialPath() throws Exception {
+        List<Image> images = syntheticFrames();
+
+        PoseData.SequencePoseData sequential;
+        try (var posePool = posePool(1);
+                var boardPool = boardPool(1)) {
+            sequential = service.estimatePoses(images, posePool, boardPool);
+        }
+
+        PoseData.SequencePoseData parallel;
+        try (var posePool = posePool(4);
+                var boardPool = boardPool(4)) {
+            parallel = service.estimatePoses(images, posePool, boardPool);
+        }
+
+        assertEquals(sequential, parallel);
+        assertEquals(FRAME_COUNT, parallel.frames().size());
+    }
+
+    @Test
+    void framesKeepInputOrderWhenInferenceCompletesOutOfOrder() throws Exception {
+        List<Image> images = syntheticFrames();
+
+        PoseData.SequencePoseData result;
+        try (var posePool = posePool(6)) {
+            result = service.estimatePoses(images, posePool, null);
+        }
+
+        for (int i = 0; i < FRAME_COUNT; i++) {
+            PoseData.FramePoseData frame = result.frames().get(i);
+            assertEquals(i, frame.frameIndex());
+            PoseData.Keypoint nose = frame.persons().getFirst().keypoints().getFirst();
+            assertEquals(expectedNoseX(i), nose.x(), 1e-9, "frame " + i + " should carry its own pose");
+        }
+    }
+
+    @Test
+    void poolReusesPreCreatedPredictors() throws Exception {
+        AtomicInteger created = new AtomicInteger();
+        try (PredictorPool<Image, Joints[]> posePool = new PredictorPool<>(
+                "pose-test",
+                () -> {
+                    created.incrementAndGet();
+                    return posePredictor();
+                },
+                3)) {
+            service.estimatePoses(syntheticFrames(), posePool, null);
+            service.estimatePoses(syntheticFrames(), posePool, null);
+        }
+
+        assertEquals(3, created.get());
+    }
+
+    private static PredictorPool<Image, Joints[]> posePool(int size) {
+        return new PredictorPool<>("pose-test", PoseEstimationServiceTest::posePredictor, size);
+    }
+
+    private static PredictorPool<Image, DetectedObjects> boardPool(int size) {
+        return new PredictorPool<>("board-test", PoseEstimationServiceTest::boardPredictor, size);
+    }
+
+    private static List<Image> syntheticFrames() {
+        List<Image> images = new ArrayList<>(FRAME_COUNT);
+        for (int i = 0; i < FRAME_COUNT; i++) {
+            // Encode the frame index in the width so stub predictors can derive per-frame output
+            BufferedImage frame = new BufferedImage(10 + i, 10, BufferedImage.TYPE_INT_RGB);
+            images.add(ImageFactory.getInstance().fromImage(frame));
+        }
+        return images;
+    }
+
+    private static double expectedNoseX(int frameIndex) {
+        return 0.5 + frameIndex * 0.001;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Predictor<Image, Joints[]> posePredictor() {
+        Predictor<Image, Joints[]> predictor = mock(Predictor.class);
+        try {
+            when(predictor.predict(any())).thenAnswer(invocation -> {
+                jitter();
+                Image image = invocation.getArgument(0);
+                return new Joints[] {jointsForFrame(image.getWidth() - 10)};
+            });
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return predictor;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Predictor<Image, DetectedObjects> boardPredictor() {
+        Predictor<Image, DetectedObjects> predictor = mock(Predictor.class);
+        try {
+            when(predictor.predict(any())).thenAnswer(invocation -> {
+                jitter();
+                Image image = invocation.getArgument(0);
+                int frame = image.getWidth() - 10;
+                double bottomY = frame >= 10 && frame <= 14 ? 0.6 : 0.9;
+                BoundingBox box = new Rectangle(0.4, bottomY - 0.1, 0.2, 0.1);
+                return new DetectedObjects(List.of("skateboard"), List.of(0.8), List.of(box));
+            });
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return predictor;
+    }
+
+    private static Joints jointsForFrame(int frame) {
+        boolean airborne = frame >= 10 && frame <= 14;
+        double ankleY = airborne ? 0.7 : 0.9;
+        double shoulderTilt = frame * 0.01;
+        List<Joints.Joint> joints = new ArrayList<>();
+        joints.add(new Joints.Joint(expectedNoseX(frame), 0.1, 0.9)); // nose
+        for (int i = 1; i < 5; i++) {
+            joints.add(new Joints.Joint(0.5, 0.1, 0.9)); // eyes and ears
+        }
+        joints.add(new Joints.Joint(0.4, 0.3, 0.9)); // left shoulder
+        joints.add(new Joints.Joint(0.6, 0.3 + shoulderTilt, 0.9)); // right shoulder
+        joints.add(new Joints.Joint(0.35, 0.4, 0.9)); // left elbow
+        joints.add(new Joints.Joint(0.65, 0.4, 0.9)); // right elbow
+        joints.add(new Joints.Joint(0.3, 0.5, 0.9)); // left wrist
+        joints.add(new Joints.Joint(0.7, 0.5, 0.9)); // right wrist
+        joints.add(new Joints.Joint(0.45, 0.55, 0.9)); // left hip
+        joints.add(new Joints.Joint(0.55, 0.55, 0.9)); // right hip
+        joints.add(new Joints.Joint(0.43, ankleY - 0.12, 0.9)); // left knee
+        joints.add(new Joints.Joint(0.57, ankleY - 0.12, 0.9)); // right knee
+        joints.add(new Joints.Joint(0.45, ankleY, 0.9)); // left ankle
+        joints.add(new Joints.Joint(0.55, ankleY, 0.9)); // right ankle
+        return new Joints(joints);
+    }
+
+    private static void jitter() throws InterruptedException {
+        Thread.sleep(ThreadLocalRandom.current().nextInt(0, 5));
+    }
+}
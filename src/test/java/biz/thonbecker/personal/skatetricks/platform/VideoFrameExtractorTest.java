@@ -1,13 +1,31 @@
 package biz.thonbecker.personal.skatetricks.platform;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import org.jcodec.api.FrameGrab;
+import org.jcodec.api.awt.AWTSequenceEncoder;
+import org.jcodec.common.io.ByteBufferSeekableByteChannel;
+import org.jcodec.common.model.Picture;
+import org.jcodec.scale.AWTUtil;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class VideoFrameExtractorTest {
 
+    private static final int SYNTHETIC_FRAMES = 90;
+    private static final int SYNTHETIC_FPS = 30;
+
     @Test
     void shortClipsSampleDenselyAcrossEntireClip() {
         List<Integer> frames = VideoFrameExtractor.sampleFrameNumbers(90, 3.0, 24);
@@ -61,6 +79,92 @@ class VideoFrameExtractorTest {
         assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7), frames);
     }
 
+    @Test
+    void forwardPassPicksSameFramesAsPreciseSeek(@TempDir Path tempDir) throws Exception {
+        byte[] video = syntheticClip(tempDir.resolve("synthetic.mp4"));
+        VideoFrameExtractor extractor = new VideoFrameExtractor(observability());
+
+        List<BufferedImage> streamed = extractor.extractFrames(video);
+        List<BufferedImage> seeked = seekEachFrame(video);
+
+        assertEquals(seeked.size(), streamed.size());
+        for (int i = 0; i < seeked.size(); i++) {
+            assertArrayEquals(pixels(seeked.get(i)), pixels(streamed.get(i)), "frame " + i + " should match");
+        }
+    }
+
+    @Test
+    void forwardPassReturnsSampledFramesInOrder(@TempDir Path tempDir) throws Exception {
+        byte[] video = syntheticClip(tempDir.resolve("synthetic.mp4"));
+        VideoFrameExtractor extractor = new VideoFrameExtractor(observability());
+
+        List<BufferedImage> frames = extractor.extractFrames(video);
+        List<Integer> expected = VideoFrameExtractor.sampleFrameNumbers(
+                SYNTHETIC_FRAMES, SYNTHETIC_FRAMES / (double) SYNTHETIC_FPS, 24);
+
+        assertEquals(expected.size(), frames.size());
+        for (int i = 0; i < frames.size(); i++) {
+            double expectedBrightness = brightnessForFrame(expected.get(i));
+            assertEquals(expectedBrightness, meanBrightness(frames.get(i)), 8.0, "sample " + i + " brightness");
+        }
+        assertEquals(frames.size(), extractor.extractBase64Frames(video).size());
+    }
+
+    private static byte[] syntheticClip(Path file) throws Exception {
+        AWTSequenceEncoder encoder = AWTSequenceEncoder.createSequenceEncoder(file.toFile(), SYNTHETIC_FPS);
+        for (int i = 0; i < SYNTHETIC_FRAMES; i++) {
+            BufferedImage frame = new BufferedImage(64, 48, BufferedImage.TYPE_3BYTE_BGR);
+            Graphics2D graphics = frame.createGraphics();
+            int level = brightnessForFrame(i);
+            graphics.setColor(new Color(level, level, level));
+            graphics.fillRect(0, 0, frame.getWidth(), frame.getHeight());
+            graphics.dispose();
+            encoder.encodeImage(frame);
+        }
+        encoder.finish();
+        return Files.readAllBytes(file);
+    }
+
+    /** Reference implementation: the per-sample precise seek the extractor used before. */
+    private static List<BufferedImage> seekEachFrame(byte[] video) throws Exception {
+        ByteBuffer buffer = ByteBuffer.wrap(video);
+        try (var channel = new ByteBufferSeekableByteChannel(buffer, buffer.remaining())) {
+            FrameGrab frameGrab = FrameGrab.createFrameGrab(channel);
+            var meta = frameGrab.getVideoTrack().getMeta();
+            List<Integer> frameNumbers = VideoFrameExtractor.sampleFrameNumbers(
+                    Math.max(1, meta.getTotalFrames()), meta.getTotalDuration(), 24);
+            List<BufferedImage> frames = new ArrayList<>();
+            for (int frameNumber : frameNumbers) {
+                frameGrab.seekToFramePrecise(frameNumber);
+                Picture picture = frameGrab.getNativeFrame();
+                if (picture != null) {
+                    frames.add(AWTUtil.toBufferedImage(picture));
+                }
+            }
+            return frames;
+        }
+    }
+
+    private static int brightnessForFrame(int frameNumber) {
+        return 20 + frameNumber * 2;
+    }
+
+    private static double meanBrightness(BufferedImage image) {
+        long total = 0;
+        for (int rgb : pixels(image)) {
+            total += (rgb >> 16 & 0xff) + (rgb >> 8 & 0xff) + (rgb & 0xff);
+        }
+        return total / (3.0 * image.getWidth() * image.getHeight());
+    }
+
+    private static int[] pixels(BufferedImage image) {
+        return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+    }
+
+    private static SkatetricksObservability observability() {
+        return new SkatetricksObservability(new SimpleMeterRegistry());
+    }
+
     private static void assertChronological(List<Integer> frames) {
         for (int i = 1; i < frames.size(); i++) {
             assertTrue(frames.get(i) > frames.get(i - 1), "frames should be strictly increasing");
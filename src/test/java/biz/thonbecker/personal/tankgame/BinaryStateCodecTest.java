@@ -0,0 +1,213 @@
+package biz.thonbecker.personal.tankgame;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.within;
+
+import biz.thonbecker.personal.tankgame.domain.BinaryGameState;
+import biz.thonbecker.personal.tankgame.domain.BinaryStateCodec;
+import biz.thonbecker.personal.tankgame.domain.DeltaStateEncoder;
+import biz.thonbecker.personal.tankgame.domain.GameState;
+import biz.thonbecker.personal.tankgame.domain.GameStateSnapshot;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Property tests for the binary frame protocol: randomized matches are encoded tick by tick against
+ * whatever the simulated client last acknowledged, and every decoded frame must equal the encoded state.
+ */
+class BinaryStateCodecTest {
+
+    private static final int MATCHES = 200;
+    private static final int TICKS = 120;
+    private static final double PIXEL = 1.0 / BinaryGameState.POSITION_SCALE;
+
+    @Test
+    void deltaFramesDecodeToTheEncodedStateWhateverTheClientAcknowledged() {
+        final var random = new Random(7);
+        for (var match = 0; match < MATCHES; match++) {
+            final var game = new RandomGame(random);
+            final var encoder = new DeltaStateEncoder();
+            final var received = new HashMap<Integer, BinaryGameState>();
+            var acknowledged = 0;
+
+            for (var tick = 1; tick <= TICKS; tick++) {
+                game.step();
+                final var expected = encoder.advance(tick, game.snapshot());
+                final var frame = encoder.encode(acknowledged);
+                final var decoded =
+                        BinaryStateCodec.decode(frame, received.get(BinaryStateCodec.baseTick(frame)));
+
+                assertThat(decoded).isEqualTo(expected);
+                received.put(tick, decoded);
+                // Acknowledgements are lost, late or skipped now and then
+                if (random.nextInt(4) > 0) {
+                    acknowledged = tick - random.nextInt(Math.min(tick, 40));
+                }
+            }
+        }
+    }
+
+    @Test
+    void quantizationStaysWithinHalfAFixedPointStep() {
+        final var random = new Random(11);
+        for (var match = 0; match < MATCHES; match++) {
+            final var game = new RandomGame(random);
+            game.step();
+            final var snapshot = game.snapshot();
+            final var encoder = new DeltaStateEncoder();
+            encoder.advance(1, snapshot);
+            final var state = BinaryStateCodec.decode(encoder.encode(0), null);
+
+            final var byTankId = new HashMap<String, BinaryGameState.TankState>();
+            state.tanks().forEach(tank -> byTankId.put(tank.tankId(), tank));
+            snapshot.tanks().values().forEach(tank -> {
+                final var decoded = byTankId.get(tank.id());
+                assertThat(decoded.x() * PIXEL).isCloseTo(tank.x(), within(PIXEL / 2));
+                assertThat(decoded.y() * PIXEL).isCloseTo(tank.y(), within(PIXEL / 2));
+                final var turn = Math.floorMod(Math.round(tank.rotation() / (2 * Math.PI) * 65_536), 65_536L);
+                assertThat(decoded.rotation()).isEqualTo((int) turn);
+                assertThat(decoded.alive()).isEqualTo(tank.alive());
+            });
+            assertThat(state.projectiles()).hasSameSizeAs(snapshot.projectiles());
+        }
+    }
+
+    @Test
+    void unchangedEntitiesAreLeftOutOfDeltas() {
+        final var random = new Random(5);
+        final var game = new RandomGame(random);
+        final var encoder = new DeltaStateEncoder();
+        game.step();
+        encoder.advance(1, game.snapshot());
+        final var full = encoder.encode(0);
+
+        encoder.advance(2, game.snapshot());
+        final var delta = encoder.encode(1);
+
+        assertThat(BinaryStateCodec.baseTick(delta)).isEqualTo(1);
+        assertThat(delta.length).isLessThan(full.length / 4);
+        assertThat(encoder.encode(1)).isSameAs(delta);
+    }
+
+    @Test
+    void rejectsADeltaWithoutItsBaseline() {
+        final var game = new RandomGame(new Random(1));
+        final var encoder = new DeltaStateEncoder();
+        game.step();
+        encoder.advance(1, game.snapshot());
+        final var first = BinaryStateCodec.decode(encoder.encode(0), null);
+        game.step();
+        encoder.advance(2, game.snapshot());
+        final var delta = encoder.encode(1);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> BinaryStateCodec.decode(delta, null));
+        assertThat(BinaryStateCodec.decode(delta, first).tick()).isEqualTo(2);
+    }
+
+    /** A match whose tanks drive, shoot, die and come and go at random. */
+    private static final class RandomGame {
+
+        private final Random random;
+        private final Map<String, GameStateSnapshot.TankSnapshot> tanks = new LinkedHashMap<>();
+        private final List<GameStateSnapshot.ProjectileSnapshot> projectiles = new ArrayList<>();
+        private GameState.GameStatus status = GameState.GameStatus.PLAYING;
+        private String winnerId;
+        private String winnerName;
+
+        private RandomGame(final Random random) {
+            this.random = random;
+            for (var i = 2 + random.nextInt(3); i > 0; i--) {
+                addTank();
+            }
+        }
+
+        void step() {
+            if (random.nextInt(20) == 0 && tanks.size() < 4) {
+                addTank();
+            }
+            if (random.nextInt(30) == 0 && tanks.size() > 1) {
+                tanks.remove(tanks.keySet().iterator().next());
+            }
+            tanks.replaceAll((id, tank) -> random.nextInt(3) == 0 ? tank : move(tank));
+
+            projectiles.replaceAll(projectile -> new GameStateSnapshot.ProjectileSnapshot(
+                    projectile.id(), projectile.x() + 6.4, projectile.y() - 3.1, projectile.radius()));
+            projectiles.removeIf(projectile -> random.nextInt(10) == 0 || projectile.x() > 920);
+            for (var i = random.nextInt(3); i > 0; i--) {
+                projectiles.add(new GameStateSnapshot.ProjectileSnapshot(
+                        UUID.randomUUID().toString(), coordinate(920), coordinate(440), 5));
+            }
+
+            if (random.nextInt(60) == 0) {
+                final var winner = tanks.values().iterator().next();
+                status = GameState.GameStatus.FINISHED;
+                winnerId = winner.id();
+                winnerName = winner.playerName();
+            }
+        }
+
+        GameStateSnapshot snapshot() {
+            return new GameStateSnapshot(
+                    "game",
+                    status,
+                    920,
+                    440,
+                    winnerId,
+                    winnerName,
+                    new LinkedHashMap<>(tanks),
+                    List.copyOf(projectiles),
+                    null);
+        }
+
+        private void addTank() {
+            final var id = UUID.randomUUID().toString();
+            tanks.put(
+                    id,
+                    new GameStateSnapshot.TankSnapshot(
+                            id,
+                            random.nextBoolean() ? "Pilot " + tanks.size() : "Pilöt ✓",
+                            coordinate(920),
+                            coordinate(440),
+                            40,
+                            40,
+                            100,
+                            100,
+                            "#FF6B6B",
+                            random.nextBoolean() ? "striker" : null,
+                            random.nextBoolean(),
+                            0,
+                            true,
+                            0));
+        }
+
+        private GameStateSnapshot.TankSnapshot move(final GameStateSnapshot.TankSnapshot tank) {
+            final var health = random.nextInt(8) == 0 ? Math.max(0, tank.health() - 25) : tank.health();
+            return new GameStateSnapshot.TankSnapshot(
+                    tank.id(),
+                    tank.playerName(),
+                    Math.clamp(tank.x() + random.nextGaussian() * 3, 0, 920),
+                    Math.clamp(tank.y() + random.nextGaussian() * 3, 0, 440),
+                    tank.width(),
+                    tank.height(),
+                    health,
+                    tank.maxHealth(),
+                    tank.color(),
+                    tank.loadoutId(),
+                    tank.bot(),
+                    tank.rotation() + random.nextGaussian(),
+                    health > 0,
+                    tank.kills() + (random.nextInt(15) == 0 ? 1 : 0));
+        }
+
+        private double coordinate(final double max) {
+            return random.nextDouble() * max;
+        }
+    }
+}
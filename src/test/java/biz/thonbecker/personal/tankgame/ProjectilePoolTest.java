@@ -0,0 +1,139 @@
+package biz.thonbecker.personal.tankgame;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.within;
+
+import biz.thonbecker.personal.tankgame.domain.GameState;
+import biz.thonbecker.personal.tankgame.domain.GameStateSnapshot;
+import biz.thonbecker.personal.tankgame.domain.ProjectilePool;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+class ProjectilePoolTest {
+
+    @Test
+    void reusesRetiredSlotsAndGrowsWhenFull() {
+        final var pool = new ProjectilePool(2);
+        final var first = pool.spawn("owner", 10, 10, 0);
+        final var second = pool.spawn("owner", 20, 20, 0);
+        pool.retire(first);
+
+        assertThat(pool.spawn("owner", 30, 30, 0)).isEqualTo(first);
+        assertThat(pool.spawn("owner", 40, 40, 0)).isEqualTo(2);
+        assertThat(pool.size()).isEqualTo(3);
+        assertThat(pool.limit()).isEqualTo(3);
+        assertThat(pool.isLive(second)).isTrue();
+        assertThat(pool.id(first)).isNotEqualTo(pool.id(second)).isNotEqualTo(pool.id(2));
+    }
+
+    @Test
+    void movesAlongTheAngleAndBurnsOut() {
+        final var pool = new ProjectilePool(1);
+        final var slot = pool.spawn("owner", 100, 100, Math.PI / 2);
+
+        pool.advance(slot, 0.5);
+        assertThat(pool.x(slot)).isCloseTo(100, within(1e-9));
+        assertThat(pool.y(slot)).isCloseTo(100 + ProjectilePool.SPEED / 2, within(1e-9));
+        assertThat(pool.isBurntOut(slot)).isFalse();
+
+        for (var i = 0; i < 6; i++) {
+            pool.advance(slot, 0.5);
+        }
+        assertThat(pool.isBurntOut(slot)).isTrue();
+    }
+
+    @Test
+    void viewOnlyChangesOnPublishAndIsImmutable() {
+        final var pool = new ProjectilePool(4);
+        final var slot = pool.spawn("owner", 1, 2, 0);
+        assertThat(pool.view()).isEmpty();
+
+        pool.publish();
+        final var published = pool.view();
+        assertThat(published).singleElement().satisfies(projectile -> {
+            assertThat(projectile.id()).isEqualTo(pool.id(slot));
+            assertThat(projectile.x()).isEqualTo(1);
+            assertThat(projectile.y()).isEqualTo(2);
+            assertThat(projectile.radius()).isEqualTo(ProjectilePool.RADIUS);
+        });
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(published::clear);
+
+        pool.retire(slot);
+        assertThat(pool.view()).isSameAs(published);
+        pool.publish();
+        assertThat(pool.view()).isEmpty();
+        assertThat(published).hasSize(1);
+    }
+
+    @Test
+    void readersSeeConsistentViewsWhileTheTickChurnsProjectiles() throws InterruptedException {
+        final var game = new GameState();
+        final var pool = game.getProjectilePool();
+        final var mapper = JsonMapper.builder().build();
+        final var running = new AtomicBoolean(true);
+        final var failures = new CopyOnWriteArrayList<Throwable>();
+        final var views = new AtomicLong();
+        final var readersDone = new CountDownLatch(3);
+
+        for (var r = 0; r < 3; r++) {
+            Thread.ofPlatform().daemon().start(() -> {
+                try {
+                    while (running.get()) {
+                        // What the broadcasts do: snapshot and serialize without holding the game lock
+                        final var projectiles = game.getProjectiles();
+                        final var ids = new HashSet<String>();
+                        for (final var projectile : projectiles) {
+                            assertThat(ids.add(projectile.id())).as("unique id").isTrue();
+                            assertThat(projectile.radius()).isEqualTo(ProjectilePool.RADIUS);
+                        }
+                        GameStateSnapshot.dynamicState(game);
+                        mapper.writeValueAsString(game);
+                        views.incrementAndGet();
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    readersDone.countDown();
+                }
+            });
+        }
+
+        final var random = new Random(9);
+        var spawned = 0;
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (System.nanoTime() < deadline || spawned < 10_000) {
+            synchronized (game) {
+                for (var i = random.nextInt(20); i > 0; i--) {
+                    pool.spawn("tank-" + random.nextInt(4), 460, 220, random.nextDouble() * 2 * Math.PI);
+                    spawned++;
+                }
+                for (var slot = 0; slot < pool.limit(); slot++) {
+                    if (!pool.isLive(slot)) {
+                        continue;
+                    }
+                    pool.advance(slot, 0.016);
+                    if (random.nextInt(8) == 0 || pool.x(slot) < 0 || pool.x(slot) > 920) {
+                        pool.retire(slot);
+                    }
+                }
+                pool.publish();
+            }
+        }
+        running.set(false);
+
+        assertThat(readersDone.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(failures).isEmpty();
+        assertThat(views.get()).isPositive();
+        assertThat(spawned).isGreaterThanOrEqualTo(10_000);
+        // Free-list reuse keeps the pool near the peak live count rather than the number ever fired
+        assertThat(pool.limit()).isLessThan(spawned / 10);
+    }
+}
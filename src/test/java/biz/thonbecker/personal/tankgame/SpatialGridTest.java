@@ -0,0 +1,190 @@
+package biz.thonbecker.personal.tankgame;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import biz.thonbecker.personal.tankgame.domain.GameState;
+import biz.thonbecker.personal.tankgame.domain.ProjectilePool;
+import biz.thonbecker.personal.tankgame.domain.SpatialGrid;
+import biz.thonbecker.personal.tankgame.domain.Tank;
+import biz.thonbecker.personal.tankgame.domain.Wall;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Property tests comparing every grid query with the brute-force scan it replaces, over randomized
+ * maps. Positions deliberately include points outside the arena to exercise edge-cell clamping.
+ */
+class SpatialGridTest {
+
+    private static final int TRIALS = 500;
+    private static final int WIDTH = 920;
+    private static final int HEIGHT = 440;
+
+    @Test
+    void wallQueriesMatchBruteForce() {
+        final var random = new Random(3);
+        for (int trial = 0; trial < TRIALS; trial++) {
+            final var walls = randomWalls(random);
+            final var grid = new SpatialGrid(WIDTH, HEIGHT, SpatialGrid.DEFAULT_CELL_SIZE, walls);
+
+            for (int i = 0; i < 50; i++) {
+                final var tank = randomTank(random, "t" + i);
+                assertThat(grid.collidesWithWall(tank))
+                        .as("trial %d tank %s", trial, tank)
+                        .isEqualTo(walls.stream().anyMatch(tank::collidesWith));
+
+                final var shot = randomShot(random, "owner");
+                assertThat(grid.collidesWithWall(shot.x(), shot.y(), ProjectilePool.RADIUS))
+                        .as("trial %d shot %s", trial, shot)
+                        .isEqualTo(walls.stream().anyMatch(shot::overlaps));
+            }
+        }
+    }
+
+    @Test
+    void tankAndProjectileQueriesMatchBruteForceAsTanksMove() {
+        final var random = new Random(7);
+        for (int trial = 0; trial < TRIALS; trial++) {
+            final var grid = new SpatialGrid(WIDTH, HEIGHT, SpatialGrid.DEFAULT_CELL_SIZE, randomWalls(random));
+            final var tanks = new ArrayList<Tank>();
+            final int tankCount = 2 + random.nextInt(12);
+            for (int i = 0; i < tankCount; i++) {
+                final var tank = randomTank(random, "t" + i);
+                tank.setAlive(random.nextInt(5) != 0);
+                tanks.add(tank);
+            }
+            grid.indexTanks(tanks);
+
+            for (int step = 0; step < 5; step++) {
+                for (Tank tank : tanks) {
+                    assertThat(grid.collidesWithOtherTank(tank))
+                            .as("trial %d step %d tank %s", trial, step, tank.getId())
+                            .isEqualTo(bruteForceTankCollision(tanks, tank));
+                }
+                for (int i = 0; i < 40; i++) {
+                    final var owner = tanks.get(random.nextInt(tanks.size())).getId();
+                    var shot = randomShot(random, owner);
+                    if (random.nextBoolean()) {
+                        // Aim at a tank so hits are common rather than incidental
+                        final var target = tanks.get(random.nextInt(tanks.size()));
+                        shot = new Shot(
+                                owner,
+                                target.getX() + random.nextDouble() * target.getWidth(),
+                                target.getY() + random.nextDouble() * target.getHeight());
+                    }
+                    assertThat(grid.findProjectileHit(shot.ownerId(), shot.x(), shot.y(), ProjectilePool.RADIUS))
+                            .as("trial %d step %d shot %s", trial, step, shot)
+                            .isSameAs(bruteForceProjectileHit(tanks, shot));
+                }
+                for (Tank tank : tanks) {
+                    tank.setX(tank.getX() + random.nextGaussian() * 30);
+                    tank.setY(tank.getY() + random.nextGaussian() * 30);
+                    grid.moveTank(tank);
+                }
+            }
+        }
+    }
+
+    @Test
+    void lineOfSightMatchesBruteForceSampling() {
+        final var random = new Random(11);
+        for (int trial = 0; trial < TRIALS; trial++) {
+            final var walls = randomWalls(random);
+            final var grid = new SpatialGrid(WIDTH, HEIGHT, SpatialGrid.DEFAULT_CELL_SIZE, walls);
+            for (int i = 0; i < 20; i++) {
+                final double startX = random.nextDouble() * WIDTH;
+                final double startY = random.nextDouble() * HEIGHT;
+                final double endX = random.nextDouble() * WIDTH;
+                final double endY = random.nextDouble() * HEIGHT;
+                assertThat(grid.hasLineOfSight(startX, startY, endX, endY))
+                        .as("trial %d segment (%f,%f)-(%f,%f)", trial, startX, startY, endX, endY)
+                        .isEqualTo(bruteForceLineOfSight(walls, startX, startY, endX, endY));
+            }
+        }
+    }
+
+    @Test
+    void gameStateIndexesDefaultWallsOnCreation() {
+        final var game = new GameState();
+        final var grid = game.getCollisionGrid();
+
+        final var insideCenterBlock = new Tank("a", "A", 430, 190, "");
+        final var openField = new Tank("b", "B", 60, 60, "");
+        assertThat(grid.collidesWithWall(insideCenterBlock)).isTrue();
+        assertThat(grid.collidesWithWall(openField)).isFalse();
+        assertThat(grid.hasLineOfSight(100, 220, 800, 220)).isFalse();
+        assertThat(grid.hasLineOfSight(100, 60, 800, 60)).isTrue();
+    }
+
+    private static List<Wall> randomWalls(final Random random) {
+        final var walls = new ArrayList<Wall>();
+        final int wallCount = 5 + random.nextInt(25);
+        for (int i = 0; i < wallCount; i++) {
+            walls.add(new Wall(
+                    random.nextInt(WIDTH), random.nextInt(HEIGHT), 5 + random.nextInt(150), 5 + random.nextInt(150)));
+        }
+        return walls;
+    }
+
+    private static Tank randomTank(final Random random, final String id) {
+        final double x = random.nextDouble() * (WIDTH + 80) - 40;
+        final double y = random.nextDouble() * (HEIGHT + 80) - 40;
+        return new Tank(id, id, x, y, "");
+    }
+
+    private static Shot randomShot(final Random random, final String ownerId) {
+        return new Shot(ownerId, random.nextDouble() * (WIDTH + 20) - 10, random.nextDouble() * (HEIGHT + 20) - 10);
+    }
+
+    private static boolean bruteForceTankCollision(final List<Tank> tanks, final Tank tank) {
+        return tanks.stream()
+                .filter(other -> !other.getId().equals(tank.getId()))
+                .filter(Tank::isAlive)
+                .anyMatch(tank::collidesWith);
+    }
+
+    private static Tank bruteForceProjectileHit(final List<Tank> tanks, final Shot shot) {
+        for (Tank tank : tanks) {
+            if (tank.getId().equals(shot.ownerId())) continue;
+            if (!tank.isAlive()) continue;
+            if (shot.overlaps(tank.getX(), tank.getY(), tank.getWidth(), tank.getHeight())) return tank;
+        }
+        return null;
+    }
+
+    /** A projectile of {@link ProjectilePool#RADIUS} at ({@code x}, {@code y}). */
+    private record Shot(String ownerId, double x, double y) {
+
+        boolean overlaps(final Wall wall) {
+            return overlaps(wall.getX(), wall.getY(), wall.getWidth(), wall.getHeight());
+        }
+
+        boolean overlaps(final double left, final double top, final double width, final double height) {
+            final double closestX = Math.max(left, Math.min(x, left + width));
+            final double closestY = Math.max(top, Math.min(y, top + height));
+            final double distanceX = x - closestX;
+            final double distanceY = y - closestY;
+            return distanceX * distanceX + distanceY * distanceY < ProjectilePool.RADIUS * ProjectilePool.RADIUS;
+        }
+    }
+
+    private static boolean bruteForceLineOfSight(
+            final List<Wall> walls, final double startX, final double startY, final double endX, final double endY) {
+        final int samples = Math.max(1, (int) (Math.hypot(endX - startX, endY - startY) / 8));
+        for (int i = 1; i < samples; i++) {
+            final double fraction = (double) i / samples;
+            final double x = startX + (endX - startX) * fraction;
+            final double y = startY + (endY - startY) * fraction;
+            if (walls.stream()
+                    .anyMatch(wall -> x >= wall.getX()
+                            && x <= wall.getX() + wall.getWidth()
+                            && y >= wall.getY()
+                            && y <= wall.getY() + wall.getHeight())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,173 @@
+package biz.thonbecker.personal.tankgame.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import biz.thonbecker.personal.tankgame.domain.MatchResult;
+import biz.thonbecker.personal.tankgame.domain.PlayerProgression;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+/** Runs the writer thread against a mocked {@link ProgressionService}. */
+class MatchResultWriterTest {
+
+    private final ProgressionService progressionService = mock(ProgressionService.class);
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BlockingQueue<List<MatchResult>> batches = new LinkedBlockingQueue<>();
+    private final CountDownLatch firstBatchArrived = new CountDownLatch(1);
+    private volatile CountDownLatch releaseBatches = new CountDownLatch(0);
+
+    @Test
+    void writesResultsQueuedDuringAFlushAsOneBatch() throws Exception {
+        releaseBatches = new CountDownLatch(1);
+        when(progressionService.recordMatches(anyList())).thenAnswer(this::recordBatch);
+        final var writer = writer(50, 100, 1);
+        writer.start();
+
+        writer.submit("tank-0", result("in-flight"));
+        assertThat(firstBatchArrived.await(5, TimeUnit.SECONDS)).isTrue();
+        for (var i = 1; i <= 3; i++) {
+            writer.submit("tank-" + i, result("queued-" + i));
+        }
+        releaseBatches.countDown();
+        writer.close();
+
+        assertThat(usernames(nextBatch())).containsExactly("in-flight");
+        assertThat(usernames(nextBatch())).containsExactly("queued-1", "queued-2", "queued-3");
+        for (var i = 0; i <= 3; i++) {
+            verify(messagingTemplate).convertAndSend(eq("/topic/tankgame/progression/tank-" + i), any(Object.class));
+        }
+    }
+
+    @Test
+    void retriesAFailedBatch() throws Exception {
+        when(progressionService.recordMatches(anyList()))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenAnswer(this::recordBatch);
+        final var writer = writer(50, 100, 3);
+        writer.start();
+
+        writer.submit("tank", result("pilot"));
+        writer.close();
+
+        verify(progressionService, times(2)).recordMatches(anyList());
+        verify(messagingTemplate).convertAndSend(eq("/topic/tankgame/progression/tank"), any(Object.class));
+        assertThat(meterRegistry.get("tankgame.match-results.failed").counter().count())
+                .isZero();
+    }
+
+    @Test
+    void givesUpOnABatchAfterTheLastAttempt() throws Exception {
+        when(progressionService.recordMatches(anyList())).thenThrow(new IllegalStateException("database unavailable"));
+        final var writer = writer(50, 100, 2);
+        writer.start();
+
+        writer.submit("tank-1", result("one"));
+        writer.submit("tank-2", result("two"));
+        writer.close();
+
+        assertThat(meterRegistry.get("tankgame.match-results.failed").counter().count())
+                .isEqualTo(2);
+        verify(messagingTemplate, never()).convertAndSend(any(String.class), any(Object.class));
+    }
+
+    @Test
+    void oneBadResultOnlyLosesItselfAfterTheLastAttempt() throws Exception {
+        when(progressionService.recordMatches(anyList())).thenAnswer(invocation -> {
+            final List<MatchResult> results = invocation.getArgument(0);
+            if (usernames(results).contains("bad")) {
+                throw new IllegalArgumentException("constraint violation");
+            }
+            return recordBatch(invocation);
+        });
+        final var writer = writer(50, 100, 2);
+        // Queued before the writer starts, so all five go out as one batch
+        for (final var username : List.of("good-1", "good-2", "bad", "good-3", "good-4")) {
+            writer.submit("tank-" + username, result(username));
+        }
+        writer.start();
+        writer.close();
+
+        verify(progressionService, times(2 + 5)).recordMatches(anyList());
+        assertThat(batches)
+                .extracting(MatchResultWriterTest::usernames)
+                .containsExactly(List.of("good-1"), List.of("good-2"), List.of("good-3"), List.of("good-4"));
+        for (final var username : List.of("good-1", "good-2", "good-3", "good-4")) {
+            verify(messagingTemplate)
+                    .convertAndSend(eq("/topic/tankgame/progression/tank-" + username), any(Object.class));
+        }
+        verify(messagingTemplate, never())
+                .convertAndSend(eq("/topic/tankgame/progression/tank-bad"), any(Object.class));
+        assertThat(meterRegistry.get("tankgame.match-results.failed").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void dropsOldestResultsWhenBacklogIsFull() throws Exception {
+        releaseBatches = new CountDownLatch(1);
+        when(progressionService.recordMatches(anyList())).thenAnswer(this::recordBatch);
+        final var writer = writer(1, 2, 1);
+        writer.start();
+
+        writer.submit("tank", result("in-flight"));
+        assertThat(firstBatchArrived.await(5, TimeUnit.SECONDS)).isTrue();
+        for (var i = 0; i < 5; i++) {
+            writer.submit("tank", result("queued-" + i));
+        }
+        assertThat(meterRegistry.get("tankgame.match-results.queue.depth").gauge().value())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("tankgame.match-results.dropped").counter().count())
+                .isEqualTo(3);
+
+        releaseBatches.countDown();
+        writer.close();
+
+        assertThat(usernames(nextBatch())).containsExactly("in-flight");
+        assertThat(usernames(nextBatch())).containsExactly("queued-3");
+        assertThat(usernames(nextBatch())).containsExactly("queued-4");
+    }
+
+    private MatchResultWriter writer(final int maxBatchSize, final int queueCapacity, final int maxAttempts) {
+        return new MatchResultWriter(
+                progressionService, messagingTemplate, meterRegistry, maxBatchSize, queueCapacity, maxAttempts, 10);
+    }
+
+    private List<PlayerProgression> recordBatch(final InvocationOnMock invocation) throws InterruptedException {
+        final List<MatchResult> results = invocation.getArgument(0);
+        batches.add(results);
+        firstBatchArrived.countDown();
+        releaseBatches.await(10, TimeUnit.SECONDS);
+        return results.stream()
+                .map(result -> new PlayerProgression(result.getUserId(), result.getUsername()))
+                .toList();
+    }
+
+    private List<MatchResult> nextBatch() throws InterruptedException {
+        final var batch = batches.poll(5, TimeUnit.SECONDS);
+        assertThat(batch).as("batch written").isNotNull();
+        return batch;
+    }
+
+    private static MatchResult result(final String username) {
+        return new MatchResult("game", username, username, 1, 0);
+    }
+
+    private static List<String> usernames(final List<MatchResult> batch) {
+        return batch.stream().map(MatchResult::getUsername).toList();
+    }
+}
@@ -0,0 +1,132 @@
+package biz.thonbecker.personal.tankgame.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import biz.thonbecker.personal.tankgame.domain.PlayerInput;
+import biz.thonbecker.personal.tankgame.domain.Tank;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class TankGameRoomIndexTest {
+
+    private static final int THREADS = 8;
+    private static final int ROUNDS = 500;
+    // Far enough ahead that every game counts as inactive
+    private static final long EXPIRED = Long.MAX_VALUE / 2;
+
+    private final TankGameRoomService rooms = new TankGameRoomService();
+
+    @Test
+    void indexFollowsJoinLeaveAndCleanup() {
+        final var game = rooms.createGame();
+        final var first = rooms.joinGame(game.getGameId(), "Pilot One");
+        final var second = rooms.joinGame(game.getGameId(), "Pilot Two");
+        assertThat(rooms.getGameForTank(first.getId())).isSameAs(game);
+        assertThat(rooms.getGameForTank(second.getId())).isSameAs(game);
+
+        rooms.leaveGame(game.getGameId(), first.getId());
+        assertThat(rooms.getGameForTank(first.getId())).isNull();
+        assertThat(rooms.getGameForTank(second.getId())).isSameAs(game);
+
+        rooms.removeInactiveGames(EXPIRED);
+        assertThat(rooms.getGameForTank(second.getId())).isNull();
+        assertThat(rooms.indexedTankCount()).isZero();
+    }
+
+    @Test
+    void activeGamesIsALiveReadOnlyView() {
+        final var games = rooms.getActiveGames();
+        final var game = rooms.createGame();
+
+        assertThat(games).containsKey(game.getGameId());
+        assertThat(rooms.getActiveGames()).isSameAs(games);
+        rooms.removeInactiveGames(EXPIRED);
+        assertThat(games).isEmpty();
+    }
+
+    @Test
+    void indexStaysConsistentWhileRoomsChurn() throws InterruptedException {
+        final var pool = Executors.newFixedThreadPool(THREADS + 1);
+        final var ready = new CountDownLatch(THREADS + 1);
+        final var playersDone = new CountDownLatch(THREADS);
+        final var cleaning = new AtomicBoolean(true);
+        final var tanks = new CopyOnWriteArrayList<Tank>();
+        final var failures = new CopyOnWriteArrayList<Throwable>();
+
+        for (var t = 0; t < THREADS; t++) {
+            final var pilot = "Pilot " + t;
+            pool.execute(() -> {
+                ready.countDown();
+                try {
+                    ready.await();
+                    for (var round = 0; round < ROUNDS; round++) {
+                        churn(pilot, tanks);
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    playersDone.countDown();
+                }
+            });
+        }
+        pool.execute(() -> {
+            ready.countDown();
+            try {
+                ready.await();
+                while (cleaning.get()) {
+                    rooms.removeInactiveGames(EXPIRED);
+                }
+            } catch (Throwable e) {
+                failures.add(e);
+            }
+        });
+
+        assertThat(playersDone.await(30, TimeUnit.SECONDS)).isTrue();
+        cleaning.set(false);
+        pool.shutdown();
+        assertThat(pool.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(failures).isEmpty();
+
+        assertIndexMatchesRooms(tanks);
+        rooms.removeInactiveGames(EXPIRED);
+        assertIndexMatchesRooms(tanks);
+        assertThat(rooms.indexedTankCount()).isZero();
+    }
+
+    /** Joins a waiting game, sends input and sometimes leaves again; cleanup may remove the game at any point. */
+    private void churn(final String pilot, final List<Tank> tanks) {
+        final var game = rooms.findOrCreateWaitingGame();
+        final Tank tank;
+        try {
+            tank = rooms.joinGame(game.getGameId(), pilot);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return; // removed by cleanup or filled by another thread in the meantime
+        }
+        tanks.add(tank);
+        rooms.updateInput(tank.getId(), new PlayerInput());
+        if (ThreadLocalRandom.current().nextBoolean()) {
+            rooms.leaveGame(game.getGameId(), tank.getId());
+        }
+    }
+
+    private void assertIndexMatchesRooms(final List<Tank> tanks) {
+        final var seated = new HashSet<String>();
+        rooms.getActiveGames().values().forEach(game -> game.getTanks().forEach((tankId, tank) -> {
+            seated.add(tankId);
+            assertThat(rooms.getGameForTank(tankId)).isSameAs(game);
+        }));
+        for (final var tank : tanks) {
+            if (!seated.contains(tank.getId())) {
+                assertThat(rooms.getGameForTank(tank.getId())).isNull();
+            }
+        }
+        assertThat(rooms.indexedTankCount()).isEqualTo(seated.size());
+    }
+}
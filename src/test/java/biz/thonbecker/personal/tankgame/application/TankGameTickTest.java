@@ -0,0 +1,253 @@
+package biz.thonbecker.personal.tankgame.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import biz.thonbecker.personal.tankgame.domain.GameState;
+import biz.thonbecker.personal.tankgame.domain.PlayerInput;
+import biz.thonbecker.personal.tankgame.platform.persistence.MatchHistoryRepository;
+import biz.thonbecker.personal.tankgame.platform.persistence.PlayerProgressionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+class TankGameTickTest {
+
+    private static final int GAMES = 50;
+    private static final double TICK_SECONDS = TankGameService.TICK_PERIOD_MS / 1000.0;
+
+    private final TankGameRoomService rooms = new TankGameRoomService();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TestClock clock = new TestClock();
+
+    @Test
+    void everyGameAdvancesByTheClockOnEachTick() {
+        final var service = new RecordingTankGameService(Runnable::run, clock);
+        final var games = startGames(GAMES);
+
+        for (var tick = 0; tick < 60; tick++) {
+            clock.advance(TankGameService.TICK_PERIOD_MS);
+            service.gameLoop();
+        }
+
+        for (final var game : games) {
+            assertThat(service.deltas.get(game.getGameId()))
+                    .hasSize(60)
+                    .allSatisfy(delta -> assertThat(delta).isCloseTo(TICK_SECONDS, within(1e-9)));
+        }
+        assertThat(meterRegistry.get("tankgame.tick.duration").timer().count()).isEqualTo(60L * GAMES);
+        assertThat(meterRegistry.get("tankgame.tick.overruns").counter().count()).isZero();
+    }
+
+    @Test
+    void busyGameSkipsTheTickAndCatchesUpOnTheNextOne() {
+        final var queued = new ArrayList<Runnable>();
+        final var service = new RecordingTankGameService(queued::add, clock);
+        final var game = startGames(1).getFirst();
+
+        clock.advance(TankGameService.TICK_PERIOD_MS);
+        service.gameLoop();
+        clock.advance(TankGameService.TICK_PERIOD_MS);
+        service.gameLoop(); // the first tick is still queued
+        assertThat(meterRegistry.get("tankgame.tick.overruns").counter().count()).isEqualTo(1);
+
+        queued.forEach(Runnable::run);
+        queued.clear();
+        clock.advance(TankGameService.TICK_PERIOD_MS);
+        service.gameLoop();
+        queued.forEach(Runnable::run);
+
+        final var deltas = service.deltas.get(game.getGameId());
+        assertThat(deltas).hasSize(2);
+        assertThat(deltas.get(0)).isCloseTo(TICK_SECONDS, within(1e-9));
+        assertThat(deltas.get(1)).isCloseTo(2 * TICK_SECONDS, within(1e-9));
+    }
+
+    @Test
+    void keepsTickCadenceWithFiftyGamesOnAWorkerPool() throws Exception {
+        final var pool = Executors.newFixedThreadPool(4);
+        try {
+            final var pending = new ArrayList<Future<?>>();
+            final var service = new RecordingTankGameService(task -> pending.add(pool.submit(task)), clock);
+            final var games = startGames(GAMES);
+
+            // Two seconds of ticks, each finishing on the pool before the next one is due
+            final var ticks = (int) (2_000 / TankGameService.TICK_PERIOD_MS);
+            for (var tick = 0; tick < ticks; tick++) {
+                clock.advance(TankGameService.TICK_PERIOD_MS);
+                service.gameLoop();
+                for (final var future : pending) {
+                    future.get(10, TimeUnit.SECONDS);
+                }
+                pending.clear();
+            }
+
+            for (final var game : games) {
+                assertThat(service.deltas.get(game.getGameId()))
+                        .hasSize(ticks)
+                        .allSatisfy(delta -> assertThat(delta).isCloseTo(TICK_SECONDS, within(1e-9)));
+            }
+            assertThat(meterRegistry.get("tankgame.tick.duration").timer().count())
+                    .isEqualTo((long) ticks * GAMES);
+            assertThat(meterRegistry.get("tankgame.tick.overruns").counter().count()).isZero();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void slowMatchResultWritesDoNotDelayTicks() throws InterruptedException {
+        final var progressionRepository = mock(PlayerProgressionRepository.class);
+        final var matchHistoryRepository = mock(MatchHistoryRepository.class);
+        final var writing = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        when(progressionRepository.findAllById(any())).thenAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            return List.of();
+        });
+        final var writer = new MatchResultWriter(
+                new ProgressionService(progressionRepository, matchHistoryRepository),
+                mock(SimpMessagingTemplate.class),
+                meterRegistry,
+                1,
+                100,
+                1,
+                0);
+        final var service = new RecordingTankGameService(Runnable::run, clock, writer);
+        final var finishing = startGames(10);
+        final var playing = startGames(10);
+
+        writer.start();
+        try {
+            // Leaves one tank standing, so each of these games finishes on the next tick
+            for (final var game : finishing) {
+                game.getTanks().values().iterator().next().takeDamage(Integer.MAX_VALUE, null);
+            }
+            clock.advance(TankGameService.TICK_PERIOD_MS);
+            service.gameLoop();
+            assertThat(writing.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // The writer is now stuck on its first result; ticks must not wait for it
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                for (var tick = 0; tick < 30; tick++) {
+                    clock.advance(TankGameService.TICK_PERIOD_MS);
+                    service.gameLoop();
+                }
+            });
+            assertThat(release.getCount()).isOne();
+
+            for (final var game : finishing) {
+                assertThat(game.getStatus()).isEqualTo(GameState.GameStatus.FINISHED);
+                assertThat(service.deltas.get(game.getGameId())).hasSize(1);
+            }
+            for (final var game : playing) {
+                assertThat(service.deltas.get(game.getGameId())).hasSize(31);
+            }
+            assertThat(meterRegistry.get("tankgame.tick.overruns").counter().count()).isZero();
+        } finally {
+            release.countDown();
+            writer.close();
+        }
+
+        // Two results per finished game, written one at a time behind the slow repository
+        verify(matchHistoryRepository, times(20)).saveAll(any());
+    }
+
+    /** Starts two-tank games whose tanks keep driving, so every tick moves and collides something. */
+    private List<GameState> startGames(final int count) {
+        final var games = new ArrayList<GameState>();
+        for (var i = 0; i < count; i++) {
+            final var game = rooms.createGame();
+            for (final var pilot : List.of("Pilot One", "Pilot Two")) {
+                final var tank = rooms.joinGame(game.getGameId(), pilot);
+                final var input = new PlayerInput();
+                input.setUp(pilot.endsWith("One"));
+                input.setLeft(pilot.endsWith("Two"));
+                rooms.updateInput(tank.getId(), input);
+            }
+            assertThat(game.getStatus()).isEqualTo(GameState.GameStatus.PLAYING);
+            games.add(game);
+        }
+        return games;
+    }
+
+    private final class RecordingTankGameService extends TankGameService {
+
+        private final Map<String, List<Double>> deltas = new ConcurrentHashMap<>();
+
+        private RecordingTankGameService(final Executor workers, final Clock clock) {
+            this(workers, clock, mock(MatchResultWriter.class));
+        }
+
+        private RecordingTankGameService(
+                final Executor workers, final Clock clock, final MatchResultWriter matchResultWriter) {
+            super(
+                    mock(SimpMessagingTemplate.class),
+                    matchResultWriter,
+                    rooms,
+                    meterRegistry,
+                    clock,
+                    workers);
+        }
+
+        @Override
+        void updateGame(final GameState game, final double deltaTime) {
+            deltas.computeIfAbsent(game.getGameId(), id -> new CopyOnWriteArrayList<>())
+                    .add(deltaTime);
+            super.updateGame(game, deltaTime);
+        }
+    }
+
+    /** Only moves when the test advances it. */
+    private static final class TestClock extends Clock {
+
+        private final AtomicLong millis = new AtomicLong(Instant.now().toEpochMilli());
+
+        void advance(final long deltaMillis) {
+            millis.addAndGet(deltaMillis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis.get());
+        }
+
+        @Override
+        public long millis() {
+            return millis.get();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package biz.thonbecker.personal.tankgame.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import biz.thonbecker.personal.tankgame.application.TankGameService;
+import biz.thonbecker.personal.tankgame.domain.BinaryStateCodec;
+import biz.thonbecker.personal.tankgame.domain.GameState;
+import biz.thonbecker.personal.tankgame.domain.Tank;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+class TankGameRawWebSocketHandlerTest {
+
+    private final ObjectMapper objectMapper = spy(JsonMapper.builder().build());
+    private final TankGameService tankGameService = mock(TankGameService.class);
+    private final TankGameRawWebSocketHandler handler =
+            new TankGameRawWebSocketHandler(tankGameService, objectMapper);
+
+    @Test
+    void serializesEachGameStateOncePerTickRegardlessOfSessionCount() throws Exception {
+        final var crowded = stubGame();
+        final var solo = stubGame();
+        final var crowdedSessions = List.of(session("a"), session("b"), session("c"), session("d"));
+        for (WebSocketSession session : crowdedSessions) {
+            queue(session, crowded);
+        }
+        final var soloSession = session("e");
+        queue(soloSession, solo);
+        clearInvocations(objectMapper);
+
+        handler.broadcastStates();
+
+        verify(objectMapper, times(2)).writeValueAsString(any());
+        final var frames = new ArrayList<WebSocketMessage<?>>();
+        for (WebSocketSession session : crowdedSessions) {
+            frames.add(lastMessage(session));
+        }
+        assertThat(frames).allSatisfy(frame -> assertThat(frame).isSameAs(frames.getFirst()));
+        assertThat(lastMessage(soloSession)).isNotSameAs(frames.getFirst());
+    }
+
+    @Test
+    void sendsWallsOnJoinAndLeavesThemOutOfStateFrames() throws Exception {
+        final var game = stubGame();
+        final var session = session("walls");
+
+        queue(session, game);
+        final var joined = (String) lastMessage(session).getPayload();
+        assertThat(joined).contains("\"type\":\"joined\"").contains("\"walls\":[{");
+
+        handler.broadcastStates();
+        final var state = (String) lastMessage(session).getPayload();
+        assertThat(state).contains("\"type\":\"state\"").doesNotContain("walls");
+    }
+
+    @Test
+    void rejoinDuringABroadcastNeverDeltaEncodesAgainstAFrameFromTheOldGame() throws Exception {
+        final var oldGame = stubGame();
+        final var newGame = stubGame();
+        final var host = binarySession("host");
+        queue(host, newGame);
+        final var switching = binarySession("switching");
+        queue(switching, oldGame);
+        handler.broadcastStates();
+        handler.broadcastStates();
+
+        // Rejoin after this broadcast has grouped the session under the old game but before it sends
+        final var rejoin = new AtomicBoolean(true);
+        when(switching.isOpen()).thenAnswer(invocation -> {
+            if (rejoin.getAndSet(false)) {
+                queue(switching, newGame);
+            }
+            return true;
+        });
+        handler.broadcastStates();
+
+        // Nothing of the old game followed the join, so an acknowledgement of tick 3 can't be real
+        assertThat(lastMessage(switching)).isInstanceOf(TextMessage.class);
+        assertThat((String) lastMessage(switching).getPayload()).contains("\"type\":\"joined\"");
+        handler.handleTextMessage(switching, new TextMessage("{\"action\":\"ack\",\"ack\":3}"));
+        handler.broadcastStates();
+        assertThat(BinaryStateCodec.baseTick(binaryPayload(lastMessage(switching)))).isZero();
+
+        handler.handleTextMessage(switching, new TextMessage("{\"action\":\"ack\",\"ack\":4}"));
+        handler.broadcastStates();
+        assertThat(BinaryStateCodec.baseTick(binaryPayload(lastMessage(switching)))).isEqualTo(4);
+    }
+
+    private GameState stubGame() {
+        final var game = new GameState();
+        when(tankGameService.getGame(game.getGameId())).thenReturn(game);
+        return game;
+    }
+
+    private void queue(final WebSocketSession session, final GameState game) throws Exception {
+        when(tankGameService.findOrCreateWaitingGame()).thenReturn(game);
+        when(tankGameService.joinGame(any(), anyString(), anyString())).thenAnswer(invocation -> {
+            final var tank = new Tank(UUID.randomUUID().toString(), invocation.getArgument(1), 60, 60, "#fff");
+            game.addTank(tank);
+            return tank;
+        });
+        handler.afterConnectionEstablished(session);
+        handler.handleTextMessage(session, new TextMessage("{\"action\":\"queue\",\"playerName\":\"Pilot\"}"));
+    }
+
+    private static WebSocketSession session(final String id) {
+        final var session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        when(session.isOpen()).thenReturn(true);
+        return session;
+    }
+
+    private static WebSocketSession binarySession(final String id) {
+        final var session = session(id);
+        when(session.getAcceptedProtocol()).thenReturn(TankGameRawWebSocketHandler.BINARY_PROTOCOL);
+        return session;
+    }
+
+    private static byte[] binaryPayload(final WebSocketMessage<?> message) {
+        assertThat(message).isInstanceOf(BinaryMessage.class);
+        final var buffer = ((BinaryMessage) message).getPayload();
+        final var bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+    private static WebSocketMessage<?> lastMessage(final WebSocketSession session) throws Exception {
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<WebSocketMessage<?>> captor = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(session, atLeastOnce()).sendMessage(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,223 @@
+package biz.thonbecker.personal.trivia.platform;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import biz.thonbecker.personal.IntegrationTest;
+import biz.thonbecker.personal.trivia.domain.Question;
+import biz.thonbecker.personal.trivia.domain.QuizDifficulty;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntFunction;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Fills the question pool from a stub {@link ChatModel} and checks that it stops at the target size,
+ * only calls the model when a difficulty is short, rejects duplicates and invalid questions, and that
+ * draws avoid questions the same player has recently seen.
+ */
+@IntegrationTest
+@Import(FinancialPeaceQuestionGeneratorTest.StubChatModelConfig.class)
+@TestPropertySource(
+        properties = {
+            "trivia.question-pool.target-size=35",
+            "trivia.question-pool.batch-size=10",
+            "trivia.question-pool.initial-delay=PT1H"
+        })
+class FinancialPeaceQuestionGeneratorTest {
+
+    private static final int SEED_SIZE = 20;
+    private static final int TARGET_SIZE = 35;
+
+    @Autowired
+    private FinancialPeaceQuestionGenerator generator;
+
+    @Autowired
+    private QuestionPool questionPool;
+
+    @Autowired
+    private QuestionPoolRepository repository;
+
+    @Autowired
+    private StubChatModel chatModel;
+
+    @BeforeEach
+    void emptyPool() {
+        repository.deleteAll();
+        chatModel.reset(chatModel::uniqueBatch);
+    }
+
+    @Test
+    void seedsAnEmptyPoolAndTopsEachDifficultyUpToTheTargetInBatches() {
+        generator.refill();
+
+        for (final var difficulty : QuizDifficulty.values()) {
+            assertThat(questionPool.size(difficulty)).isEqualTo(TARGET_SIZE);
+        }
+        // 20 seeded, then one full batch of 10 and a final batch of the 5 still missing
+        assertThat(chatModel.requestedCounts).containsExactly(10, 5, 10, 5, 10, 5);
+        assertThat(repository.findAll())
+                .filteredOn(entity -> entity.getSource().equals(FinancialPeaceQuestionGenerator.SOURCE_SEED))
+                .hasSize(SEED_SIZE * QuizDifficulty.values().length);
+    }
+
+    @Test
+    void refillOnlyCallsTheModelForDifficultiesBelowTheTarget() {
+        generator.refill();
+        chatModel.reset(chatModel::uniqueBatch);
+
+        generator.refill();
+        assertThat(chatModel.requestedCounts).isEmpty();
+
+        final var hard = repository.findAll().stream()
+                .filter(entity -> entity.getDifficulty().equals(QuizDifficulty.HARD.name()))
+                .limit(7)
+                .toList();
+        repository.deleteAll(hard);
+
+        generator.refill();
+        assertThat(chatModel.requestedCounts).containsExactly(7);
+        assertThat(questionPool.size(QuizDifficulty.HARD)).isEqualTo(TARGET_SIZE);
+    }
+
+    @Test
+    void rejectsDuplicateAndInvalidQuestions() {
+        chatModel.reset(call -> List.of(
+                question("A brand new question?", "a", "b", "c", "d", 0),
+                // Differs from the first only in case and punctuation
+                question("a BRAND new question", "a", "b", "c", "d", 1),
+                // Rewording of a seed question
+                question("what is baby step 1 in dave ramsey's financial peace plan", "a", "b", "c", "d", 2),
+                question("Only three options?", "a", "b", "c", null, 0),
+                question("Answer out of range?", "a", "b", "c", "d", 4),
+                question("Repeated options?", "a", "A", "c", "d", 0),
+                question(" ", "a", "b", "c", "d", 0)));
+
+        generator.refill();
+
+        for (final var difficulty : QuizDifficulty.values()) {
+            assertThat(questionPool.size(difficulty)).isEqualTo(SEED_SIZE + 1);
+        }
+        // The second batch per difficulty adds nothing new, so the run gives up on it until next time
+        assertThat(chatModel.requestedCounts).hasSize(2 * QuizDifficulty.values().length);
+        assertThat(repository.findAll())
+                .extracting(QuestionPoolEntity::getQuestionText)
+                .filteredOn(text -> text.toLowerCase().contains("brand new"))
+                .containsOnly("A brand new question?");
+    }
+
+    @Test
+    void drawsAvoidQuestionsRecentlyShownToTheSamePlayers() {
+        generator.refill();
+
+        final var seenByAlice = new HashSet<Long>();
+        for (var quiz = 0; quiz < 3; quiz++) {
+            final var questions = generator.generateQuestions(10, QuizDifficulty.EASY, Set.of("alice"));
+            assertThat(questions).hasSize(10);
+            questions.forEach(question -> assertThat(seenByAlice.add(question.getId()))
+                    .as("question %d repeated", question.getId())
+                    .isTrue());
+        }
+
+        // Only 5 unseen questions remain, so the rest are repeats
+        final var fourth = generator.generateQuestions(10, QuizDifficulty.EASY, Set.of("alice"));
+        assertThat(fourth).hasSize(10);
+        assertThat(fourth).filteredOn(question -> !seenByAlice.contains(question.getId())).hasSize(5);
+
+        // Carol joined Bob's quiz after it was created; starting it records what she saw too
+        final var bobsQuiz = generator.generateQuestions(10, QuizDifficulty.EASY, Set.of("bob"));
+        generator.recordShown(Set.of("bob", "carol"), bobsQuiz);
+        final var carolsQuiz = generator.generateQuestions(10, QuizDifficulty.EASY, Set.of("carol"));
+        assertThat(carolsQuiz).extracting(Question::getId).doesNotContainAnyElementsOf(ids(bobsQuiz));
+    }
+
+    private static List<Long> ids(final List<Question> questions) {
+        return questions.stream().map(Question::getId).toList();
+    }
+
+    private static Question question(
+            final String text, final String a, final String b, final String c, final String d, final int answer) {
+        final var options = new ArrayList<String>();
+        for (final var option : new String[] {a, b, c, d}) {
+            if (option != null) {
+                options.add(option);
+            }
+        }
+        return new Question(null, text, options, answer);
+    }
+
+    /** Answers every prompt with a batch of the requested size from {@link #replies}. */
+    static final class StubChatModel implements ChatModel {
+
+        private static final Pattern COUNT = Pattern.compile("Generate (\\d+) multiple-choice");
+
+        private final List<Integer> requestedCounts = new CopyOnWriteArrayList<>();
+        private volatile IntFunction<List<Question>> replies;
+        private int nextQuestion;
+
+        void reset(final IntFunction<List<Question>> replies) {
+            this.replies = replies;
+            requestedCounts.clear();
+        }
+
+        @Override
+        public ChatResponse call(final Prompt prompt) {
+            final var matcher = COUNT.matcher(prompt.getContents());
+            final var count = matcher.find() ? Integer.parseInt(matcher.group(1)) : 0;
+            requestedCounts.add(count);
+            final var questions = replies == null ? List.<Question>of() : replies.apply(count);
+            final var json = new StringBuilder("{\"questions\":[");
+            for (var i = 0; i < questions.size(); i++) {
+                final var question = questions.get(i);
+                json.append(i == 0 ? "" : ",")
+                        .append("{\"questionText\":\"")
+                        .append(question.getQuestionText())
+                        .append("\",\"options\":[");
+                for (var j = 0; j < question.getOptions().size(); j++) {
+                    json.append(j == 0 ? "\"" : ",\"")
+                            .append(question.getOptions().get(j))
+                            .append('"');
+                }
+                json.append("],\"correctAnswerIndex\":")
+                        .append(question.getCorrectAnswerIndex())
+                        .append('}');
+            }
+            json.append("]}");
+            final var message = AssistantMessage.builder().content(json.toString()).build();
+            return new ChatResponse(List.of(new Generation(message)));
+        }
+
+        private List<Question> uniqueBatch(final int count) {
+            return IntStream.range(0, count)
+                    .mapToObj(i -> {
+                        final var n = nextQuestion++;
+                        return question("Generated question " + n + "?", "a" + n, "b", "c", "d", n % 4);
+                    })
+                    .toList();
+        }
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class StubChatModelConfig {
+
+        @Bean
+        StubChatModel stubChatModel() {
+            return new StubChatModel();
+        }
+    }
+}
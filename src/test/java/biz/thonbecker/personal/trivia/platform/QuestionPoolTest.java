@@ -0,0 +1,51 @@
+package biz.thonbecker.personal.trivia.platform;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import biz.thonbecker.personal.trivia.domain.Question;
+import biz.thonbecker.personal.trivia.domain.QuizDifficulty;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+class QuestionPoolTest {
+
+    private final QuestionPoolRepository repository = mock(QuestionPoolRepository.class);
+    private final QuestionPool questionPool = new QuestionPool(repository, 100, Duration.ofDays(7));
+
+    @Test
+    void drawReturnsQuestionsInTheShuffledOrderRatherThanTheDatabaseOrder() {
+        when(repository.findIdsByDifficulty(QuizDifficulty.EASY.name()))
+                .thenReturn(LongStream.rangeClosed(1, 40).boxed().toList());
+        final var drawnIds = new ArrayList<Long>();
+        // Like the database, hand the rows back sorted by id whatever order they were asked for in
+        when(repository.findAllById(any())).thenAnswer(invocation -> {
+            final Iterable<Long> ids = invocation.getArgument(0);
+            ids.forEach(drawnIds::add);
+            return drawnIds.stream().sorted().map(QuestionPoolTest::entity).toList();
+        });
+
+        final var questions = questionPool.draw(20, QuizDifficulty.EASY, List.of("player-1"));
+
+        assertThat(questions).extracting(Question::getId).containsExactlyElementsOf(drawnIds);
+        assertThat(drawnIds).hasSize(20).isNotEqualTo(drawnIds.stream().sorted().toList());
+    }
+
+    private static QuestionPoolEntity entity(final long id) {
+        return new QuestionPoolEntity(
+                id,
+                QuizDifficulty.EASY.name(),
+                "Question " + id + "?",
+                List.of("A", "B", "C", "D"),
+                0,
+                "fingerprint-" + id,
+                "test",
+                Instant.EPOCH);
+    }
+}
@@ -0,0 +1,140 @@
+package biz.thonbecker.personal.trivia.platform;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import biz.thonbecker.personal.IntegrationTest;
+import biz.thonbecker.personal.trivia.api.TriviaQuestionClosedEvent;
+import biz.thonbecker.personal.trivia.domain.Player;
+import biz.thonbecker.personal.trivia.domain.QuizDifficulty;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Plays a quiz through {@link TriviaService} with a persistent module listener attached and checks that
+ * the publication registry grows by one row per question rather than one per answer, and that the
+ * results of every player are written in a single batched insert.
+ */
+@IntegrationTest
+@Import(TriviaEventPublicationTest.QuestionClosedListenerConfig.class)
+@TestPropertySource(
+        properties = {
+            "spring.jpa.properties.hibernate.generate_statistics=true",
+            "trivia.question-pool.initial-delay=PT1H"
+        })
+class TriviaEventPublicationTest {
+
+    private static final int PLAYERS = 30;
+    private static final int QUESTIONS = 5;
+
+    @Autowired
+    private TriviaService triviaService;
+
+    @Autowired
+    private QuizResultRepository quizResultRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private QuestionClosedListener listener;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    TriviaEventPublicationTest(final DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    void quizPublishesOneRegistryRowPerQuestionAndSavesResultsInOneBatch() throws InterruptedException {
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        final var publicationsBefore = questionClosedPublicationCount();
+        final var resultsBefore = quizResultRepository.count();
+
+        final var quiz = triviaService.createTriviaQuiz("Baby Steps", QUESTIONS, QuizDifficulty.EASY, "p0");
+        for (var i = 0; i < PLAYERS; i++) {
+            final var player = new Player();
+            player.setId("p" + i);
+            player.setName("Player " + i);
+            triviaService.addPlayer(quiz.getId(), player);
+        }
+        triviaService.startQuiz(quiz.getId(), "p0");
+
+        for (var q = 0; q < QUESTIONS; q++) {
+            final var question = quiz.getCurrentQuestion();
+            for (var i = 0; i < PLAYERS; i++) {
+                final var option = i % 3 == 0 ? question.getCorrectAnswerIndex() : -1;
+                triviaService.submitAnswer(quiz.getId(), "p" + i, question.getId(), option);
+            }
+            if (q == QUESTIONS - 1) {
+                statistics.clear();
+            }
+            triviaService.nextQuestion(quiz.getId());
+        }
+
+        // Closing the last question saves every result in one batched insert. The other statements are
+        // the publication row, marking it completed, and at most one fetch of sequence values.
+        assertThat(statistics
+                        .getEntityStatistics(QuizResultEntity.class.getName())
+                        .getInsertCount())
+                .isEqualTo(PLAYERS);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+        assertThat(quizResultRepository.count()).isEqualTo(resultsBefore + PLAYERS);
+
+        assertThat(questionClosedPublicationCount()).isEqualTo(publicationsBefore + QUESTIONS);
+        assertThat(listener.received.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(listener.events)
+                .filteredOn(event -> event.quizId().equals(quiz.getId()))
+                .hasSize(QUESTIONS)
+                .allSatisfy(event -> {
+                    assertThat(event.playerCount()).isEqualTo(PLAYERS);
+                    assertThat(event.answeredCount()).isEqualTo(PLAYERS);
+                    assertThat(event.correctCount()).isEqualTo(PLAYERS / 3);
+                });
+    }
+
+    private int questionClosedPublicationCount() {
+        return jdbcTemplate.queryForObject(
+                """
+                select count(*)
+                from event_publication
+                where event_type = ?
+                """,
+                Integer.class,
+                TriviaQuestionClosedEvent.class.getName());
+    }
+
+    /** Stands in for a persistent downstream consumer such as analytics. */
+    static class QuestionClosedListener {
+
+        private final List<TriviaQuestionClosedEvent> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch received = new CountDownLatch(QUESTIONS);
+
+        @ApplicationModuleListener
+        void on(final TriviaQuestionClosedEvent event) {
+            events.add(event);
+            received.countDown();
+        }
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class QuestionClosedListenerConfig {
+
+        @Bean
+        QuestionClosedListener questionClosedListener() {
+            return new QuestionClosedListener();
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package biz.thonbecker.personal.trivia.platform;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.transaction.support.TransactionSynchronization.STATUS_COMMITTED;
+import static org.springframework.transaction.support.TransactionSynchronization.STATUS_ROLLED_BACK;
+
+import biz.thonbecker.personal.trivia.api.QuizPlayerState;
+import biz.thonbecker.personal.trivia.api.QuizState;
+import biz.thonbecker.personal.trivia.api.QuizUpdate;
+import biz.thonbecker.personal.trivia.api.TriviaQuestionClosedEvent;
+import biz.thonbecker.personal.trivia.domain.Player;
+import biz.thonbecker.personal.trivia.domain.Question;
+import biz.thonbecker.personal.trivia.domain.QuizDifficulty;
+import biz.thonbecker.personal.trivia.domain.QuizStatus;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class TriviaServiceTest {
+
+    private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(30);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final QuizResultRepository quizResultRepository = mock(QuizResultRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    @Test
+    void idleQuizIsEvictedToItsSummaryAndReleased() {
+        final var registry = registry(10);
+        final var service = service(registry);
+        final var quiz = service.createTriviaQuiz("Budgeting", 3, QuizDifficulty.EASY, "creator");
+        service.addPlayer(quiz.getId(), player("p1"));
+
+        advance(IDLE_TIMEOUT.minusMinutes(1));
+        assertThat(service.getQuiz(quiz.getId())).isPresent();
+        advance(IDLE_TIMEOUT.minusMinutes(1));
+        registry.cleanUp();
+        assertThat(service.getQuiz(quiz.getId())).isPresent();
+
+        advance(IDLE_TIMEOUT.plusMinutes(1));
+        registry.cleanUp();
+
+        assertThat(service.getQuiz(quiz.getId())).isEmpty();
+        assertThat(service.getPlayers(quiz.getId())).isEmpty();
+        assertThat(quiz.getPlayers()).isEmpty();
+        assertThat(quiz.getQuestions()).isEmpty();
+        final var summary = service.nextQuestion(quiz.getId());
+        assertThat(summary.status()).isEqualTo("ABANDONED");
+        assertThat(summary.currentQuestion()).isNull();
+        assertThat(summary.players()).extracting(QuizPlayerState::id).containsExactly("p1");
+        assertThat(summary.totalQuestions()).isEqualTo(3);
+
+        advance(IDLE_TIMEOUT.plusMinutes(1));
+        registry.cleanUp();
+        assertThat(service.nextQuestion(quiz.getId())).isNull();
+    }
+
+    @Test
+    void activeQuizzesAreBoundedBySize() {
+        final var registry = registry(3);
+        final var service = service(registry);
+        final var quizIds = new ArrayList<Long>();
+        for (var i = 0; i < 20; i++) {
+            final var quiz = service.createTriviaQuiz("Quiz " + i, 1, QuizDifficulty.MEDIUM, "creator");
+            quizIds.add(quiz.getId());
+        }
+
+        assertThat(registry.activeCount()).isLessThanOrEqualTo(3);
+        // Every quiz is either still running or remembered by its summary
+        assertThat(quizIds).allMatch(id -> registry.find(id).isPresent()
+                || registry.findFinished(id).isPresent());
+    }
+
+    @Test
+    void completedQuizIsSavedOnceAndLeavesOnlyItsFinalState() {
+        final var registry = registry(10);
+        final var service = service(registry);
+        final var quiz = service.createTriviaQuiz("Debt Snowball", 1, QuizDifficulty.HARD, "creator");
+        service.addPlayer(quiz.getId(), player("p1"));
+        service.addPlayer(quiz.getId(), player("p2"));
+        service.startQuiz(quiz.getId(), "creator");
+        final var question = quiz.getCurrentQuestion();
+        service.submitAnswer(quiz.getId(), "p1", question.getId(), question.getCorrectAnswerIndex());
+
+        final var finalState = service.nextQuestion(quiz.getId());
+
+        assertThat(finalState.status()).isEqualTo("COMPLETED");
+        assertThat(finalState.players())
+                .extracting(QuizPlayerState::id, QuizPlayerState::score)
+                .containsExactlyInAnyOrder(tuple("p1", 100), tuple("p2", 0));
+        assertThat(service.getQuiz(quiz.getId())).isEmpty();
+        assertThat(quiz.getPlayers()).isEmpty();
+        assertThat(service.nextQuestion(quiz.getId())).isEqualTo(finalState);
+        assertThat(service.submitAnswer(quiz.getId(), "p2", question.getId(), question.getCorrectAnswerIndex()))
+                .isEmpty();
+        final ArgumentCaptor<List<QuizResultEntity>> results = listCaptor();
+        verify(quizResultRepository).saveAll(results.capture());
+        assertThat(results.getValue()).extracting(QuizResultEntity::getPlayerId).containsExactlyInAnyOrder("p1", "p2");
+        final var closed = questionClosedEvents();
+        assertThat(closed).singleElement().satisfies(event -> {
+            assertThat(event.questionId()).isEqualTo(question.getId());
+            assertThat(event.playerCount()).isEqualTo(2);
+            assertThat(event.answeredCount()).isEqualTo(1);
+            assertThat(event.correctCount()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void completedQuizLeavesTheRegistryOnlyOnceItsResultsCommit() {
+        final var registry = registry(10);
+        final var service = service(registry);
+        final var quiz = service.createTriviaQuiz("Sinking Funds", 1, QuizDifficulty.MEDIUM, "creator");
+        service.addPlayer(quiz.getId(), player("p1"));
+        service.startQuiz(quiz.getId(), "creator");
+
+        // Rolled back: the quiz stays on its last question, so it can be finished again
+        final var rolledBack = nextQuestionInTransaction(service, quiz.getId(), STATUS_ROLLED_BACK);
+        assertThat(rolledBack.status()).isEqualTo("COMPLETED");
+        assertThat(service.getQuiz(quiz.getId())).contains(quiz);
+        assertThat(quiz.getStatus()).isEqualTo(QuizStatus.IN_PROGRESS);
+        assertThat(quiz.getPlayers()).hasSize(1);
+
+        final var finalState = nextQuestionInTransaction(service, quiz.getId(), STATUS_COMMITTED);
+        assertThat(service.getQuiz(quiz.getId())).isEmpty();
+        assertThat(registry.findFinished(quiz.getId())).contains(finalState);
+        verify(quizResultRepository, times(2)).saveAll(any());
+    }
+
+    @Test
+    void playersKeepJoinOrderAndTheFirstToJoinWinsATie() {
+        final var service = service(registry(10));
+        final var quiz = service.createTriviaQuiz("Tied", 1, QuizDifficulty.EASY, "creator");
+        final var joinOrder = IntStream.range(0, 50).mapToObj(i -> "player-" + (49 - i)).toList();
+        joinOrder.forEach(id -> service.addPlayer(quiz.getId(), player(id)));
+        service.startQuiz(quiz.getId(), "creator");
+
+        assertThat(quiz.getPlayers()).extracting(Player::getId).containsExactlyElementsOf(joinOrder);
+
+        service.nextQuestion(quiz.getId());
+
+        final ArgumentCaptor<List<QuizResultEntity>> results = listCaptor();
+        verify(quizResultRepository).saveAll(results.capture());
+        assertThat(results.getValue()).extracting(QuizResultEntity::getPlayerId).containsExactlyElementsOf(joinOrder);
+        assertThat(results.getValue())
+                .filteredOn(QuizResultEntity::getIsWinner)
+                .extracting(QuizResultEntity::getPlayerId)
+                .containsExactly(joinOrder.getFirst());
+    }
+
+    @Test
+    void concurrentAnswersFromManyPlayersAreEachScoredOnce() throws Exception {
+        // Every player answers twice at once; only the first answer counts
+        final var players = 2_000;
+        final var service = service(registry(10));
+        final var quiz = service.createTriviaQuiz("Emergency Fund", 1, QuizDifficulty.EASY, "creator");
+        for (var i = 0; i < players; i++) {
+            service.addPlayer(quiz.getId(), player("p" + i));
+        }
+        // Joining twice doesn't add a second player
+        service.addPlayer(quiz.getId(), player("p0"));
+        service.startQuiz(quiz.getId(), "creator");
+        final var question = quiz.getCurrentQuestion();
+        final var wrong = (question.getCorrectAnswerIndex() + 1) % question.getOptions().size();
+
+        final var start = new CountDownLatch(1);
+        final var updates = new ArrayList<QuizUpdate>();
+        try (final var executor = Executors.newFixedThreadPool(16)) {
+            final var answers = new ArrayList<Future<List<QuizUpdate>>>();
+            for (var i = 0; i < 2 * players; i++) {
+                final var playerId = "p" + (i % players);
+                final var option = i % 2 == 0 ? question.getCorrectAnswerIndex() : wrong;
+                answers.add(executor.submit(() -> {
+                    start.await();
+                    return service.submitAnswer(quiz.getId(), playerId, question.getId(), option);
+                }));
+            }
+            start.countDown();
+            for (final var answer : answers) {
+                updates.addAll(answer.get());
+            }
+        }
+
+        assertThat(updates).filteredOn(QuizUpdate.PlayerAnswered.class::isInstance).hasSize(players);
+        assertThat(updates)
+                .filteredOn(QuizUpdate.ScoreChanged.class::isInstance)
+                .hasSize(players / 2)
+                .allSatisfy(update -> assertThat(((QuizUpdate.ScoreChanged) update).score()).isEqualTo(100));
+        assertThat(quiz.getPlayers()).hasSize(players).allSatisfy(player -> {
+            final var index = Integer.parseInt(player.getId().substring(1));
+            assertThat(player.getScore()).isEqualTo(index % 2 == 0 ? 100 : 0);
+        });
+        // Answers are summarized once, when the question closes
+        assertThat(questionClosedEvents()).isEmpty();
+        service.nextQuestion(quiz.getId());
+        assertThat(questionClosedEvents()).singleElement().satisfies(event -> {
+            assertThat(event.playerCount()).isEqualTo(players);
+            assertThat(event.answeredCount()).isEqualTo(players);
+            assertThat(event.correctCount()).isEqualTo(players / 2);
+            assertThat(event.answers()).hasSize(players);
+        });
+    }
+
+    /** Runs nextQuestion as if in a transaction that ends with {@code outcome}. */
+    private static QuizState nextQuestionInTransaction(
+            final TriviaService service, final Long quizId, final int outcome) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            final var state = service.nextQuestion(quizId);
+            assertThat(service.getQuiz(quizId)).as("registered until the transaction ends").isPresent();
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(outcome));
+            return state;
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private List<TriviaQuestionClosedEvent> questionClosedEvents() {
+        final var events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, atLeast(0)).publishEvent(events.capture());
+        return events.getAllValues().stream()
+                .filter(TriviaQuestionClosedEvent.class::isInstance)
+                .map(TriviaQuestionClosedEvent.class::cast)
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<QuizResultEntity>> listCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+
+    private QuizRegistry registry(final long maxActive) {
+        return new QuizRegistry(maxActive, 100, IDLE_TIMEOUT, nanos::get);
+    }
+
+    private TriviaService service(final QuizRegistry registry) {
+        final var questionIds = new AtomicLong();
+        final QuestionGenerator questionGenerator = (count, difficulty, playerIds) -> LongStream.range(0, count)
+                .mapToObj(i -> new Question(
+                        questionIds.incrementAndGet(), "Question " + i, List.of("A", "B", "C", "D"), (int) (i % 4)))
+                .toList();
+        return new TriviaService(questionGenerator, quizResultRepository, eventPublisher, registry);
+    }
+
+    private void advance(final Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private static Player player(final String id) {
+        final var player = new Player();
+        player.setId(id);
+        player.setName("Player " + id);
+        return player;
+    }
+}
@@ -0,0 +1,221 @@
+package biz.thonbecker.personal.trivia.platform.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import biz.thonbecker.personal.trivia.api.QuizPlayerState;
+import biz.thonbecker.personal.trivia.api.QuizQuestionState;
+import biz.thonbecker.personal.trivia.api.QuizState;
+import biz.thonbecker.personal.trivia.api.QuizUpdate;
+import biz.thonbecker.personal.trivia.domain.Player;
+import biz.thonbecker.personal.trivia.platform.TriviaService;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.JacksonJsonMessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+/**
+ * Runs the controller against the in-memory STOMP broker with one subscribed session per player in two
+ * quizzes, and counts and measures what each session receives.
+ */
+class QuizWebSocketControllerTest {
+
+    private static final long QUIZ_A = 1L;
+    private static final long QUIZ_B = 2L;
+    private static final int PLAYERS = 25;
+    private static final QuizQuestionState QUESTION = new QuizQuestionState(
+            7L, "What is Baby Step 1?", List.of("Save $1,000", "Pay off debt", "Invest 15%", "Pay the mortgage"));
+
+    private final ExecutorSubscribableChannel clientInbound = new ExecutorSubscribableChannel();
+    private final ExecutorSubscribableChannel clientOutbound = new ExecutorSubscribableChannel();
+    private final ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+    private final SimpleBrokerMessageHandler broker =
+            new SimpleBrokerMessageHandler(clientInbound, clientOutbound, brokerChannel, List.of("/topic"));
+    private final Map<String, List<Message<?>>> received = new ConcurrentHashMap<>();
+    private final TriviaService triviaService = mock(TriviaService.class);
+    private QuizWebSocketController controller;
+
+    @BeforeEach
+    void startBroker() {
+        broker.start();
+        clientOutbound.subscribe(message -> {
+            final var accessor = SimpMessageHeaderAccessor.wrap(message);
+            if (accessor.getMessageType() == SimpMessageType.MESSAGE) {
+                received.computeIfAbsent(accessor.getSessionId(), id -> new CopyOnWriteArrayList<>())
+                        .add(message);
+            }
+        });
+        final var template = new SimpMessagingTemplate(brokerChannel);
+        template.setMessageConverter(new JacksonJsonMessageConverter());
+        controller = new QuizWebSocketController(triviaService, template);
+
+        for (var i = 0; i < PLAYERS; i++) {
+            subscribeToQuiz(playerId(QUIZ_A, i), QUIZ_A);
+            subscribeToQuiz(playerId(QUIZ_B, i), QUIZ_B);
+        }
+    }
+
+    @AfterEach
+    void stopBroker() {
+        broker.stop();
+    }
+
+    @Test
+    void answersReachOnlyTheirQuizAsSmallDeltas() {
+        when(triviaService.submitAnswer(eq(QUIZ_A), anyString(), anyLong(), anyInt()))
+                .thenAnswer(invocation -> {
+                    final String playerId = invocation.getArgument(1);
+                    final var answered = new QuizUpdate.PlayerAnswered(playerId, QUESTION.id());
+                    final int option = invocation.getArgument(3);
+                    return option == 0
+                            ? List.of(answered, new QuizUpdate.ScoreChanged(playerId, 100))
+                            : List.<QuizUpdate>of(answered);
+                });
+
+        for (var i = 0; i < PLAYERS; i++) {
+            final var playerId = playerId(QUIZ_A, i);
+            controller.submitAnswer(
+                    new AnswerSubmission(QUIZ_A, playerId, QUESTION.id(), i % 2, null), principal(playerId));
+        }
+
+        final var correct = (PLAYERS + 1) / 2;
+        final var fullStateSize = json(fullState(QUIZ_A)).length;
+        for (var i = 0; i < PLAYERS; i++) {
+            assertThat(messages(playerId(QUIZ_B, i))).isEmpty();
+
+            final var messages = messages(playerId(QUIZ_A, i));
+            assertThat(messages).hasSize(PLAYERS + correct);
+            assertThat(messages).allSatisfy(message -> {
+                assertThat(destination(message)).isEqualTo("/topic/quiz/1/updates");
+                assertThat(payload(message).length).isLessThan(100).isLessThan(fullStateSize / 10);
+            });
+        }
+        assertThat(text(messages(playerId(QUIZ_A, 0)).getFirst()))
+                .contains("\"type\":\"PLAYER_ANSWERED\"", "\"playerId\":\"1-0\"", "\"questionId\":7");
+        assertThat(text(messages(playerId(QUIZ_A, 0)).get(1)))
+                .contains("\"type\":\"SCORE_CHANGED\"", "\"playerId\":\"1-0\"", "\"score\":100");
+    }
+
+    @Test
+    void joinsAndQuestionChangesStayWithinTheirQuiz() {
+        final var roster = IntStream.range(0, PLAYERS)
+                .mapToObj(i -> player(playerId(QUIZ_B, i)))
+                .toList();
+        when(triviaService.getPlayers(QUIZ_B)).thenReturn(roster);
+        when(triviaService.nextQuestion(QUIZ_A)).thenReturn(fullState(QUIZ_A));
+
+        controller.joinQuiz(new JoinQuizRequest(QUIZ_B, null, "Player 2-0"), principal(playerId(QUIZ_B, 0)));
+        controller.nextQuestion(new NextQuestionRequest(QUIZ_A));
+
+        for (var i = 0; i < PLAYERS; i++) {
+            final var quizA = messages(playerId(QUIZ_A, i));
+            assertThat(quizA).singleElement().satisfies(message -> {
+                assertThat(destination(message)).isEqualTo("/topic/quiz/1/updates");
+                assertThat(text(message)).contains("\"type\":\"QUESTION_ADVANCED\"");
+                // The scores don't travel with a question change
+                assertThat(payload(message).length).isLessThan(json(fullState(QUIZ_A)).length / 4);
+            });
+
+            final var quizB = messages(playerId(QUIZ_B, i));
+            assertThat(quizB).singleElement().satisfies(message -> assertThat(destination(message))
+                    .isEqualTo("/topic/quiz/2/players"));
+        }
+    }
+
+    @Test
+    void quizEndSendsTheFinalStateToItsPlayersOnly() {
+        final var fullState = fullState(QUIZ_B);
+        final var finalState = new QuizState(
+                QUIZ_B,
+                "COMPLETED",
+                null,
+                fullState.players(),
+                fullState.currentQuestionNumber(),
+                fullState.totalQuestions());
+        when(triviaService.nextQuestion(QUIZ_B)).thenReturn(finalState);
+
+        controller.nextQuestion(new NextQuestionRequest(QUIZ_B));
+
+        for (var i = 0; i < PLAYERS; i++) {
+            assertThat(messages(playerId(QUIZ_A, i))).isEmpty();
+            assertThat(messages(playerId(QUIZ_B, i))).singleElement().satisfies(message -> {
+                assertThat(destination(message)).isEqualTo("/topic/quiz/2/state");
+                assertThat(payload(message)).isEqualTo(json(finalState));
+            });
+        }
+    }
+
+    private void subscribeToQuiz(final String sessionId, final long quizId) {
+        for (final var channel : List.of("players", "state", "updates")) {
+            final var accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+            accessor.setSessionId(sessionId);
+            accessor.setSubscriptionId(channel);
+            accessor.setDestination("/topic/quiz/" + quizId + "/" + channel);
+            broker.handleMessage(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+        }
+    }
+
+    private List<Message<?>> messages(final String sessionId) {
+        return received.getOrDefault(sessionId, List.of());
+    }
+
+    private static QuizState fullState(final long quizId) {
+        final var players = new ArrayList<QuizPlayerState>();
+        for (var i = 0; i < PLAYERS; i++) {
+            players.add(new QuizPlayerState(playerId(quizId, i), "Player " + playerId(quizId, i), i * 100));
+        }
+        return new QuizState(quizId, "IN_PROGRESS", QUESTION, players, 3, 10);
+    }
+
+    private static byte[] json(final Object payload) {
+        final var converter = new JacksonJsonMessageConverter();
+        return (byte[]) converter.toMessage(payload, null).getPayload();
+    }
+
+    private static String destination(final Message<?> message) {
+        return SimpMessageHeaderAccessor.wrap(message).getDestination();
+    }
+
+    private static byte[] payload(final Message<?> message) {
+        return (byte[]) message.getPayload();
+    }
+
+    private static String text(final Message<?> message) {
+        return new String(payload(message), StandardCharsets.UTF_8);
+    }
+
+    private static String playerId(final long quizId, final int index) {
+        return quizId + "-" + index;
+    }
+
+    private static Player player(final String id) {
+        final var player = new Player();
+        player.setId(id);
+        player.setName("Player " + id);
+        return player;
+    }
+
+    private static Principal principal(final String name) {
+        return () -> name;
+    }
+}
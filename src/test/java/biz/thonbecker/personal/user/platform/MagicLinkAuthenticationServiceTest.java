@@ -0,0 +1,107 @@
+package biz.thonbecker.personal.user.platform;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import biz.thonbecker.personal.user.platform.persistence.UserLoginTokenRepository;
+import biz.thonbecker.personal.user.platform.persistence.UserService;
+import biz.thonbecker.personal.user.platform.persistence.UserSessionEntity;
+import biz.thonbecker.personal.user.platform.persistence.UserSessionRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class MagicLinkAuthenticationServiceTest {
+
+    private final UserSessionRepository sessionRepository = mock(UserSessionRepository.class);
+    private final MagicLinkAuthenticationService authenticationService = new MagicLinkAuthenticationService(
+            mock(UserLoginTokenRepository.class),
+            sessionRepository,
+            mock(UserService.class),
+            mock(ApplicationEventPublisher.class));
+    private final UserSessionEntity session = new UserSessionEntity();
+
+    @BeforeEach
+    void stubSessionStore() {
+        session.setUserId("user-1");
+        session.setCreatedAt(Instant.now());
+        session.setExpiresAt(Instant.now().plus(Duration.ofHours(1)));
+        // Mirror the repository query against the single stored session
+        when(sessionRepository.findBySessionHashAndRevokedAtIsNullAndExpiresAtAfter(anyString(), any()))
+                .thenAnswer(invocation -> {
+                    final Instant now = invocation.getArgument(1);
+                    return session.getRevokedAt() == null && session.getExpiresAt().isAfter(now)
+                            ? Optional.of(session)
+                            : Optional.empty();
+                });
+        when(sessionRepository.findBySessionHashAndRevokedAtIsNull(anyString()))
+                .thenAnswer(invocation ->
+                        session.getRevokedAt() == null ? Optional.of(session) : Optional.<UserSessionEntity>empty());
+    }
+
+    @Test
+    void repeatedResolutionHitsTheDatabaseOnce() {
+        assertThat(authenticationService.resolveUserId("token")).contains("user-1");
+        assertThat(authenticationService.resolveUserId("token")).contains("user-1");
+        assertThat(authenticationService.resolveUserId("token")).contains("user-1");
+
+        verify(sessionRepository, times(1)).findBySessionHashAndRevokedAtIsNullAndExpiresAtAfter(anyString(), any());
+    }
+
+    @Test
+    void logoutTakesEffectImmediately() {
+        assertThat(authenticationService.resolveUserId("token")).contains("user-1");
+
+        authenticationService.logout("token");
+
+        assertThat(session.getRevokedAt()).isNotNull();
+        assertThat(authenticationService.resolveUserId("token")).isEmpty();
+    }
+
+    @Test
+    void resolutionBeforeLogoutCommitsIsEvictedOnCommit() {
+        final var committed = new UserSessionEntity();
+        committed.setUserId("user-1");
+        committed.setExpiresAt(session.getExpiresAt());
+        // Other transactions keep seeing the unrevoked row until logout commits
+        when(sessionRepository.findBySessionHashAndRevokedAtIsNullAndExpiresAtAfter(anyString(), any()))
+                .thenReturn(Optional.of(committed));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            authenticationService.logout("token");
+            final var concurrent = CompletableFuture.supplyAsync(() -> authenticationService.resolveUserId("token"))
+                    .join();
+            assertThat(concurrent).contains("user-1");
+
+            when(sessionRepository.findBySessionHashAndRevokedAtIsNullAndExpiresAtAfter(anyString(), any()))
+                    .thenReturn(Optional.empty());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(authenticationService.resolveUserId("token")).isEmpty();
+    }
+
+    @Test
+    void cachedEntryNeverOutlivesSessionExpiry() throws InterruptedException {
+        session.setExpiresAt(Instant.now().plusMillis(150));
+        assertThat(authenticationService.resolveUserId("token")).contains("user-1");
+
+        Thread.sleep(250);
+
+        assertThat(authenticationService.resolveUserId("token")).isEmpty();
+    }
+}